@@ -1,11 +1,15 @@
 package com.backend.domain.analysis.controller;
 
 import com.backend.domain.analysis.dto.request.AnalysisRequest;
+import com.backend.domain.analysis.dto.request.PortfolioAnalysisRequest;
+import com.backend.domain.analysis.dto.response.AnalysisJobResponse;
 import com.backend.domain.analysis.dto.response.AnalysisResultResponseDto;
-import com.backend.domain.analysis.dto.response.AnalysisStartResponse;
 import com.backend.domain.analysis.dto.response.HistoryResponseDto;
+import com.backend.domain.analysis.dto.response.PortfolioAnalysisResponse;
+import com.backend.domain.analysis.service.AnalysisJobService;
 import com.backend.domain.analysis.service.AnalysisProgressService;
 import com.backend.domain.analysis.service.AnalysisService;
+import com.backend.domain.analysis.service.PortfolioAnalysisService;
 import com.backend.domain.repository.dto.response.RepositoryComparisonResponse;
 import com.backend.domain.repository.dto.response.RepositoryResponse;
 import com.backend.domain.repository.service.RepositoryService;
@@ -15,6 +19,7 @@ import com.backend.global.response.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
@@ -30,10 +35,12 @@ public class AnalysisController {
     private final AnalysisService analysisService;
     private final RepositoryService repositoryService;
     private final AnalysisProgressService analysisProgressService;
+    private final AnalysisJobService analysisJobService;
+    private final PortfolioAnalysisService portfolioAnalysisService;
 
-    // POST: 분석 요청
+    // POST: 분석 요청 - 작업 등록 후 즉시 202 반환, 진행 상황은 SSE / 작업 조회로 확인
     @PostMapping
-    public ResponseEntity<ApiResponse<AnalysisStartResponse>> analyzeRepository(
+    public ResponseEntity<ApiResponse<AnalysisJobResponse>> analyzeRepository(
             @RequestBody AnalysisRequest request,
             HttpServletRequest httpRequest
     ) {
@@ -41,9 +48,38 @@ public class AnalysisController {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        Long repositoryId  = analysisService.analyze(request.githubUrl(), httpRequest);
-        AnalysisStartResponse response = new AnalysisStartResponse(repositoryId);
+        AnalysisJobResponse response = analysisJobService.enqueue(request.githubUrl(), httpRequest);
 
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(response));
+    }
+
+    // POST: 포트폴리오 분석 요청 - GitHub 사용자명 또는 저장소 URL 목록을 한 번에 분석, 진행 상황은 SSE로 확인
+    @PostMapping("/portfolio")
+    public ResponseEntity<ApiResponse<PortfolioAnalysisResponse>> analyzePortfolio(
+            @RequestBody PortfolioAnalysisRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        PortfolioAnalysisResponse response = portfolioAnalysisService.enqueue(request, httpRequest);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(response));
+    }
+
+    // GET: 포트폴리오 분석 작업 목록 조회
+    @GetMapping("/portfolio/{batchId}")
+    public ResponseEntity<ApiResponse<List<AnalysisJobResponse>>> getPortfolioJobs(
+            @PathVariable String batchId,
+            HttpServletRequest httpRequest
+    ) {
+        List<AnalysisJobResponse> response = analysisJobService.getBatch(batchId, httpRequest);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // GET: 분석 작업 상태 조회
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<AnalysisJobResponse>> getAnalysisJob(
+            @PathVariable Long jobId,
+            HttpServletRequest httpRequest
+    ) {
+        AnalysisJobResponse response = analysisJobService.getJob(jobId, httpRequest);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -0,0 +1,9 @@
+package com.backend.domain.analysis.dto.request;
+
+import java.util.List;
+
+// 포트폴리오 분석 요청 - GitHub 사용자명 또는 저장소 URL 목록 중 하나 (둘 다 있으면 URL 목록 우선)
+public record PortfolioAnalysisRequest(
+        String githubUsername,
+        List<String> githubUrls
+) {}
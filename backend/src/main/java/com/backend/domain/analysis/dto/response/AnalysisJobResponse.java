@@ -0,0 +1,29 @@
+package com.backend.domain.analysis.dto.response;
+
+import com.backend.domain.analysis.entity.AnalysisJob;
+import com.backend.domain.analysis.entity.AnalysisJobStatus;
+
+import java.time.LocalDateTime;
+
+// 분석 작업 상태 응답 - 완료 시 repositoryId, 실패 시 errorCode 포함
+public record AnalysisJobResponse(
+        Long jobId,
+        AnalysisJobStatus status,
+        Long repositoryId,
+        String errorCode,
+        String errorMessage,
+        LocalDateTime createDate,
+        LocalDateTime finishedAt
+) {
+    public AnalysisJobResponse(AnalysisJob job) {
+        this(
+                job.getId(),
+                job.getStatus(),
+                job.getRepositoryId(),
+                job.getErrorCode(),
+                job.getErrorMessage(),
+                job.getCreateDate(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -1,6 +0,0 @@
-package com.backend.domain.analysis.dto.response;
-
-public record AnalysisStartResponse(
-        Long repositoryId
-) {}
-
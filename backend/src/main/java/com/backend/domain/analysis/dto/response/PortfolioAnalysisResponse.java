@@ -0,0 +1,10 @@
+package com.backend.domain.analysis.dto.response;
+
+import java.util.List;
+
+/* 포트폴리오 분석 접수 응답 - 저장소별 분석 작업 목록 (진행 상황은 SSE "portfolio" 이벤트로 전달)
+ * GitHub 사용자명으로 요청하면 저장소 목록 조회 후에 작업이 만들어지므로 jobs는 비어 있음 - batchId로 조회 */
+public record PortfolioAnalysisResponse(
+        String batchId,
+        List<AnalysisJobResponse> jobs
+) {}
@@ -0,0 +1,77 @@
+package com.backend.domain.analysis.entity;
+
+import com.backend.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/* 분석 작업
+ * 요청 즉시 QUEUED로 저장되고 작업 스레드에서 실행됨 - 서버 재시작 시 미완료 작업을 다시 실행하기 위해 DB에 보관
+ * 진행 중인 작업은 맡은 인스턴스(ownerId)가 주기적으로 heartbeatAt을 갱신 - 갱신이 끊긴 작업만 다른 인스턴스가 가져감
+ * 상태 변경은 모두 AnalysisJobRepository의 조건부 UPDATE로 처리 (담당이 바뀐 작업을 이전 인스턴스가 덮어쓰지 않도록)
+ * 포트폴리오 분석은 저장소마다 작업을 만들고 같은 batchId로 묶음 */
+@Entity
+@Table(
+        name = "analysis_job",
+        indexes = {
+                @Index(name = "idx_analysis_job_status", columnList = "status"),
+                @Index(name = "idx_analysis_job_user_status", columnList = "user_id, status"),
+                @Index(name = "idx_analysis_job_owner_status", columnList = "owner_id, status"),
+                @Index(name = "idx_analysis_job_batch", columnList = "batch_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalysisJob extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "github_url", nullable = false)
+    private String githubUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AnalysisJobStatus status;
+
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(name = "owner_id", length = 64)
+    private String ownerId;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "repository_id")
+    private Long repositoryId;
+
+    @Column(name = "error_code", length = 20)
+    private String errorCode;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public AnalysisJob(Long userId, String githubUrl, String batchId, String ownerId) {
+        this.userId = userId;
+        this.githubUrl = githubUrl;
+        this.batchId = batchId;
+        this.ownerId = ownerId;
+        this.status = AnalysisJobStatus.QUEUED;
+        this.heartbeatAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,13 @@
+package com.backend.domain.analysis.entity;
+
+// 분석 작업 상태 - QUEUED → RUNNING → COMPLETED / FAILED
+public enum AnalysisJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
@@ -10,7 +10,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table (name = "analysis_result")
+@Table (name = "analysis_result",
+        indexes = @Index(name = "idx_analysis_result_fingerprint", columnList = "data_fingerprint, createData"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -36,6 +37,10 @@ public class AnalysisResult {
     @Column(nullable = false, name = "createData")
     private LocalDateTime createDate;
 
+    // 평가 입력(RepositoryData) 지문 - 같으면 이전 AI 평가 재사용
+    @Column(name = "data_fingerprint", length = 64)
+    private String dataFingerprint;
+
     @OneToOne(mappedBy = "analysisResult", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Score score;
 
@@ -44,15 +49,24 @@ public class AnalysisResult {
 
     @Builder
     public AnalysisResult(Repositories repositories, String summary,
-                          String strengths, String improvements, LocalDateTime createDate) {
+                          String strengths, String improvements, LocalDateTime createDate,
+                          String dataFingerprint) {
         this.repositories = repositories;
         this.summary = summary;
         this.strengths = strengths;
         this.improvements = improvements;
         this.createDate = createDate;
+        this.dataFingerprint = dataFingerprint;
     }
 
     public void assignScore(Score score) {
         this.score = score;
     }
+
+    // 점수를 먼저 저장한 뒤(로컬 채점) AI 서술을 나중에 채움
+    public void updateNarrative(String summary, String strengths, String improvements) {
+        this.summary = summary;
+        this.strengths = strengths;
+        this.improvements = improvements;
+    }
 }
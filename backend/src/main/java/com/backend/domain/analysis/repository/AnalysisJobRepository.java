@@ -0,0 +1,91 @@
+package com.backend.domain.analysis.repository;
+
+import com.backend.domain.analysis.entity.AnalysisJob;
+import com.backend.domain.analysis.entity.AnalysisJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Long> {
+    long countByUserIdAndStatusInAndBatchIdIsNull(Long userId, Collection<AnalysisJobStatus> statuses);
+    boolean existsByUserIdAndGithubUrlAndStatusIn(Long userId, String githubUrl, Collection<AnalysisJobStatus> statuses);
+    Optional<AnalysisJob> findByIdAndUserId(Long id, Long userId);
+    List<AnalysisJob> findByBatchIdAndUserIdOrderByIdAsc(String batchId, Long userId);
+
+    // 미완료 작업이 남은 포트폴리오 수
+    @Query("SELECT COUNT(DISTINCT j.batchId) FROM AnalysisJob j " +
+            "WHERE j.userId = :userId AND j.status IN :statuses AND j.batchId IS NOT NULL")
+    long countActiveBatches(@Param("userId") Long userId,
+                            @Param("statuses") Collection<AnalysisJobStatus> statuses);
+
+    // 하트비트가 expiredBefore 이전에 끊긴 미완료 작업
+    @Query("SELECT j.id FROM AnalysisJob j WHERE j.status IN :statuses " +
+            "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :expiredBefore) ORDER BY j.id")
+    List<Long> findExpiredIds(@Param("statuses") Collection<AnalysisJobStatus> statuses,
+                              @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    // 하트비트가 끊긴 작업을 ownerId 인스턴스의 대기 작업으로 가져옴 - 그 사이 다른 인스턴스가 가져갔으면 0
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = :queued, j.ownerId = :ownerId, j.heartbeatAt = :now, j.startedAt = NULL " +
+            "WHERE j.id = :id AND j.status IN :statuses AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :expiredBefore)")
+    int takeOver(@Param("id") Long id,
+                 @Param("ownerId") String ownerId,
+                 @Param("statuses") Collection<AnalysisJobStatus> statuses,
+                 @Param("queued") AnalysisJobStatus queued,
+                 @Param("expiredBefore") LocalDateTime expiredBefore,
+                 @Param("now") LocalDateTime now);
+
+    // 대기 중인 자기 작업을 실행 상태로 선점 - 이미 실행됐거나 다른 인스턴스로 넘어갔으면 0
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = :running, j.startedAt = :now, j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.status = :queued AND j.ownerId = :ownerId")
+    int claim(@Param("id") Long id,
+              @Param("ownerId") String ownerId,
+              @Param("queued") AnalysisJobStatus queued,
+              @Param("running") AnalysisJobStatus running,
+              @Param("now") LocalDateTime now);
+
+    // 자기가 실행 중인 작업을 완료 처리 - 그 사이 다른 인스턴스가 가져갔으면 0
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = :completed, j.repositoryId = :repositoryId, j.finishedAt = :now " +
+            "WHERE j.id = :id AND j.ownerId = :ownerId AND j.status = :running")
+    int complete(@Param("id") Long id,
+                 @Param("ownerId") String ownerId,
+                 @Param("running") AnalysisJobStatus running,
+                 @Param("completed") AnalysisJobStatus completed,
+                 @Param("repositoryId") Long repositoryId,
+                 @Param("now") LocalDateTime now);
+
+    // 자기가 맡은 미완료 작업을 실패 처리 - 그 사이 다른 인스턴스가 가져갔거나 이미 끝났으면 0
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = :failed, j.errorCode = :errorCode, j.errorMessage = :errorMessage, " +
+            "j.finishedAt = :now WHERE j.id = :id AND j.ownerId = :ownerId AND j.status IN :statuses")
+    int fail(@Param("id") Long id,
+             @Param("ownerId") String ownerId,
+             @Param("statuses") Collection<AnalysisJobStatus> statuses,
+             @Param("failed") AnalysisJobStatus failed,
+             @Param("errorCode") String errorCode,
+             @Param("errorMessage") String errorMessage,
+             @Param("now") LocalDateTime now);
+
+    // ownerId 인스턴스가 맡은 미완료 작업의 하트비트 갱신
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.heartbeatAt = :now WHERE j.ownerId = :ownerId AND j.status IN :statuses")
+    int heartbeat(@Param("ownerId") String ownerId,
+                  @Param("statuses") Collection<AnalysisJobStatus> statuses,
+                  @Param("now") LocalDateTime now);
+}
@@ -1,9 +1,11 @@
 package com.backend.domain.analysis.repository;
 
 import com.backend.domain.analysis.entity.AnalysisResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +15,6 @@ public interface AnalysisResultRepository extends JpaRepository <AnalysisResult,
     long countByRepositoriesId(Long repositoryId);
     List<AnalysisResult> findByRepositoriesId(Long repositoriedId);
     Optional<AnalysisResult> findTopByRepositoriesIdOrderByCreateDateDesc(Long repositoryId);
+    Optional<AnalysisResult> findTopByDataFingerprintAndCreateDateAfterOrderByCreateDateDesc(String dataFingerprint, LocalDateTime after);
+    List<AnalysisResult> findByDataFingerprintIsNotNullOrderByCreateDateDesc(Pageable pageable);
 }
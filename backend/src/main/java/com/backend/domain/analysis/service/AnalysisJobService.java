@@ -0,0 +1,295 @@
+package com.backend.domain.analysis.service;
+
+import com.backend.domain.analysis.dto.response.AnalysisJobResponse;
+import com.backend.domain.analysis.entity.AnalysisJob;
+import com.backend.domain.analysis.entity.AnalysisJobStatus;
+import com.backend.domain.analysis.repository.AnalysisJobRepository;
+import com.backend.domain.user.repository.UserRepository;
+import com.backend.domain.user.util.JwtUtil;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/* 분석 작업 대기열
+ * 요청은 작업(AnalysisJob)으로 저장 후 즉시 반환하고, 제한된 수의 작업 스레드에서 순서대로 실행
+ * - 사용자별 동시 진행 작업 수 제한 - 사용자 행을 잠근 채 확인 후 저장 (동시 요청이 함께 한도를 넘지 않도록)
+ *   포트폴리오(같은 batchId로 묶인 작업들)는 한 건으로 계산
+ * - 대기열이 가득 차면 ANALYSIS_QUEUE_FULL로 거절 (백프레셔)
+ * - 작업 상태는 DB에 보관 - 작업을 맡은 인스턴스가 하트비트를 갱신하고,
+ *   하트비트가 lease-timeout 넘게 끊긴 작업(인스턴스 종료/재시작)만 다른 인스턴스가 조건부 UPDATE로 가져가 다시 실행
+ *   (포트폴리오 작업도 복구 시에는 저장소별 단일 분석으로 실행) */
+@Slf4j
+@Service
+public class AnalysisJobService {
+    private static final Set<AnalysisJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(AnalysisJobStatus.QUEUED, AnalysisJobStatus.RUNNING);
+
+    private final AnalysisJobRepository analysisJobRepository;
+    private final UserRepository userRepository;
+    private final AnalysisService analysisService;
+    private final SseProgressNotifier sseProgressNotifier;
+    private final JwtUtil jwtUtil;
+    private final ThreadPoolTaskExecutor analysisJobExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int perUserLimit;
+    private final String instanceId;
+    private final Duration leaseTimeout;
+
+    public AnalysisJobService(
+            AnalysisJobRepository analysisJobRepository,
+            UserRepository userRepository,
+            AnalysisService analysisService,
+            SseProgressNotifier sseProgressNotifier,
+            JwtUtil jwtUtil,
+            @Qualifier("analysisJobExecutor") ThreadPoolTaskExecutor analysisJobExecutor,
+            TransactionTemplate transactionTemplate,
+            @Value("${analysis.queue.per-user-limit:2}") int perUserLimit,
+            @Value("${analysis.queue.instance-id:}") String instanceId,
+            @Value("${analysis.queue.lease-timeout:PT1M}") Duration leaseTimeout
+    ) {
+        this.analysisJobRepository = analysisJobRepository;
+        this.userRepository = userRepository;
+        this.analysisService = analysisService;
+        this.sseProgressNotifier = sseProgressNotifier;
+        this.jwtUtil = jwtUtil;
+        this.analysisJobExecutor = analysisJobExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.perUserLimit = perUserLimit;
+        this.instanceId = instanceId == null || instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.leaseTimeout = leaseTimeout;
+        log.info("분석 작업 인스턴스 ID: {}", this.instanceId);
+    }
+
+    // 분석 작업 등록 - 검증 후 대기열에 추가하고 작업 정보 반환
+    public AnalysisJobResponse enqueue(String githubUrl, HttpServletRequest request) {
+        Long userId = jwtUtil.getUserId(request);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        analysisService.parseGitHubUrl(githubUrl);
+
+        AnalysisJob job = register(userId, githubUrl);
+        if (!dispatch(job)) {
+            throw new BusinessException(ErrorCode.ANALYSIS_QUEUE_FULL);
+        }
+
+        int waiting = analysisJobExecutor.getThreadPoolExecutor().getQueue().size();
+        if (waiting > 0) {
+            safeSendSse(userId, "status", "분석 대기 중 (앞선 요청 " + waiting + "건)");
+        }
+        log.info("분석 작업 등록: jobId={}, userId={}, url={}", job.getId(), userId, githubUrl);
+        return new AnalysisJobResponse(job);
+    }
+
+    /* 작업 저장 - 사용자 행을 잠근 트랜잭션 안에서 중복/한도 확인 후 저장
+     * 같은 사용자의 요청은 잠금 순서대로 처리되므로 확인과 저장 사이에 다른 요청이 끼어들지 않음
+     * 작업 스레드 전달은 커밋 후 (작업 스레드가 저장된 작업을 읽을 수 있도록) */
+    private AnalysisJob register(Long userId, String githubUrl) {
+        return transactionTemplate.execute(status -> {
+            userRepository.findByIdForUpdate(userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+            if (analysisJobRepository.existsByUserIdAndGithubUrlAndStatusIn(userId, githubUrl, ACTIVE_STATUSES)) {
+                throw new BusinessException(ErrorCode.ANALYSIS_IN_PROGRESS);
+            }
+            if (countActive(userId) >= perUserLimit) {
+                throw new BusinessException(ErrorCode.ANALYSIS_USER_LIMIT_EXCEEDED);
+            }
+
+            return analysisJobRepository.save(AnalysisJob.builder()
+                    .userId(userId)
+                    .githubUrl(githubUrl)
+                    .ownerId(instanceId)
+                    .build());
+        });
+    }
+
+    /* 포트폴리오 작업 저장 - 저장소마다 작업을 만들어 batchId로 묶음 (실행은 호출 측 작업 스레드에서)
+     * 한도 확인은 단일 작업과 같은 잠금 안에서, 이미 진행 중인 저장소는 제외
+     * 모두 진행 중이면 ANALYSIS_IN_PROGRESS */
+    public List<AnalysisJob> registerBatch(Long userId, String batchId, List<String> githubUrls) {
+        List<AnalysisJob> jobs = transactionTemplate.execute(status -> {
+            userRepository.findByIdForUpdate(userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+            if (countActive(userId) >= perUserLimit) {
+                throw new BusinessException(ErrorCode.ANALYSIS_USER_LIMIT_EXCEEDED);
+            }
+
+            List<AnalysisJob> saved = githubUrls.stream()
+                    .filter(url -> !analysisJobRepository.existsByUserIdAndGithubUrlAndStatusIn(userId, url, ACTIVE_STATUSES))
+                    .map(url -> AnalysisJob.builder()
+                            .userId(userId)
+                            .githubUrl(url)
+                            .batchId(batchId)
+                            .ownerId(instanceId)
+                            .build())
+                    .toList();
+            if (saved.isEmpty()) {
+                throw new BusinessException(ErrorCode.ANALYSIS_IN_PROGRESS);
+            }
+            return analysisJobRepository.saveAll(saved);
+        });
+
+        log.info("포트폴리오 작업 등록: batchId={}, userId={}, 저장소 {}건", batchId, userId, jobs.size());
+        return jobs;
+    }
+
+    // 대기 중인 작업을 실행 상태로 선점 - 이미 실행됐거나 다른 인스턴스로 넘어갔으면 false
+    public boolean start(Long jobId) {
+        return analysisJobRepository.claim(jobId, instanceId, AnalysisJobStatus.QUEUED, AnalysisJobStatus.RUNNING, LocalDateTime.now()) == 1;
+    }
+
+    /* 실행 중인 작업 완료 처리 - 조건부 UPDATE로 이 인스턴스가 아직 맡고 있을 때만 반영
+     * 지연되는 동안 하트비트가 끊겨 다른 인스턴스가 가져간 작업이면 false (새 담당 인스턴스의 상태를 덮어쓰지 않음) */
+    public boolean complete(Long jobId, Long repositoryId) {
+        int updated = analysisJobRepository.complete(jobId, instanceId,
+                AnalysisJobStatus.RUNNING, AnalysisJobStatus.COMPLETED, repositoryId, LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("다른 인스턴스로 넘어간 작업이라 완료 처리하지 않음: jobId={}", jobId);
+        }
+        return updated == 1;
+    }
+
+    // 미완료 작업 실패 처리 - 완료 처리와 같이 이 인스턴스가 맡고 있을 때만 반영
+    public boolean fail(Long jobId, ErrorCode errorCode) {
+        int updated = analysisJobRepository.fail(jobId, instanceId, ACTIVE_STATUSES,
+                AnalysisJobStatus.FAILED, errorCode.getCode(), errorCode.getMessage(), LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("다른 인스턴스로 넘어갔거나 끝난 작업이라 실패 처리하지 않음: jobId={}", jobId);
+        }
+        return updated == 1;
+    }
+
+    // 단일 작업 + 미완료 포트폴리오 수
+    private long countActive(Long userId) {
+        return analysisJobRepository.countByUserIdAndStatusInAndBatchIdIsNull(userId, ACTIVE_STATUSES)
+                + analysisJobRepository.countActiveBatches(userId, ACTIVE_STATUSES);
+    }
+
+    // 분석 작업 상태 조회 - 본인 작업만
+    public AnalysisJobResponse getJob(Long jobId, HttpServletRequest request) {
+        Long userId = jwtUtil.getUserId(request);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        return analysisJobRepository.findByIdAndUserId(jobId, userId)
+                .map(AnalysisJobResponse::new)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ANALYSIS_JOB_NOT_FOUND));
+    }
+
+    // 포트폴리오 작업 목록 조회 - 본인 작업만
+    public List<AnalysisJobResponse> getBatch(String batchId, HttpServletRequest request) {
+        Long userId = jwtUtil.getUserId(request);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        List<AnalysisJob> jobs = analysisJobRepository.findByBatchIdAndUserIdOrderByIdAsc(batchId, userId);
+        if (jobs.isEmpty()) {
+            throw new BusinessException(ErrorCode.ANALYSIS_JOB_NOT_FOUND);
+        }
+        return jobs.stream().map(AnalysisJobResponse::new).toList();
+    }
+
+    // 이 인스턴스가 맡은 미완료 작업(대기+실행)의 하트비트 갱신
+    @Scheduled(fixedDelayString = "${analysis.queue.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        analysisJobRepository.heartbeat(instanceId, ACTIVE_STATUSES, LocalDateTime.now());
+    }
+
+    /* 하트비트가 끊긴 미완료 작업을 가져와 다시 실행 (실행 중이던 작업은 처음부터 다시 실행)
+     * 작업마다 조건부 UPDATE로 가져오므로 여러 인스턴스가 동시에 찾아도 한 곳에서만 실행 */
+    @Scheduled(fixedDelayString = "${analysis.queue.recovery-interval:PT30S}")
+    public void recoverJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minus(leaseTimeout);
+        List<Long> expiredIds = analysisJobRepository.findExpiredIds(ACTIVE_STATUSES, expiredBefore);
+
+        int recovered = 0;
+        for (Long jobId : expiredIds) {
+            if (analysisJobRepository.takeOver(jobId, instanceId, ACTIVE_STATUSES, AnalysisJobStatus.QUEUED, expiredBefore, now) == 0) {
+                continue;
+            }
+            AnalysisJob job = analysisJobRepository.findById(jobId).orElse(null);
+            if (job != null) {
+                dispatch(job);
+                recovered++;
+            }
+        }
+        if (recovered > 0) {
+            log.info("하트비트가 끊긴 분석 작업 {}건 재실행", recovered);
+        }
+    }
+
+    // 작업 스레드에 전달 - 대기열이 가득 차면 작업을 실패 처리하고 false 반환
+    private boolean dispatch(AnalysisJob job) {
+        Long jobId = job.getId();
+        try {
+            analysisJobExecutor.execute(() -> run(jobId));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("분석 대기열 초과로 작업 거절: jobId={}", jobId);
+            fail(jobId, ErrorCode.ANALYSIS_QUEUE_FULL);
+            return false;
+        }
+    }
+
+    private void run(Long jobId) {
+        // 이미 실행됐거나 다른 인스턴스로 넘어간 작업은 건너뜀
+        if (!start(jobId)) {
+            return;
+        }
+        AnalysisJob job = analysisJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        // 완료/실패가 반영되지 않았으면(다른 인스턴스로 넘어간 작업) 결과 전송은 새 담당 인스턴스에 맡김
+        try {
+            Long repositoryId = analysisService.analyze(job.getGithubUrl(), job.getUserId());
+            if (complete(jobId, repositoryId)) {
+                safeSendSse(job.getUserId(), "complete", "최종 리포트 생성");
+            }
+        } catch (BusinessException e) {
+            log.warn("분석 작업 실패: jobId={}, code={}", jobId, e.getErrorCode().getCode());
+            failJob(job, e.getErrorCode());
+        } catch (Exception e) {
+            log.error("분석 작업 중 예상하지 못한 오류: jobId={}", jobId, e);
+            failJob(job, ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private void failJob(AnalysisJob job, ErrorCode errorCode) {
+        if (fail(job.getId(), errorCode)) {
+            safeSendSse(job.getUserId(), "error", errorCode.getMessage());
+        }
+    }
+
+    // SSE 전송 헬퍼 메서드
+    private void safeSendSse(Long userId, String event, String message) {
+        try {
+            sseProgressNotifier.notify(userId, event, message);
+        } catch (Exception e) {
+            log.warn("SSE 전송 실패 (분석은 계속): userId={}, event={}, error={}",
+                    userId, event, e.getMessage());
+        }
+    }
+}
@@ -42,14 +42,10 @@ public class AnalysisService {
     * 2. Repository 도메인을 통한 데이터 수집
     * 3. Evaluation 도메인을 통한 AI 평가
     * 4. 분석 결과 저장
+    * 분석 작업 스레드(AnalysisJobService)에서 호출되며, 완료/실패 이벤트 전송은 작업 쪽에서 담당
+    * 전체를 하나의 트랜잭션으로 묶지 않음 - 저장은 각 도메인에서 짧은 트랜잭션으로 처리
     * */
-    @Transactional
-    public Long analyze(String githubUrl, HttpServletRequest request) {
-        Long userId = jwtUtil.getUserId(request);
-        if (userId == null) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED);
-        }
-
+    public Long analyze(String githubUrl, Long userId) {
         String[] repoInfo = parseGitHubUrl(githubUrl);
         String owner = repoInfo[0];
         String repo = repoInfo[1];
@@ -73,7 +69,6 @@ public class AnalysisService {
                 log.info("Repository Data 수집 완료: {}", repositoryData);
             } catch (BusinessException e) {
                 log.error("Repository 데이터 수집 실패: {}/{}", owner, repo, e);
-                safeSendSse(userId, "error", "Repository 데이터 수집 실패");
                 throw e;
             }
 
@@ -83,17 +78,21 @@ public class AnalysisService {
 
             Long repositoryId = savedRepository.getId();
 
-            // OpenAI API 데이터 분석 및 저장
+            /* OpenAI API 데이터 분석 및 저장 - 생성 중인 요약은 "ai-summary" 이벤트로 실시간 전송
+             * 로컬 채점 모드에서는 점수만 저장한 뒤 "complete"가 먼저 전송되고, 서술은 그 이후에도 "ai-summary"로 이어짐
+             * 이 경우 서술 작성이 끝나면(실패 포함) 마지막 이벤트로 "narrative-complete"를 전송 */
             try {
-                evaluationService.evaluateAndSave(repositoryData, userId);
+                safeSendSse(userId, "status", "AI 평가 중");
+                evaluationService.evaluateAndSave(repositoryData, userId,
+                        summary -> safeSendSse(userId, "ai-summary", summary),
+                        () -> safeSendSse(userId, "narrative-complete", "상세 평가 작성 완료"));
                 lockManager.refreshLock(cacheKey);
                 safeSendSse(userId, "status", "AI 평가 완료");
             } catch (BusinessException e) {
-                safeSendSse(userId, "error", "AI 평가 실패: " + e.getMessage());
+                log.error("AI 평가 실패: {}/{}", owner, repo, e);
                 throw new BusinessException(ErrorCode.ANALYSIS_FAIL);
             }
 
-            safeSendSse(userId, "complete", "최종 리포트 생성");
             return repositoryId;
         } finally {
             try {
@@ -293,7 +292,7 @@ public class AnalysisService {
     }
 
     // 리포지토리 Url 파싱
-    private String[] parseGitHubUrl(String githubUrl) {
+    public String[] parseGitHubUrl(String githubUrl) {
         log.info("분석 요청 url: {}", githubUrl);
 
         if (githubUrl == null) {
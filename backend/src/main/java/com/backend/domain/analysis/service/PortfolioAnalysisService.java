@@ -0,0 +1,277 @@
+package com.backend.domain.analysis.service;
+
+import com.backend.domain.analysis.dto.request.PortfolioAnalysisRequest;
+import com.backend.domain.analysis.dto.response.AnalysisJobResponse;
+import com.backend.domain.analysis.dto.response.PortfolioAnalysisResponse;
+import com.backend.domain.analysis.entity.AnalysisJob;
+import com.backend.domain.analysis.lock.RedisLockManager;
+import com.backend.domain.evaluation.service.EvaluationService;
+import com.backend.domain.repository.dto.response.RepositoryData;
+import com.backend.domain.repository.entity.Repositories;
+import com.backend.domain.repository.repository.RepositoryJpaRepository;
+import com.backend.domain.repository.service.RepositoryService;
+import com.backend.domain.user.util.JwtUtil;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* 포트폴리오 분석 - 사용자의 여러 저장소를 한 번의 요청으로 분석
+ * 1. 대상 저장소 결정 (GitHub 사용자명이면 작업 스레드에서 공개 저장소 목록 조회)
+ * 2. 저장소마다 분석 작업(AnalysisJob)을 만들어 batchId로 묶음 - 사용자별 한도/복구는 AnalysisJobService가 관리
+ * 3. 저장소 데이터를 동시에 수집 (동시 수집 수 제한 - 호출 한도는 GitHub 클라이언트의 Rate Limiter가 관리)
+ * 4. 수집된 저장소를 묶어서 AI 평가 (EvaluationService.evaluateAndSaveAll) - 결과는 저장소별 AnalysisResult로 저장하고 작업 완료 처리
+ * 진행 상황은 기존 SSE 채널에 "portfolio" 이벤트로 전송, 일부 저장소가 실패해도 나머지는 계속 진행 */
+@Slf4j
+@Service
+public class PortfolioAnalysisService {
+    private final AnalysisService analysisService;
+    private final AnalysisJobService analysisJobService;
+    private final RepositoryService repositoryService;
+    private final RepositoryJpaRepository repositoryJpaRepository;
+    private final EvaluationService evaluationService;
+    private final SseProgressNotifier sseProgressNotifier;
+    private final RedisLockManager lockManager;
+    private final JwtUtil jwtUtil;
+    private final ThreadPoolTaskExecutor analysisJobExecutor;
+    private final int maxRepositories;
+    private final int collectConcurrency;
+
+    public PortfolioAnalysisService(
+            AnalysisService analysisService,
+            AnalysisJobService analysisJobService,
+            RepositoryService repositoryService,
+            RepositoryJpaRepository repositoryJpaRepository,
+            EvaluationService evaluationService,
+            SseProgressNotifier sseProgressNotifier,
+            RedisLockManager lockManager,
+            JwtUtil jwtUtil,
+            @Qualifier("analysisJobExecutor") ThreadPoolTaskExecutor analysisJobExecutor,
+            @Value("${analysis.portfolio.max-repositories:30}") int maxRepositories,
+            @Value("${analysis.portfolio.collect-concurrency:4}") int collectConcurrency
+    ) {
+        this.analysisService = analysisService;
+        this.analysisJobService = analysisJobService;
+        this.repositoryService = repositoryService;
+        this.repositoryJpaRepository = repositoryJpaRepository;
+        this.evaluationService = evaluationService;
+        this.sseProgressNotifier = sseProgressNotifier;
+        this.lockManager = lockManager;
+        this.jwtUtil = jwtUtil;
+        this.analysisJobExecutor = analysisJobExecutor;
+        this.maxRepositories = maxRepositories;
+        this.collectConcurrency = collectConcurrency;
+    }
+
+    /* 포트폴리오 분석 등록 - 즉시 반환
+     * URL 목록이면 작업을 바로 만들어 반환, GitHub 사용자명이면 목록 조회부터 작업 스레드에서 진행
+     * (이때 작업 목록은 batchId로 조회 - 만들어지면 "portfolio" 이벤트로도 알림) */
+    public PortfolioAnalysisResponse enqueue(PortfolioAnalysisRequest request, HttpServletRequest httpRequest) {
+        Long userId = jwtUtil.getUserId(httpRequest);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (request == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        String batchId = UUID.randomUUID().toString();
+        List<String> githubUrls = requestedUrls(request);
+        if (githubUrls.isEmpty()) {
+            String githubUsername = request.githubUsername().trim();
+            submit(() -> resolveAndRun(batchId, githubUsername, userId));
+            log.info("포트폴리오 분석 등록: batchId={}, userId={}, GitHub 사용자 {}", batchId, userId, githubUsername);
+            return new PortfolioAnalysisResponse(batchId, List.of());
+        }
+
+        List<AnalysisJob> jobs = analysisJobService.registerBatch(userId, batchId, githubUrls);
+        try {
+            submit(() -> run(jobs, userId));
+        } catch (BusinessException e) {
+            jobs.forEach(job -> analysisJobService.fail(job.getId(), e.getErrorCode()));
+            throw e;
+        }
+        return new PortfolioAnalysisResponse(batchId, jobs.stream().map(AnalysisJobResponse::new).toList());
+    }
+
+    // URL 목록이 있으면 검증 후 사용 (최대 max-repositories개), 없으면 빈 목록 - GitHub 사용자명 필수
+    List<String> requestedUrls(PortfolioAnalysisRequest request) {
+        if (request.githubUrls() != null && !request.githubUrls().isEmpty()) {
+            List<String> urls = request.githubUrls().stream()
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .distinct()
+                    .limit(maxRepositories)
+                    .toList();
+            urls.forEach(analysisService::parseGitHubUrl);
+            if (urls.isEmpty()) {
+                throw new BusinessException(ErrorCode.PORTFOLIO_EMPTY);
+            }
+            return urls;
+        }
+
+        if (request.githubUsername() == null || request.githubUsername().isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return List.of();
+    }
+
+    private void submit(Runnable task) {
+        try {
+            analysisJobExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            throw new BusinessException(ErrorCode.ANALYSIS_QUEUE_FULL);
+        }
+    }
+
+    // GitHub 사용자의 공개 저장소 목록 조회 후 작업 등록, 이어서 실행
+    private void resolveAndRun(String batchId, String githubUsername, Long userId) {
+        List<AnalysisJob> jobs;
+        try {
+            List<String> githubUrls = repositoryService.findPortfolioRepositoryUrls(githubUsername, maxRepositories);
+            if (githubUrls.isEmpty()) {
+                throw new BusinessException(ErrorCode.PORTFOLIO_EMPTY);
+            }
+            jobs = analysisJobService.registerBatch(userId, batchId, githubUrls);
+        } catch (BusinessException e) {
+            log.warn("포트폴리오 작업 등록 실패: batchId={}, code={}", batchId, e.getErrorCode().getCode());
+            safeSendSse(userId, "error", e.getErrorCode().getMessage());
+            return;
+        } catch (Exception e) {
+            log.error("포트폴리오 작업 등록 중 예상하지 못한 오류: batchId={}", batchId, e);
+            safeSendSse(userId, "error", ErrorCode.INTERNAL_ERROR.getMessage());
+            return;
+        }
+
+        safeSendSse(userId, "portfolio", "분석 작업 " + jobs.size() + "건 등록 (batchId=" + batchId + ")");
+        run(jobs, userId);
+    }
+
+    /* 작업을 선점해 수집/평가 후 저장소별로 완료/실패 처리 - 끝나지 못한 작업은 INTERNAL_ERROR로 실패
+     * 완료/실패가 반영되지 않은 저장소(다른 인스턴스로 넘어간 작업)는 진행 이벤트를 보내지 않음 */
+    private void run(List<AnalysisJob> jobs, Long userId) {
+        List<String> lockKeys = new ArrayList<>();
+        Map<Long, AnalysisJob> open = new ConcurrentHashMap<>();
+        try {
+            List<AnalysisJob> targets = new ArrayList<>();
+            for (AnalysisJob job : jobs) {
+                if (!analysisJobService.start(job.getId())) {
+                    continue;
+                }
+                String url = job.getGithubUrl();
+                String lockKey = userId + ":" + url;
+                if (lockManager.tryLock(lockKey)) {
+                    lockKeys.add(lockKey);
+                    open.put(job.getId(), job);
+                    targets.add(job);
+                } else if (analysisJobService.fail(job.getId(), ErrorCode.ANALYSIS_IN_PROGRESS)) {
+                    progress(userId, url, "이미 분석 중이라 건너뜀");
+                }
+            }
+
+            Map<RepositoryData, AnalysisJob> collected = collect(targets, userId, open);
+            lockKeys.forEach(lockManager::refreshLock);
+
+            AtomicInteger saved = new AtomicInteger();
+            evaluationService.evaluateAndSaveAll(new ArrayList<>(collected.keySet()), userId,
+                    (data, analysisId) -> {
+                        AnalysisJob job = collected.get(data);
+                        Long repositoryId = repositoryJpaRepository
+                                .findByHtmlUrlAndUserId(data.getRepositoryUrl(), userId)
+                                .map(Repositories::getId)
+                                .orElse(null);
+                        open.remove(job.getId());
+                        if (analysisJobService.complete(job.getId(), repositoryId)) {
+                            saved.incrementAndGet();
+                            progress(userId, data.getRepositoryUrl(), "AI 평가 완료");
+                        }
+                    },
+                    data -> {
+                        AnalysisJob job = collected.get(data);
+                        open.remove(job.getId());
+                        if (analysisJobService.fail(job.getId(), ErrorCode.ANALYSIS_FAIL)) {
+                            progress(userId, data.getRepositoryUrl(), "AI 평가 실패");
+                        }
+                    });
+
+            safeSendSse(userId, "portfolio-complete",
+                    "포트폴리오 분석 완료 (" + saved.get() + "/" + jobs.size() + ")");
+        } catch (Exception e) {
+            log.error("포트폴리오 분석 중 예상하지 못한 오류: userId={}", userId, e);
+            safeSendSse(userId, "error", ErrorCode.INTERNAL_ERROR.getMessage());
+        } finally {
+            open.keySet().forEach(jobId -> analysisJobService.fail(jobId, ErrorCode.INTERNAL_ERROR));
+            lockKeys.forEach(this::releaseLock);
+        }
+    }
+
+    // 동시 수집 - 실패한 저장소는 작업을 실패 처리하고 결과에서 제외 (수집 데이터 → 작업)
+    private Map<RepositoryData, AnalysisJob> collect(List<AnalysisJob> jobs, Long userId, Map<Long, AnalysisJob> open) {
+        AtomicInteger done = new AtomicInteger();
+        Map<RepositoryData, AnalysisJob> collected = Collections.synchronizedMap(new IdentityHashMap<>());
+        Flux.fromIterable(jobs)
+                .flatMap(job -> Mono.fromCallable(() -> {
+                                    String[] ownerAndRepo = analysisService.parseGitHubUrl(job.getGithubUrl());
+                                    return repositoryService.fetchAndSaveRepository(ownerAndRepo[0], ownerAndRepo[1], userId);
+                                })
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .doOnNext(data -> {
+                                    collected.put(data, job);
+                                    progress(userId, job.getGithubUrl(),
+                                            "GitHub 데이터 수집 완료 (" + done.incrementAndGet() + "/" + jobs.size() + ")");
+                                })
+                                .onErrorResume(e -> {
+                                    log.warn("포트폴리오 저장소 수집 실패: {} - {}", job.getGithubUrl(), e.getMessage());
+                                    open.remove(job.getId());
+                                    if (analysisJobService.fail(job.getId(),
+                                            e instanceof BusinessException be ? be.getErrorCode() : ErrorCode.INTERNAL_ERROR)) {
+                                        progress(userId, job.getGithubUrl(), "GitHub 데이터 수집 실패");
+                                    }
+                                    return Mono.empty();
+                                }),
+                        Math.max(1, collectConcurrency))
+                .then()
+                .block();
+        return collected;
+    }
+
+    private void progress(Long userId, String githubUrl, String message) {
+        safeSendSse(userId, "portfolio", githubUrl + " - " + message);
+    }
+
+    private void releaseLock(String lockKey) {
+        try {
+            lockManager.releaseLock(lockKey);
+        } catch (Exception e) {
+            log.warn("⚠️ 락 해제 중 예외 발생 (무시됨): {}", e.getMessage());
+        }
+    }
+
+    // SSE 전송 헬퍼 메서드
+    private void safeSendSse(Long userId, String event, String message) {
+        try {
+            sseProgressNotifier.notify(userId, event, message);
+        } catch (Exception e) {
+            log.warn("SSE 전송 실패 (분석은 계속): userId={}, event={}, error={}",
+                    userId, event, e.getMessage());
+        }
+    }
+}
@@ -19,4 +19,21 @@ public class EvaluationDto {
             List<String> improvements,
             Scores scores
     ) {}
+
+    /** AI 일괄 평가 응답 - 요청에 담은 저장소 번호(id)별 결과 */
+    public record BatchResult(
+            List<BatchItem> results
+    ) {}
+
+    public record BatchItem(
+            int id,
+            String summary,
+            List<String> strengths,
+            List<String> improvements,
+            Scores scores
+    ) {
+        public AiResult toAiResult() {
+            return new AiResult(summary, strengths, improvements, scores);
+        }
+    }
 }
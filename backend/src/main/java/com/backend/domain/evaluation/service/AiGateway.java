@@ -1,5 +1,37 @@
 package com.backend.domain.evaluation.service;
 
+import java.util.function.Consumer;
+
 public interface AiGateway {
     String complete(String content, String prompt);
+
+    /* 스트리밍 응답 - 생성되는 텍스트 조각을 onDelta로 바로 전달하고, 끝나면 전체 응답 반환
+     * 스트리밍을 지원하지 않는 구현은 전체 응답을 한 번에 전달 */
+    default String stream(String content, String prompt, Consumer<String> onDelta) {
+        String result = complete(content, prompt);
+        if (result != null && !result.isEmpty()) {
+            onDelta.accept(result);
+        }
+        return result;
+    }
+
+    /* 구조화 출력 스트리밍 - 응답이 schema를 따르도록 요청
+     * 구조화 출력을 지원하지 않는 구현은 일반 스트리밍과 같음 (프롬프트의 스키마 설명에만 의존) */
+    default String stream(String content, String prompt, AiOutputSchema schema, Consumer<String> onDelta) {
+        return stream(content, prompt, onDelta);
+    }
+
+    // 받은 응답을 쓸 수 없었음 (스키마/JSON 파싱 실패 등) - 응답을 캐시하는 구현은 해당 응답을 지움
+    default void invalidate(String content, String prompt, AiOutputSchema schema) {
+    }
+
+    // 응답을 만든 모델 식별자 - 캐시 키 구분용
+    default String model() {
+        return getClass().getSimpleName();
+    }
+
+    // 실제 AI 호출이 가능한 구현인지 - 아니면 평가는 로컬 점수로 대체
+    default boolean available() {
+        return true;
+    }
 }
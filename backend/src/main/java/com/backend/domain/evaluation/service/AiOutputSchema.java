@@ -0,0 +1,42 @@
+package com.backend.domain.evaluation.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 구조화 출력 스키마 - AI 응답이 따라야 할 JSON Schema와 그 이름
+ * strict 모드 기준으로 작성 (모든 속성 필수, 추가 속성 금지)
+ * name은 캐시 키 구분에도 쓰이므로 스키마를 바꾸면 이름도 바꿈 */
+public record AiOutputSchema(String name, Map<String, Object> jsonSchema) {
+
+    // 모든 속성이 필수이고 추가 속성이 없는 객체
+    public static Map<String, Object> object(Map<String, Object> properties) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "object");
+        schema.put("properties", properties);
+        schema.put("required", List.copyOf(properties.keySet()));
+        schema.put("additionalProperties", false);
+        return schema;
+    }
+
+    public static Map<String, Object> string() {
+        return Map.of("type", "string");
+    }
+
+    public static Map<String, Object> integer() {
+        return Map.of("type", "integer");
+    }
+
+    public static Map<String, Object> arrayOf(Map<String, Object> items) {
+        return Map.of("type", "array", "items", items);
+    }
+
+    // 순서를 유지하는 속성 목록 (key1, value1, key2, value2, ...)
+    public static Map<String, Object> properties(Object... keyValues) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+}
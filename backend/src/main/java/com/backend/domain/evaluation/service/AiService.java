@@ -5,6 +5,8 @@ import com.backend.domain.evaluation.service.AiGateway;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.function.Consumer;
+
 @Service
 @RequiredArgsConstructor
 public class AiService {
@@ -15,4 +17,31 @@ public class AiService {
         String result = aiGateway.complete(req.content(), req.prompt());
         return new AiDto.CompleteResponse(result);
     }
+
+    // 생성되는 응답 조각을 onDelta로 전달하면서 전체 응답 반환
+    public AiDto.CompleteResponse stream(AiDto.CompleteRequest req, Consumer<String> onDelta) {
+        String result = aiGateway.stream(req.content(), req.prompt(), onDelta);
+        return new AiDto.CompleteResponse(result);
+    }
+
+    // 구조화 출력 - 응답이 schema를 따르도록 요청하면서 조각을 onDelta로 전달
+    public AiDto.CompleteResponse stream(AiDto.CompleteRequest req, AiOutputSchema schema, Consumer<String> onDelta) {
+        String result = aiGateway.stream(req.content(), req.prompt(), schema, onDelta);
+        return new AiDto.CompleteResponse(result);
+    }
+
+    // 구조화 출력 (조각 전달 없음)
+    public AiDto.CompleteResponse complete(AiDto.CompleteRequest req, AiOutputSchema schema) {
+        return stream(req, schema, delta -> {});
+    }
+
+    // 파싱할 수 없었던 구조화 출력 응답을 캐시에서 제거
+    public void invalidate(AiDto.CompleteRequest req, AiOutputSchema schema) {
+        aiGateway.invalidate(req.content(), req.prompt(), schema);
+    }
+
+    // 실제 AI 호출 가능 여부 (API 키 미설정 시 false)
+    public boolean isAvailable() {
+        return aiGateway.available();
+    }
 }
\ No newline at end of file
@@ -6,40 +6,384 @@ import com.backend.domain.analysis.repository.AnalysisResultRepository;
 import com.backend.domain.analysis.repository.ScoreRepository;
 import com.backend.domain.evaluation.dto.AiDto;
 import com.backend.domain.evaluation.dto.EvaluationDto.AiResult;
+import com.backend.domain.evaluation.dto.EvaluationDto.BatchItem;
+import com.backend.domain.evaluation.dto.EvaluationDto.BatchResult;
 import com.backend.domain.evaluation.dto.EvaluationDto.Scores;
 import com.backend.domain.repository.dto.response.RepositoryData;
 import com.backend.domain.repository.entity.Repositories;
 import com.backend.domain.repository.repository.RepositoryJpaRepository;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.exception.ErrorCode;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static com.backend.domain.evaluation.service.AiOutputSchema.arrayOf;
+import static com.backend.domain.evaluation.service.AiOutputSchema.integer;
+import static com.backend.domain.evaluation.service.AiOutputSchema.object;
+import static com.backend.domain.evaluation.service.AiOutputSchema.properties;
+import static com.backend.domain.evaluation.service.AiOutputSchema.string;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EvaluationService {
 
+    private static final String EVALUATION_PROMPT = """
+            You are a senior software engineering reviewer.
+            Analyze the given GitHub repository data and return ONLY a valid JSON. No commentary.
+
+            The data is a compact summary grouped by [section]; omitted lines mean none or zero.
+            Scoring: total 100 (README 0~30, TEST 0~30, COMMIT 0~25, CICD 0~15).
+            Consider test folders, CI configs (.github/workflows), commit frequency/messages, README depth, etc.
+
+            JSON schema:
+            {
+              "summary": "one-paragraph summary in Korean",
+              "strengths": ["...","..."],
+              "improvements": ["...","..."],
+              "scores": { "readme": 0, "test": 0, "commit": 0, "cicd": 0 }
+            }
+            """;
+
+    private static final String BATCH_EVALUATION_PROMPT = """
+            You are a senior software engineering reviewer.
+            Several GitHub repositories are given, each under a "### repository {id}" heading.
+            Evaluate EACH repository independently and return ONLY a valid JSON. No commentary.
+
+            Each repository is a compact summary grouped by [section]; omitted lines mean none or zero.
+            Scoring: total 100 (README 0~30, TEST 0~30, COMMIT 0~25, CICD 0~15).
+            Consider test folders, CI configs (.github/workflows), commit frequency/messages, README depth, etc.
+
+            JSON schema:
+            {
+              "results": [
+                {
+                  "id": 1,
+                  "summary": "one-paragraph summary in Korean",
+                  "strengths": ["...","..."],
+                  "improvements": ["...","..."],
+                  "scores": { "readme": 0, "test": 0, "commit": 0, "cicd": 0 }
+                }
+              ]
+            }
+            """;
+
+    private static final String NARRATIVE_PROMPT = """
+            You are a senior software engineering reviewer.
+            Scores for the given GitHub repository were already computed by fixed rules and are listed under [scores].
+            Do NOT re-score. Explain the scores and return ONLY a valid JSON. No commentary.
+
+            The data is a compact summary grouped by [section]; omitted lines mean none or zero.
+            Consider test folders, CI configs (.github/workflows), commit frequency/messages, README depth, etc.
+
+            JSON schema:
+            {
+              "summary": "one-paragraph summary in Korean",
+              "strengths": ["...","..."],
+              "improvements": ["...","..."]
+            }
+            """;
+
+    private static final String REPAIR_PROMPT = """
+            The given text was meant to be a JSON document but could not be parsed.
+            Rewrite it as ONLY a valid JSON that matches the schema. Keep the original wording and values; do not add new content.
+            """;
+
+    // 형식 수정 요청에 보낼 깨진 응답의 최대 토큰
+    private static final int REPAIR_MAX_TOKENS = 2_000;
+
+    // 구조화 출력 스키마 - 각 프롬프트의 JSON schema 설명과 같은 형태
+    private static final Map<String, Object> SCORES_SCHEMA = object(properties(
+            "readme", integer(), "test", integer(), "commit", integer(), "cicd", integer()));
+
+    private static final AiOutputSchema EVALUATION_SCHEMA = new AiOutputSchema("repository_evaluation", object(properties(
+            "summary", string(),
+            "strengths", arrayOf(string()),
+            "improvements", arrayOf(string()),
+            "scores", SCORES_SCHEMA)));
+
+    private static final AiOutputSchema BATCH_EVALUATION_SCHEMA = new AiOutputSchema("repository_batch_evaluation", object(properties(
+            "results", arrayOf(object(properties(
+                    "id", integer(),
+                    "summary", string(),
+                    "strengths", arrayOf(string()),
+                    "improvements", arrayOf(string()),
+                    "scores", SCORES_SCHEMA))))));
+
+    private static final AiOutputSchema NARRATIVE_SCHEMA = new AiOutputSchema("repository_narrative", object(properties(
+            "summary", string(),
+            "strengths", arrayOf(string()),
+            "improvements", arrayOf(string()))));
+
+    private static final String NARRATIVE_PENDING_SUMMARY =
+            "저장소 지표로 계산한 점수입니다. 상세 평가는 작성 중이며 잠시 후 확인할 수 있습니다.";
+
+    private static final String DEGRADED_SUMMARY =
+            "AI 평가를 일시적으로 사용할 수 없어 저장소 지표로 계산한 점수만 제공합니다. 잠시 후 다시 분석하면 상세 평가를 받을 수 있습니다.";
+
     private final AiService aiService;
     private final ObjectMapper objectMapper;
     private final RepositoryJpaRepository repositoryJpaRepository;
     private final AnalysisResultRepository analysisResultRepository;
     private final ScoreRepository scoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RepositoryDataFingerprint repositoryDataFingerprint;
+    private final RepositoryPromptEncoder repositoryPromptEncoder;
+    private final ScoringEngine scoringEngine;
+    private final ScoreCalibrator scoreCalibrator;
+
+    // 로컬 채점 모드의 AI 서술 작성용 (응답 대기만 하므로 가상 스레드)
+    private final ExecutorService narrativeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 채점 방식 - llm: AI가 점수와 서술 모두 작성 / local: 점수는 ScoringEngine, AI는 서술만 (비동기)
+    @Value("${evaluation.scoring.mode:llm}")
+    private String scoringMode;
+
+    // 일괄 평가 시 한 번의 AI 호출에 담을 저장소 수
+    @Value("${evaluation.batch.size:5}")
+    private int batchSize;
+
+    // 평가 입력이 같을 때 이전 AI 평가를 재사용하는 기간 (0이면 항상 새로 평가)
+    @Value("${evaluation.reuse.window:P7D}")
+    private Duration reuseWindow;
 
-    @Transactional
+    /* AI 평가 후 결과 저장
+     * 평가 입력 지문이 같은 최근 평가가 있으면 AI를 호출하지 않고 그 결과를 재사용
+     * AI를 쓸 수 없거나(API 키 미설정) 로컬 채점 모드면 ScoringEngine 점수로 바로 저장
+     * AI 호출은 트랜잭션 밖에서 진행하고, 저장만 짧은 트랜잭션으로 처리 (응답 대기 중 DB 커넥션 점유 방지) */
     public Long evaluateAndSave(RepositoryData data, Long userId) {
-        AiResult ai = callAiAndParse(data);
+        return evaluateAndSave(data, userId, summary -> {});
+    }
+
+    // onSummary: AI가 생성 중인 요약(summary)을 조각 단위로 전달받음 (진행 상황 실시간 표시용)
+    public Long evaluateAndSave(RepositoryData data, Long userId, Consumer<String> onSummary) {
+        return evaluateAndSave(data, userId, onSummary, () -> {});
+    }
+
+    /* onNarrativeComplete: 서술을 반환 이후 별도 스레드에서 채우는 경우(로컬 채점 모드)에만 호출됨
+     * 이 경우 onSummary는 반환 이후에도 호출될 수 있고, 서술 저장이 끝나면(실패해 대체 요약으로 바꾼 경우 포함) 마지막으로 한 번 호출 */
+    public Long evaluateAndSave(RepositoryData data, Long userId, Consumer<String> onSummary,
+                                Runnable onNarrativeComplete) {
+        String fingerprint = repositoryDataFingerprint.of(data);
+        Optional<AiResult> reused = findReusableEvaluation(fingerprint);
+        if (reused.isPresent()) {
+            return transactionTemplate.execute(status -> saveEvaluation(data, userId, reused.get(), fingerprint));
+        }
+        if (skipsAiScoring()) {
+            return saveWithLocalScores(data, userId, onSummary, onNarrativeComplete);
+        }
+
+        try {
+            AiResult ai = callAiAndParse(data, onSummary);
+            Long id = transactionTemplate.execute(status -> saveEvaluation(data, userId, ai, fingerprint));
+            scoreCalibrator.maybeRecalibrate();
+            return id;
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != ErrorCode.AI_UNAVAILABLE) {
+                throw e;
+            }
+            // 지문은 저장하지 않음 - AI가 복구되면 같은 입력도 다시 평가
+            AiResult degraded = degradedResult(data);
+            return transactionTemplate.execute(status -> saveEvaluation(data, userId, degraded, null));
+        }
+    }
+
+    private boolean skipsAiScoring() {
+        return "local".equalsIgnoreCase(scoringMode) || !aiService.isAvailable();
+    }
+
+    /* 로컬 점수로 저장 - 지문은 저장하지 않음 (AI 점수가 아니므로 재사용/보정 표본에서 제외)
+     * AI를 쓸 수 없으면 대체 결과로 끝, 쓸 수 있으면(로컬 채점 모드) 점수만 먼저 저장해 반환하고 서술은 별도 스레드에서 채움 */
+    private Long saveWithLocalScores(RepositoryData data, Long userId, Consumer<String> onSummary,
+                                     Runnable onNarrativeComplete) {
+        if (!aiService.isAvailable()) {
+            AiResult degraded = degradedResult(data);
+            return transactionTemplate.execute(status -> saveEvaluation(data, userId, degraded, null));
+        }
+
+        Scores scores = scoringEngine.score(data);
+        AiResult pending = new AiResult(NARRATIVE_PENDING_SUMMARY, List.of(), List.of(), scores);
+        Long id = transactionTemplate.execute(status -> saveEvaluation(data, userId, pending, null));
+        narrativeExecutor.execute(() -> {
+            try {
+                fillNarrative(id, data, scores, onSummary);
+            } finally {
+                onNarrativeComplete.run();
+            }
+        });
+        return id;
+    }
+
+    // 로컬 점수를 근거로 AI가 요약/강점/개선점만 작성 - 실패하면 대체 요약으로 바꿔 '작성 중' 상태로 남지 않게 함
+    private void fillNarrative(Long analysisResultId, RepositoryData data, Scores scores, Consumer<String> onSummary) {
+        AiResult narrative;
+        try {
+            String scoreSection = "[scores]\nreadme: %d/30, test: %d/30, commit: %d/25, cicd: %d/15"
+                    .formatted(scores.readme(), scores.test(), scores.commit(), scores.cicd());
+            String content = repositoryPromptEncoder.encode(data, NARRATIVE_PROMPT + scoreSection) + "\n" + scoreSection;
+
+            AiDto.CompleteRequest request = new AiDto.CompleteRequest(content, NARRATIVE_PROMPT);
+            String raw = aiService.stream(request, NARRATIVE_SCHEMA, new SummaryStreamExtractor(onSummary)).result();
+            narrative = parseWithRepair(request, raw, AiResult.class, NARRATIVE_SCHEMA);
+        } catch (Exception e) {
+            log.warn("AI 서술 작성 실패 - 로컬 점수만 제공: analysisResultId={} - {}", analysisResultId, e.getMessage());
+            narrative = new AiResult(DEGRADED_SUMMARY, List.of(), List.of(), scores);
+        }
 
+        AiResult result = narrative;
+        try {
+            transactionTemplate.executeWithoutResult(status -> analysisResultRepository.findById(analysisResultId)
+                    .ifPresent(analysis -> analysis.updateNarrative(
+                            safe(result.summary()), joinBullets(result.strengths()), joinBullets(result.improvements()))));
+        } catch (Exception e) {
+            log.warn("AI 서술 저장 실패: analysisResultId={} - {}", analysisResultId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        narrativeExecutor.shutdown();
+    }
+
+    // AI를 쓸 수 없을 때(API 키 미설정, 서킷 열림, 대기열 초과, 시간 초과) 저장소 지표로 계산한 점수만 담은 결과
+    private AiResult degradedResult(RepositoryData data) {
+        log.warn("AI 평가 불가 - 로컬 점수로 대체: {}", data.getRepositoryUrl());
+        return new AiResult(DEGRADED_SUMMARY, List.of(), List.of(), scoringEngine.score(data));
+    }
+
+    /* 여러 저장소 일괄 평가 후 저장 (포트폴리오 분석)
+     * 1. 평가 입력 지문이 같은 최근 평가가 있으면 재사용
+     * 2. 나머지는 batch.size개씩 묶어 한 번의 AI 호출로 평가
+     * 3. 묶음 응답에서 빠졌거나 묶음 호출이 실패한 저장소는 개별 호출로 다시 평가 (AI를 쓸 수 없으면 로컬 점수로 대체)
+     * AI를 쓸 수 없거나 로컬 채점 모드면 묶지 않고 저장소별로 로컬 점수 저장
+     * 저장소마다 저장이 끝나면 onSaved(데이터, 분석 결과 ID), 개별 평가까지 실패하면 onFailed 호출 후 다음 저장소 진행 */
+    public void evaluateAndSaveAll(List<RepositoryData> data, Long userId,
+                                   BiConsumer<RepositoryData, Long> onSaved, Consumer<RepositoryData> onFailed) {
+        List<RepositoryData> pending = new ArrayList<>();
+        for (RepositoryData item : data) {
+            Optional<AiResult> reused = findReusableEvaluation(repositoryDataFingerprint.of(item));
+            if (reused.isPresent()) {
+                save(item, userId, reused.get(), repositoryDataFingerprint.of(item), onSaved, onFailed);
+            } else {
+                pending.add(item);
+            }
+        }
+
+        if (skipsAiScoring()) {
+            for (RepositoryData item : pending) {
+                try {
+                    onSaved.accept(item, saveWithLocalScores(item, userId, summary -> {}, () -> {}));
+                } catch (BusinessException e) {
+                    log.warn("평가 결과 저장 실패: {} - {}", item.getRepositoryUrl(), e.getErrorCode());
+                    onFailed.accept(item);
+                }
+            }
+            return;
+        }
+
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<RepositoryData> batch = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            List<AiResult> results = callAiAndParseBatch(batch);
+
+            for (int i = 0; i < batch.size(); i++) {
+                RepositoryData item = batch.get(i);
+                AiResult ai = results.get(i);
+                String fingerprint = repositoryDataFingerprint.of(item);
+                if (ai == null) {
+                    try {
+                        ai = callAiAndParse(item);
+                    } catch (BusinessException e) {
+                        if (e.getErrorCode() != ErrorCode.AI_UNAVAILABLE) {
+                            onFailed.accept(item);
+                            continue;
+                        }
+                        ai = degradedResult(item);
+                        fingerprint = null;
+                    }
+                }
+                save(item, userId, ai, fingerprint, onSaved, onFailed);
+            }
+        }
+        scoreCalibrator.maybeRecalibrate();
+    }
+
+    /* 묶음 평가 - 결과는 batch 순서대로, 응답에서 빠진 저장소는 null
+     * 1개뿐이면 개별 평가 프롬프트 사용, 호출/파싱 실패 시 모두 null (호출 측에서 개별 평가) */
+    private List<AiResult> callAiAndParseBatch(List<RepositoryData> batch) {
+        AiResult[] results = new AiResult[batch.size()];
+        if (batch.size() == 1) {
+            return Arrays.asList(results);
+        }
+
+        try {
+            String content = repositoryPromptEncoder.encodeAll(batch, BATCH_EVALUATION_PROMPT);
+            AiDto.CompleteRequest request = new AiDto.CompleteRequest(content, BATCH_EVALUATION_PROMPT);
+            String raw = aiService.complete(request, BATCH_EVALUATION_SCHEMA).result();
+            BatchResult parsed = parseWithRepair(request, raw, BatchResult.class, BATCH_EVALUATION_SCHEMA);
+
+            for (BatchItem item : Optional.ofNullable(parsed.results()).orElse(List.of())) {
+                if (item != null && item.id() >= 1 && item.id() <= batch.size() && item.scores() != null) {
+                    results[item.id() - 1] = item.toAiResult();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("AI 일괄 평가 실패, 저장소별로 다시 평가: {}건 - {}", batch.size(), e.getMessage());
+        }
+        return Arrays.asList(results);
+    }
+
+    private void save(RepositoryData data, Long userId, AiResult ai, String fingerprint,
+                      BiConsumer<RepositoryData, Long> onSaved, Consumer<RepositoryData> onFailed) {
+        try {
+            Long id = transactionTemplate.execute(status -> saveEvaluation(data, userId, ai, fingerprint));
+            onSaved.accept(data, id);
+        } catch (BusinessException e) {
+            log.warn("평가 결과 저장 실패: {} - {}", data.getRepositoryUrl(), e.getErrorCode());
+            onFailed.accept(data);
+        }
+    }
+
+    // 재사용 기간 안에 같은 입력으로 평가한 결과 (저장소/사용자와 무관하게 입력이 같으면 평가도 같음)
+    private Optional<AiResult> findReusableEvaluation(String fingerprint) {
+        if (reuseWindow.isZero() || reuseWindow.isNegative()) {
+            return Optional.empty();
+        }
+        LocalDateTime after = LocalDateTime.now().minus(reuseWindow);
+
+        return transactionTemplate.execute(status -> analysisResultRepository
+                .findTopByDataFingerprintAndCreateDateAfterOrderByCreateDateDesc(fingerprint, after)
+                .filter(previous -> previous.getScore() != null)
+                .map(previous -> {
+                    log.info("평가 입력이 같아 이전 AI 평가 재사용: analysisResultId={}", previous.getId());
+                    Score score = previous.getScore();
+                    return new AiResult(
+                            previous.getSummary(),
+                            splitBullets(previous.getStrengths()),
+                            splitBullets(previous.getImprovements()),
+                            new Scores(score.getReadmeScore(), score.getTestScore(), score.getCommitScore(), score.getCicdScore()));
+                }));
+    }
+
+    private Long saveEvaluation(RepositoryData data, Long userId, AiResult ai, String fingerprint) {
         String url = data.getRepositoryUrl();
         Repositories repo = repositoryJpaRepository.findByHtmlUrlAndUserId(url, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GITHUB_REPO_NOT_FOUND));
@@ -50,6 +394,7 @@ public class EvaluationService {
                 .strengths(joinBullets(ai.strengths()))
                 .improvements(joinBullets(ai.improvements()))
                 .createDate(LocalDateTime.now())
+                .dataFingerprint(fingerprint)
                 .build();
 
         // AnalysisResult 먼저 저장
@@ -71,42 +416,55 @@ public class EvaluationService {
     }
 
     public AiResult callAiAndParse(RepositoryData data) {
+        return callAiAndParse(data, summary -> {});
+    }
+
+    /* 평가 입력은 토큰 예산 안의 요약 텍스트로 전달 (RepositoryPromptEncoder)
+     * 응답은 구조화 출력(EVALUATION_SCHEMA)으로 요청하고 스트리밍으로 받아 summary 값만 onSummary로 중계, 끝나면 전체 JSON 파싱 */
+    public AiResult callAiAndParse(RepositoryData data, Consumer<String> onSummary) {
         try {
-            String content = objectMapper.writeValueAsString(data);
-            String prompt = """
-                    You are a senior software engineering reviewer.
-                    Analyze the given GitHub repository data and return ONLY a valid JSON. No commentary.
-
-                    Scoring: total 100 (README 0~30, TEST 0~30, COMMIT 0~25, CICD 0~15).
-                    Consider test folders, CI configs (.github/workflows), commit frequency/messages, README depth, etc.
-
-                    JSON schema:
-                    {
-                      "summary": "one-paragraph summary in Korean",
-                      "strengths": ["...","..."],
-                      "improvements": ["...","..."],
-                      "scores": { "readme": 0, "test": 0, "commit": 0, "cicd": 0 }
-                    }
-                    """;
+            String content = repositoryPromptEncoder.encode(data, EVALUATION_PROMPT);
 
-            AiDto.CompleteResponse res =
-                    aiService.complete(new AiDto.CompleteRequest(content, prompt));
+            AiDto.CompleteRequest request = new AiDto.CompleteRequest(content, EVALUATION_PROMPT);
+            AiDto.CompleteResponse res = aiService.stream(request, EVALUATION_SCHEMA, new SummaryStreamExtractor(onSummary));
 
-            String raw = res.result();
-            String json = extractJson(raw);
-            return objectMapper.readValue(json, new TypeReference<AiResult>() {});
+            AiResult parsed = parseWithRepair(request, res.result(), AiResult.class, EVALUATION_SCHEMA);
+            if (parsed.scores() == null) {
+                aiService.invalidate(request, EVALUATION_SCHEMA);
+                throw new IllegalArgumentException("AI result has no scores");
+            }
+            return parsed;
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AI evaluation failed", e);
             throw new BusinessException(ErrorCode.INTERNAL_ERROR);
         }
     }
 
-    private String extractJson(String text) {
-        if (text == null) throw new IllegalArgumentException("AI result is null");
-        String cleaned = text.replaceAll("```json", "```").trim();
-        Matcher m = Pattern.compile("\\{.*}", Pattern.DOTALL).matcher(cleaned);
-        if (m.find()) return m.group();
-        return cleaned;
+    /* 응답에서 첫 JSON 객체를 꺼내 파싱 (JsonObjectExtractor - 선형 탐색, 끊긴 응답은 괄호를 닫아 복구)
+     * 그래도 실패하면 깨진 응답만 보내 스키마에 맞게 고쳐 달라고 한 번만 다시 요청 - 평가 입력을 다시 보내지 않으므로 비용이 작음
+     * 파싱하지 못한 응답은 캐시에서 지움 (같은 입력으로 다시 요청하면 새로 호출하도록) */
+    private <T> T parseWithRepair(AiDto.CompleteRequest request, String raw, Class<T> type, AiOutputSchema schema)
+            throws JsonProcessingException {
+        try {
+            return objectMapper.readValue(JsonObjectExtractor.extract(raw), type);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            aiService.invalidate(request, schema);
+            if (raw == null || raw.isBlank()) {
+                throw e;
+            }
+            log.warn("AI 응답 파싱 실패, 형식 수정 1회 재요청: {} - {}", schema.name(), e.getMessage());
+            String broken = TokenEstimator.truncate(raw, REPAIR_MAX_TOKENS);
+            AiDto.CompleteRequest repairRequest = new AiDto.CompleteRequest(broken, REPAIR_PROMPT);
+            String repaired = aiService.complete(repairRequest, schema).result();
+            try {
+                return objectMapper.readValue(JsonObjectExtractor.extract(repaired), type);
+            } catch (IllegalArgumentException | JsonProcessingException repairFailure) {
+                aiService.invalidate(repairRequest, schema);
+                throw repairFailure;
+            }
+        }
     }
 
     private String joinBullets(List<String> list) {
@@ -120,5 +478,15 @@ public class EvaluationService {
                 .orElse("");
     }
 
+    // joinBullets 역변환
+    private List<String> splitBullets(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        return text.lines()
+                .map(line -> line.startsWith("- ") ? line.substring(2) : line)
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .toList();
+    }
+
     private String safe(String s) { return s == null ? "" : s.trim(); }
 }
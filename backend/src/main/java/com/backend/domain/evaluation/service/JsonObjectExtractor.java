@@ -0,0 +1,90 @@
+package com.backend.domain.evaluation.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/* AI 응답 텍스트에서 첫 번째 JSON 객체를 한 번의 선형 탐색으로 추출
+ * - 앞뒤 설명문이나 ```json 코드 펜스는 무시하고, 문자열 안의 괄호/이스케이프는 구조로 보지 않음
+ * - 괄호가 맞는 지점에서 바로 종료 (뒤에 이어지는 텍스트는 읽지 않음)
+ * - 응답이 중간에 끊겼으면 열린 문자열과 괄호를 닫아 복구 (끝의 쉼표는 제거, 값이 없는 키는 null) */
+public final class JsonObjectExtractor {
+
+    private JsonObjectExtractor() {
+    }
+
+    public static String extract(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("AI result is null");
+        }
+        int start = text.indexOf('{');
+        if (start < 0) {
+            throw new IllegalArgumentException("AI result has no JSON object");
+        }
+
+        Deque<Character> closers = new ArrayDeque<>();
+        boolean inString = false;
+        boolean escaped = false;
+
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> inString = true;
+                case '{' -> closers.push('}');
+                case '[' -> closers.push(']');
+                case '}', ']' -> {
+                    // 짝이 안 맞는 닫는 괄호는 가장 가까운 열린 괄호를 닫은 것으로 취급
+                    closers.poll();
+                    if (closers.isEmpty()) {
+                        return text.substring(start, i + 1);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return close(text.substring(start), closers, inString, escaped);
+    }
+
+    // 끊긴 객체 복구
+    private static String close(String partial, Deque<Character> closers, boolean inString, boolean escaped) {
+        StringBuilder json = new StringBuilder(partial);
+        if (inString) {
+            if (escaped) {
+                json.setLength(json.length() - 1);
+            }
+            json.append('"');
+        }
+
+        trimTrailingWhitespace(json);
+        char last = json.charAt(json.length() - 1);
+        if (last == ',') {
+            json.setLength(json.length() - 1);
+        } else if (last == ':') {
+            json.append("null");
+        }
+
+        while (!closers.isEmpty()) {
+            json.append(closers.pop());
+        }
+        return json.toString();
+    }
+
+    private static void trimTrailingWhitespace(StringBuilder sb) {
+        int end = sb.length();
+        while (end > 0 && Character.isWhitespace(sb.charAt(end - 1))) {
+            end--;
+        }
+        sb.setLength(end);
+    }
+}
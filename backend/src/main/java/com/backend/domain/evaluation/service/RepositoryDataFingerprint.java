@@ -0,0 +1,46 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.repository.dto.response.RepositoryData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+/* 평가 입력 지문 - RepositoryData 중 평가에 쓰이는 필드의 SHA-256
+ * 필드 이름 순으로 정렬한 JSON을 해시하므로 같은 데이터면 항상 같은 값
+ * 날짜가 지나기만 해도 바뀌는 값(마지막 커밋 이후 경과일)은 제외 - 마지막 커밋 시각은 포함되므로 변경은 감지됨
+ * 프롬프트나 평가 기준이 바뀌면 VERSION을 올려 이전 평가를 재사용하지 않도록 함 */
+@Component
+public class RepositoryDataFingerprint {
+    private static final String VERSION = "v2";
+    private static final Set<String> EXCLUDED_FIELDS = Set.of("daysSinceLastCommit");
+
+    private final ObjectMapper canonicalMapper;
+
+    public RepositoryDataFingerprint(ObjectMapper objectMapper) {
+        this.canonicalMapper = objectMapper.copy()
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+                .configure(SerializationFeature.INDENT_OUTPUT, false);
+    }
+
+    public String of(RepositoryData data) {
+        try {
+            Map<String, Object> fields = canonicalMapper.convertValue(data, new TypeReference<Map<String, Object>>() {});
+            EXCLUDED_FIELDS.forEach(fields::remove);
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(VERSION.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(canonicalMapper.writeValueAsBytes(fields)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("평가 입력 지문 생성 실패", e);
+        }
+    }
+}
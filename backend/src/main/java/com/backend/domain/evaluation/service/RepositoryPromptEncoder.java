@@ -0,0 +1,343 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.repository.dto.response.RepositoryData;
+import com.backend.domain.repository.dto.response.RepositoryData.CommitInfo;
+import com.backend.domain.repository.dto.response.RepositoryData.IssueInfo;
+import com.backend.domain.repository.dto.response.RepositoryData.PullRequestInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/* AI 평가 입력 인코딩 - RepositoryData를 토큰 예산 안의 짧은 텍스트로 변환
+ * 커밋/이슈/PR 목록은 통계로 요약하고 커밋은 최근 몇 건의 제목만 포함
+ * README는 섹션 단위로 예산을 나눠 잘라냄 (이미지/HTML 제거, 코드 블록은 줄 수만 표기)
+ * 값이 없거나 빈 항목은 출력하지 않음 - 같은 데이터면 항상 같은 결과 */
+@Component
+public class RepositoryPromptEncoder {
+    private static final Pattern HEADING = Pattern.compile("^#{1,6}\\s+.*");
+    private static final Pattern IMAGE = Pattern.compile("!\\[[^]]*]\\([^)]*\\)");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern CONVENTIONAL_COMMIT =
+            Pattern.compile("^(feat|fix|docs|style|refactor|test|chore|build|ci|perf|revert)(\\([^)]*\\))?!?:.*");
+    private static final int MAX_SUBJECT_LENGTH = 80;
+    private static final String TRUNCATED = " …";
+    private static final String README_EXCERPT = "readme_excerpt:\n";
+    // 섹션마다 줄바꿈과 생략 표시(…)에 쓰이는 토큰
+    private static final int SECTION_OVERHEAD_TOKENS = 3;
+
+    private final int maxTokens;
+    private final int readmeMaxTokens;
+    private final int commitSamples;
+
+    public RepositoryPromptEncoder(
+            @Value("${evaluation.prompt.max-tokens:4000}") int maxTokens,
+            @Value("${evaluation.prompt.readme-max-tokens:1500}") int readmeMaxTokens,
+            @Value("${evaluation.prompt.commit-samples:15}") int commitSamples
+    ) {
+        this.maxTokens = maxTokens;
+        this.readmeMaxTokens = readmeMaxTokens;
+        this.commitSamples = commitSamples;
+    }
+
+    // 지시문(prompt)과 합쳐 maxTokens를 넘지 않는 입력 본문
+    public String encode(RepositoryData data, String instruction) {
+        return encodeWithin(data, Math.max(0, maxTokens - TokenEstimator.estimate(instruction)));
+    }
+
+    /* 여러 저장소를 한 요청에 담을 때 - "### repository {번호}" 구분 제목 아래 각 저장소 요약을 이어 붙임 (번호는 1부터)
+     * 지시문과 구분 제목을 뺀 예산을 저장소 수만큼 나눠 각각 인코딩 */
+    public String encodeAll(List<RepositoryData> data, String instruction) {
+        List<String> headers = new ArrayList<>();
+        for (int i = 1; i <= data.size(); i++) {
+            headers.add("### repository " + i + "\n");
+        }
+        if (headers.isEmpty()) {
+            return "";
+        }
+
+        int shared = maxTokens - TokenEstimator.estimate(instruction)
+                - headers.stream().mapToInt(header -> TokenEstimator.estimate(header) + 1).sum();
+        int budget = Math.max(0, shared) / data.size();
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < data.size(); i++) {
+            sb.append(headers.get(i)).append(encodeWithin(data.get(i), budget)).append("\n\n");
+        }
+        return sb.toString().stripTrailing();
+    }
+
+    private String encodeWithin(RepositoryData data, int budget) {
+        String body = encode(data, commitSamples, budget);
+        if (TokenEstimator.estimate(body) > budget) {
+            // 커밋 제목 샘플을 빼고 다시 시도, 그래도 넘으면 뒤에서부터 자름
+            body = encode(data, 0, budget);
+        }
+        return TokenEstimator.truncate(body, budget);
+    }
+
+    private String encode(RepositoryData data, int samples, int budget) {
+        StringBuilder sb = new StringBuilder();
+        appendMeta(sb, data);
+        appendMaintenance(sb, data, samples);
+        appendSecurity(sb, data);
+        appendTesting(sb, data);
+        appendCicd(sb, data);
+        appendCommunity(sb, data);
+
+        // README는 남은 예산 안에서 마지막에 붙임
+        String readmeHeader = readmeHeader(data);
+        int readmeBudget = Math.min(readmeMaxTokens, budget - TokenEstimator.estimate(sb.toString())
+                - TokenEstimator.estimate(readmeHeader) - TokenEstimator.estimate(README_EXCERPT));
+        sb.append(readmeHeader);
+        if (data.isHasReadme() && readmeBudget > 0) {
+            String excerpt = summarizeReadme(data.getReadmeContent(), readmeBudget);
+            if (!excerpt.isEmpty()) {
+                sb.append(README_EXCERPT).append(excerpt).append('\n');
+            }
+        }
+        return sb.toString().stripTrailing();
+    }
+
+    private void appendMeta(StringBuilder sb, RepositoryData data) {
+        line(sb, "repository", join(" | ", data.getRepositoryName(), data.getPrimaryLanguage(),
+                data.getRepositoryCreatedAt() == null ? null : "created " + date(data.getRepositoryCreatedAt())));
+        line(sb, "url", data.getRepositoryUrl());
+        line(sb, "description", data.getDescription());
+    }
+
+    private void appendMaintenance(StringBuilder sb, RepositoryData data, int samples) {
+        sb.append("[maintenance]\n");
+        if (data.getLastCommitDate() != null) {
+            line(sb, "last_commit", date(data.getLastCommitDate()) + " (" + data.getDaysSinceLastCommit() + " days ago)");
+        }
+        line(sb, "commits_90d", String.valueOf(data.getCommitCountLast90Days()));
+
+        List<CommitInfo> commits = nonNull(data.getRecentCommits());
+        if (commits.isEmpty()) {
+            return;
+        }
+        List<String> subjects = commits.stream().map(c -> subject(c.getMessage())).toList();
+        long conventional = subjects.stream().filter(s -> CONVENTIONAL_COMMIT.matcher(s).matches()).count();
+        double avgLength = subjects.stream().mapToInt(String::length).average().orElse(0);
+        long activeDays = commits.stream().map(CommitInfo::getCommittedDate).filter(Objects::nonNull)
+                .map(LocalDateTime::toLocalDate).distinct().count();
+        line(sb, "commit_stats", String.format(Locale.ROOT,
+                "%d collected, conventional %d%%, avg subject %.0f chars, active days %d",
+                commits.size(), Math.round(conventional * 100.0 / commits.size()), avgLength, activeDays));
+
+        commits.stream().limit(samples).forEach(c -> sb.append("- ")
+                .append(c.getCommittedDate() == null ? "" : date(c.getCommittedDate()) + " ")
+                .append(abbreviate(subject(c.getMessage()), MAX_SUBJECT_LENGTH))
+                .append('\n'));
+    }
+
+    private String readmeHeader(RepositoryData data) {
+        StringBuilder sb = new StringBuilder("[documentation]\n");
+        if (!data.isHasReadme()) {
+            line(sb, "readme", "none");
+            return sb.toString();
+        }
+        line(sb, "readme", data.getReadmeLength() + " chars, " + data.getReadmeSectionCount() + " sections");
+        line(sb, "readme_sections", String.join(", ", nonNull(data.getReadmeSectionTitles())));
+        return sb.toString();
+    }
+
+    private void appendSecurity(StringBuilder sb, RepositoryData data) {
+        sb.append("[security]\n");
+        if (data.isTreeTruncated()) {
+            line(sb, "file_tree", "partial (too many entries) - file counts in security/testing/cicd are lower bounds");
+        }
+        line(sb, "sensitive_files", data.isHasSensitiveFile()
+                ? String.join(", ", nonNull(data.getSensitiveFilePaths())) : "none");
+        line(sb, "build_files", data.isHasBuildFile() ? String.join(", ", nonNull(data.getBuildFiles())) : "none");
+    }
+
+    private void appendTesting(StringBuilder sb, RepositoryData data) {
+        sb.append("[testing]\n");
+        line(sb, "tests", String.format(Locale.ROOT, "test_dir %s, test_files %d, source_files %d, ratio %.2f",
+                yesNo(data.isHasTestDirectory()), data.getTestFileCount(), data.getSourceFileCount(),
+                data.getTestCoverageRatio()));
+    }
+
+    private void appendCicd(StringBuilder sb, RepositoryData data) {
+        sb.append("[cicd]\n");
+        line(sb, "ci", data.isHasCICD() ? String.join(", ", nonNull(data.getCicdFiles())) : "none");
+        line(sb, "dockerfile", yesNo(data.isHasDockerfile()));
+    }
+
+    private void appendCommunity(StringBuilder sb, RepositoryData data) {
+        sb.append("[community]\n");
+        Double closeDays = averageDays(nonNull(data.getRecentIssues()), IssueInfo::getCreatedAt, IssueInfo::getClosedAt);
+        line(sb, "issues_6m", data.getIssueCountLast6Months() + " (closed " + data.getClosedIssueCountLast6Months()
+                + (closeDays == null ? "" : String.format(Locale.ROOT, ", avg %.1f days to close", closeDays)) + ")");
+
+        Double mergeDays = averageDays(nonNull(data.getRecentPullRequests()),
+                PullRequestInfo::getCreatedAt, PullRequestInfo::getMergedAt);
+        line(sb, "prs_6m", data.getPullRequestCountLast6Months() + " (merged " + data.getMergedPullRequestCountLast6Months()
+                + (mergeDays == null ? "" : String.format(Locale.ROOT, ", avg %.1f days to merge", mergeDays)) + ")");
+    }
+
+    /* README 요약
+     * 1. 이미지/HTML 태그 제거, 코드 블록은 "[code: N lines]"로 대체, 연속 빈 줄 축약
+     * 2. 제목(#)으로 섹션을 나누고 제목은 항상 포함
+     * 3. 남은 예산을 본문이 짧은 섹션부터 균등하게 배분 - 짧은 섹션이 남긴 몫은 긴 섹션이 사용 */
+    String summarizeReadme(String readme, int budget) {
+        List<Section> sections = sections(clean(readme));
+        if (sections.isEmpty()) {
+            return "";
+        }
+
+        int remaining = budget - sections.stream()
+                .mapToInt(s -> TokenEstimator.estimate(s.title()) + SECTION_OVERHEAD_TOKENS).sum();
+        if (remaining <= 0) {
+            String titles = String.join("\n", sections.stream().map(Section::title).filter(t -> !t.isEmpty()).toList());
+            return TokenEstimator.truncate(titles, budget);
+        }
+
+        int[] allocation = new int[sections.size()];
+        List<Integer> bySize = new ArrayList<>();
+        for (int i = 0; i < sections.size(); i++) bySize.add(i);
+        bySize.sort(Comparator.comparingInt(i -> TokenEstimator.estimate(sections.get(i).body())));
+        for (int n = 0; n < bySize.size(); n++) {
+            int index = bySize.get(n);
+            int share = remaining / (bySize.size() - n);
+            allocation[index] = Math.min(TokenEstimator.estimate(sections.get(index).body()), share);
+            remaining -= allocation[index];
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            if (!section.title().isEmpty()) {
+                sb.append(section.title()).append('\n');
+            }
+            String body = TokenEstimator.truncate(section.body(), allocation[i]);
+            if (!body.isEmpty()) {
+                sb.append(body);
+                if (body.length() < section.body().length()) {
+                    sb.append(TRUNCATED);
+                }
+                sb.append('\n');
+            }
+        }
+        return sb.toString().stripTrailing();
+    }
+
+    private String clean(String readme) {
+        if (readme == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        boolean inCode = false;
+        int codeLines = 0;
+        boolean blank = true;
+        for (String raw : readme.replace("\r\n", "\n").split("\n")) {
+            if (raw.strip().startsWith("```")) {
+                if (inCode) {
+                    sb.append("[code: ").append(codeLines).append(" lines]\n");
+                    blank = false;
+                }
+                inCode = !inCode;
+                codeLines = 0;
+                continue;
+            }
+            if (inCode) {
+                codeLines++;
+                continue;
+            }
+
+            String line = HTML_TAG.matcher(IMAGE.matcher(raw).replaceAll("")).replaceAll("").strip();
+            if (line.isEmpty()) {
+                if (!blank) sb.append('\n');
+                blank = true;
+                continue;
+            }
+            sb.append(line).append('\n');
+            blank = false;
+        }
+        return sb.toString().strip();
+    }
+
+    private List<Section> sections(String readme) {
+        List<Section> sections = new ArrayList<>();
+        String title = "";
+        StringBuilder body = new StringBuilder();
+        for (String line : readme.split("\n")) {
+            if (HEADING.matcher(line).matches()) {
+                addSection(sections, title, body);
+                title = line;
+                body.setLength(0);
+            } else {
+                body.append(line).append('\n');
+            }
+        }
+        addSection(sections, title, body);
+        return sections;
+    }
+
+    private void addSection(List<Section> sections, String title, StringBuilder body) {
+        String text = body.toString().strip();
+        if (!title.isEmpty() || !text.isEmpty()) {
+            sections.add(new Section(title, text));
+        }
+    }
+
+    // 시작~종료 시각이 모두 있는 항목의 평균 소요 일수 (없으면 null)
+    private <T> Double averageDays(List<T> items, Function<T, LocalDateTime> from, Function<T, LocalDateTime> to) {
+        OptionalDouble average = items.stream()
+                .filter(item -> from.apply(item) != null && to.apply(item) != null)
+                .mapToDouble(item -> Duration.between(from.apply(item), to.apply(item)).toHours() / 24.0)
+                .average();
+        return average.isPresent() ? average.getAsDouble() : null;
+    }
+
+    // 값이 비어 있으면 출력하지 않음
+    private static void line(StringBuilder sb, String key, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        sb.append(key).append(": ").append(value.strip().replace('\n', ' ')).append('\n');
+    }
+
+    private static String join(String delimiter, String... values) {
+        return String.join(delimiter, Arrays.stream(values).filter(v -> v != null && !v.isBlank()).toList());
+    }
+
+    private static String subject(String message) {
+        if (message == null) {
+            return "";
+        }
+        String stripped = message.strip();
+        int newline = stripped.indexOf('\n');
+        return newline < 0 ? stripped : stripped.substring(0, newline).strip();
+    }
+
+    private static String abbreviate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength) + TRUNCATED;
+    }
+
+    private static String date(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toString();
+    }
+
+    private static String yesNo(boolean value) {
+        return value ? "yes" : "no";
+    }
+
+    private static <T> List<T> nonNull(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    private record Section(String title, String body) {}
+}
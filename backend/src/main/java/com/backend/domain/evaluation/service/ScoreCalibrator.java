@@ -0,0 +1,138 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.analysis.entity.AnalysisResult;
+import com.backend.domain.analysis.entity.Score;
+import com.backend.domain.analysis.repository.AnalysisResultRepository;
+import com.backend.domain.evaluation.dto.EvaluationDto.Scores;
+import com.backend.domain.repository.dto.response.RepositoryData;
+import com.backend.domain.repository.dto.response.RepositorySnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/* 저장된 AI 점수로 로컬 점수(ScoringEngine) 보정
+ * 표본: 평가 입력 지문이 있는 최근 분석 결과(= AI가 채점한 결과) 중 저장소의 마지막 수집 데이터와 지문이 일치하는 것
+ *   - 지문이 일치하면 그 데이터가 AI가 본 입력과 같으므로 같은 입력에 대한 규칙 점수와 AI 점수 쌍을 만들 수 있음
+ *   - 로컬 채점/대체 결과는 지문을 저장하지 않으므로 표본에 섞이지 않음
+ * 시작 시 한 번, 이후 AI 평가가 저장될 때 interval이 지났으면 별도 스레드에서 다시 계산 */
+@Slf4j
+@Component
+public class ScoreCalibrator {
+    private final AnalysisResultRepository analysisResultRepository;
+    private final RepositoryDataFingerprint repositoryDataFingerprint;
+    private final ScoringEngine scoringEngine;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int minSamples;
+    private final int sampleSize;
+    private final Duration interval;
+    private final Clock clock = Clock.systemUTC();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Instant lastCalibrated = Instant.MIN;
+
+    public ScoreCalibrator(
+            AnalysisResultRepository analysisResultRepository,
+            RepositoryDataFingerprint repositoryDataFingerprint,
+            ScoringEngine scoringEngine,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            @Value("${evaluation.scoring.calibration.enabled:true}") boolean enabled,
+            @Value("${evaluation.scoring.calibration.min-samples:30}") int minSamples,
+            @Value("${evaluation.scoring.calibration.sample-size:500}") int sampleSize,
+            @Value("${evaluation.scoring.calibration.interval:PT6H}") Duration interval
+    ) {
+        this.analysisResultRepository = analysisResultRepository;
+        this.repositoryDataFingerprint = repositoryDataFingerprint;
+        this.scoringEngine = scoringEngine;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.minSamples = minSamples;
+        this.sampleSize = sampleSize;
+        this.interval = interval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onReady() {
+        maybeRecalibrate();
+    }
+
+    // 마지막 보정 후 interval이 지났으면 별도 가상 스레드에서 보정 (동시에 하나만 실행)
+    public void maybeRecalibrate() {
+        if (!enabled || Instant.now(clock).isBefore(lastCalibrated.plus(interval))) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("score-calibration").start(() -> {
+            try {
+                recalibrate();
+            } catch (Exception e) {
+                log.warn("로컬 점수 보정 실패 (기존 보정 유지): {}", e.getMessage());
+            } finally {
+                lastCalibrated = Instant.now(clock);
+                running.set(false);
+            }
+        });
+    }
+
+    // 표본이 min-samples 미만이면 보정하지 않음 (규칙 점수 그대로 사용)
+    public void recalibrate() {
+        List<ScoringEngine.Sample> samples = transactionTemplate.execute(status -> loadSamples());
+        if (samples == null || samples.size() < minSamples) {
+            log.info("로컬 점수 보정 생략: 표본 {}건 (최소 {}건)", samples == null ? 0 : samples.size(), minSamples);
+            return;
+        }
+        scoringEngine.calibrate(samples);
+    }
+
+    // 저장소별 가장 최근 AI 평가 하나만 사용
+    private List<ScoringEngine.Sample> loadSamples() {
+        List<ScoringEngine.Sample> samples = new ArrayList<>();
+        Set<Long> seenRepositories = new HashSet<>();
+
+        for (AnalysisResult result : analysisResultRepository
+                .findByDataFingerprintIsNotNullOrderByCreateDateDesc(PageRequest.of(0, sampleSize))) {
+            Score score = result.getScore();
+            if (score == null || !seenRepositories.add(result.getRepositories().getId())) {
+                continue;
+            }
+            RepositoryData data = baselineData(result.getRepositories().getCollectionBaseline());
+            if (data == null || !result.getDataFingerprint().equals(repositoryDataFingerprint.of(data))) {
+                continue;
+            }
+            samples.add(new ScoringEngine.Sample(
+                    scoringEngine.rawScore(data),
+                    new Scores(score.getReadmeScore(), score.getTestScore(), score.getCommitScore(), score.getCicdScore())));
+        }
+        return samples;
+    }
+
+    private RepositoryData baselineData(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, RepositorySnapshot.class).data();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.evaluation.dto.EvaluationDto.Scores;
+import com.backend.domain.repository.dto.response.RepositoryData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/* 저장소 지표 기반 로컬 점수 계산 - 로컬 채점 모드의 점수, AI를 쓸 수 없을 때의 대체 점수
+ * 배점은 AI 평가 기준과 동일 (README 0~30, TEST 0~30, COMMIT 0~25, CICD 0~15), 지표별 가중치는 설정으로 조정
+ * 저장된 AI 점수로 보정(calibrate)하면 항목별로 로컬 점수 → AI 점수 직선 변환을 적용 (보정 전에는 규칙 점수 그대로) */
+@Slf4j
+@Component
+public class ScoringEngine {
+    static final int README_MAX = 30;
+    static final int TEST_MAX = 30;
+    static final int COMMIT_MAX = 25;
+    static final int CICD_MAX = 15;
+
+    // 지표별 배점 - 항목 합계가 항목 만점을 넘으면 만점으로 자름
+    public record Weights(int readmeLength, int readmeSections, int testDirectory, int testRatio,
+                          int commitFrequency, int commitRecency, int ci, int docker) {
+        public static final Weights DEFAULT = new Weights(15, 15, 10, 20, 15, 10, 10, 5);
+    }
+
+    // 보정용 표본 - 같은 입력에 대한 규칙 점수(local)와 AI 점수(reference)
+    public record Sample(Scores local, Scores reference) {
+    }
+
+    private final Weights weights;
+    private volatile Calibration calibration = Calibration.IDENTITY;
+
+    @Autowired
+    public ScoringEngine(
+            @Value("${evaluation.scoring.weights.readme-length:15}") int readmeLength,
+            @Value("${evaluation.scoring.weights.readme-sections:15}") int readmeSections,
+            @Value("${evaluation.scoring.weights.test-directory:10}") int testDirectory,
+            @Value("${evaluation.scoring.weights.test-ratio:20}") int testRatio,
+            @Value("${evaluation.scoring.weights.commit-frequency:15}") int commitFrequency,
+            @Value("${evaluation.scoring.weights.commit-recency:10}") int commitRecency,
+            @Value("${evaluation.scoring.weights.ci:10}") int ci,
+            @Value("${evaluation.scoring.weights.docker:5}") int docker
+    ) {
+        this(new Weights(readmeLength, readmeSections, testDirectory, testRatio,
+                commitFrequency, commitRecency, ci, docker));
+    }
+
+    ScoringEngine(Weights weights) {
+        this.weights = weights;
+    }
+
+    // 보정을 적용한 최종 점수
+    public Scores score(RepositoryData data) {
+        Scores raw = rawScore(data);
+        Calibration c = calibration;
+        return new Scores(
+                c.readme().apply(raw.readme(), README_MAX),
+                c.test().apply(raw.test(), TEST_MAX),
+                c.commit().apply(raw.commit(), COMMIT_MAX),
+                c.cicd().apply(raw.cicd(), CICD_MAX));
+    }
+
+    // 가중치 규칙만 적용한 점수 (보정 표본 생성용)
+    public Scores rawScore(RepositoryData data) {
+        return new Scores(readme(data), test(data), commit(data), cicd(data));
+    }
+
+    /* 저장된 AI 점수로 보정 - 항목마다 최소제곱 직선(AI ≈ 기울기 × 로컬 + 절편)을 구해 이후 score에 적용
+     * 표본이 없으면 보정 해제 */
+    public void calibrate(List<Sample> samples) {
+        if (samples.isEmpty()) {
+            calibration = Calibration.IDENTITY;
+            return;
+        }
+        Calibration fitted = new Calibration(
+                fit(samples, Scores::readme),
+                fit(samples, Scores::test),
+                fit(samples, Scores::commit),
+                fit(samples, Scores::cicd));
+        calibration = fitted;
+        log.info("로컬 점수 보정 갱신: 표본 {}건, {}", samples.size(), fitted);
+    }
+
+    // README 존재 시 길이(3,000자 기준)와 섹션 수(6개 기준)
+    private int readme(RepositoryData data) {
+        if (!data.isHasReadme()) {
+            return 0;
+        }
+        return capped(ratio(data.getReadmeLength(), 3_000) * weights.readmeLength()
+                + ratio(data.getReadmeSectionCount(), 6) * weights.readmeSections(), README_MAX);
+    }
+
+    // 테스트 디렉터리 + 테스트/소스 파일 비율(0.5 기준)
+    private int test(RepositoryData data) {
+        return capped((data.isHasTestDirectory() ? weights.testDirectory() : 0)
+                + ratio(data.getTestCoverageRatio(), 0.5) * weights.testRatio(), TEST_MAX);
+    }
+
+    // 최근 90일 커밋 수(30회 기준) + 마지막 커밋 시점 (30일 이내 전부, 90일 이내 절반)
+    private int commit(RepositoryData data) {
+        double recency = data.getLastCommitDate() == null ? 0
+                : data.getDaysSinceLastCommit() <= 30 ? 1.0
+                : data.getDaysSinceLastCommit() <= 90 ? 0.5 : 0;
+        return capped(ratio(data.getCommitCountLast90Days(), 30) * weights.commitFrequency()
+                + recency * weights.commitRecency(), COMMIT_MAX);
+    }
+
+    // CI 설정 + Dockerfile
+    private int cicd(RepositoryData data) {
+        return capped((data.isHasCICD() ? weights.ci() : 0) + (data.isHasDockerfile() ? weights.docker() : 0), CICD_MAX);
+    }
+
+    // 최소제곱 직선 - 로컬 점수가 모두 같으면 평균 차이만 보정, 기울기는 극단값 방지를 위해 0.25~4로 제한
+    static Line fit(List<Sample> samples, ToIntFunction<Scores> category) {
+        int n = samples.size();
+        double meanX = 0;
+        double meanY = 0;
+        for (Sample s : samples) {
+            meanX += category.applyAsInt(s.local());
+            meanY += category.applyAsInt(s.reference());
+        }
+        meanX /= n;
+        meanY /= n;
+
+        double sxx = 0;
+        double sxy = 0;
+        for (Sample s : samples) {
+            double dx = category.applyAsInt(s.local()) - meanX;
+            sxx += dx * dx;
+            sxy += dx * (category.applyAsInt(s.reference()) - meanY);
+        }
+        if (sxx < 1e-9) {
+            return new Line(1.0, meanY - meanX);
+        }
+        double slope = Math.max(0.25, Math.min(sxy / sxx, 4.0));
+        return new Line(slope, meanY - slope * meanX);
+    }
+
+    record Line(double slope, double intercept) {
+        static final Line IDENTITY = new Line(1.0, 0.0);
+
+        int apply(int value, int max) {
+            return capped(slope * value + intercept, max);
+        }
+    }
+
+    private record Calibration(Line readme, Line test, Line commit, Line cicd) {
+        static final Calibration IDENTITY = new Calibration(Line.IDENTITY, Line.IDENTITY, Line.IDENTITY, Line.IDENTITY);
+    }
+
+    private static double ratio(double value, double full) {
+        return Math.max(0, Math.min(value / full, 1.0));
+    }
+
+    private static int capped(double value, int max) {
+        return (int) Math.max(0, Math.min(Math.round(value), max));
+    }
+}
@@ -0,0 +1,82 @@
+package com.backend.domain.evaluation.service;
+
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/* 스트리밍 중인 AI 응답(JSON)에서 "summary" 문자열 값만 골라 조각 단위로 전달
+ * 응답 조각을 순서대로 accept하면 summary 값이 시작된 뒤부터 이스케이프를 풀어 downstream으로 넘기고,
+ * 값이 끝나면(닫는 따옴표) 이후 조각은 무시
+ * 조각 경계에서 잘린 이스케이프 시퀀스는 다음 조각과 합쳐서 처리 */
+public class SummaryStreamExtractor implements Consumer<String> {
+    private static final Pattern SUMMARY_START = Pattern.compile("\"summary\"\\s*:\\s*\"");
+
+    private final Consumer<String> downstream;
+    private final StringBuilder pending = new StringBuilder();
+    private boolean inValue;
+    private boolean done;
+
+    public SummaryStreamExtractor(Consumer<String> downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void accept(String chunk) {
+        if (done || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        pending.append(chunk);
+
+        if (!inValue) {
+            Matcher m = SUMMARY_START.matcher(pending);
+            if (!m.find()) {
+                return;
+            }
+            pending.delete(0, m.end());
+            inValue = true;
+        }
+        emit();
+    }
+
+    private void emit() {
+        StringBuilder out = new StringBuilder();
+        int i = 0;
+        while (i < pending.length()) {
+            char c = pending.charAt(i);
+            if (c == '"') {
+                done = true;
+                i = pending.length();
+                break;
+            }
+            if (c != '\\') {
+                out.append(c);
+                i++;
+                continue;
+            }
+
+            // 이스케이프가 조각 경계에서 잘렸으면 다음 조각을 기다림
+            if (i + 1 >= pending.length()) break;
+            char e = pending.charAt(i + 1);
+            if (e == 'u') {
+                if (i + 6 > pending.length()) break;
+                out.append((char) Integer.parseInt(pending.substring(i + 2, i + 6), 16));
+                i += 6;
+                continue;
+            }
+            out.append(switch (e) {
+                case 'n' -> '\n';
+                case 't' -> '\t';
+                case 'r' -> '\r';
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                default -> e;
+            });
+            i += 2;
+        }
+        pending.delete(0, i);
+
+        if (!out.isEmpty()) {
+            downstream.accept(out.toString());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.backend.domain.evaluation.service;
+
+/* 로컬 토큰 수 추정 (토크나이저 없이 보수적으로 계산)
+ * ASCII는 4글자당 1토큰, 그 외 문자(한글 등)는 글자당 1토큰으로 계산 - 실제보다 조금 크게 잡힘 */
+public final class TokenEstimator {
+    private TokenEstimator() {}
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            if (cp < 0x80) ascii++;
+            else other++;
+            i += Character.charCount(cp);
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    // 추정 토큰 수가 maxTokens 이하가 되도록 앞에서부터 자름 (가능하면 줄 단위)
+    public static String truncate(String text, int maxTokens) {
+        if (text == null || estimate(text) <= maxTokens) {
+            return text;
+        }
+        if (maxTokens <= 0) {
+            return "";
+        }
+
+        int ascii = 0;
+        int other = 0;
+        int end = 0;
+        int lastLineEnd = -1;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            if (cp < 0x80) ascii++;
+            else other++;
+            if ((ascii + 3) / 4 + other > maxTokens) {
+                break;
+            }
+            i += Character.charCount(cp);
+            end = i;
+            if (cp == '\n') {
+                lastLineEnd = i;
+            }
+        }
+        // 한 줄도 못 넣을 때만 줄 중간에서 자름
+        return text.substring(0, lastLineEnd > 0 ? lastLineEnd : end).stripTrailing();
+    }
+}
@@ -0,0 +1,64 @@
+package com.backend.domain.evaluation.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/* AI 호출 서킷 브레이커
+ * CLOSED: 연속 실패가 failureThreshold에 닿으면 OPEN
+ * OPEN: openDuration 동안 모든 호출을 즉시 거절, 지나면 HALF_OPEN
+ * HALF_OPEN: 시험 호출 1건만 허용 - 성공하면 CLOSED, 실패하면 다시 OPEN */
+class AiCircuitBreaker {
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+
+    AiCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    // 호출 허용 여부 - HALF_OPEN에서는 시험 호출 1건만 허용
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) yield false;
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+            trialInFlight = false;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,85 @@
+package com.backend.domain.evaluation.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/* AI 백엔드별 응답 통계 (RoutingAiGateway 선택 기준)
+ * - 지연 시간과 오류율의 EWMA (최근 호출일수록 가중치가 큼)
+ * - 최근 지연 시간 표본으로 p95 계산 (헤지 요청 기준)
+ * - 오류율이 기준을 넘으면 비정상, 마지막 실패 후 recoveryAfter가 지나면 다시 시험 대상 */
+class BackendStats {
+    private static final int WINDOW = 100;
+
+    private final double alpha;
+    private final double errorThreshold;
+    private final Duration recoveryAfter;
+    private final Clock clock;
+
+    private final long[] latencies = new long[WINDOW];
+    private int sampleCount;
+    private int next;
+    private double ewmaLatencyMillis;
+    private double ewmaErrorRate;
+    private boolean measured;
+    private Instant lastFailure = Instant.MIN;
+
+    BackendStats(double alpha, double errorThreshold, Duration recoveryAfter, Clock clock) {
+        this.alpha = alpha;
+        this.errorThreshold = errorThreshold;
+        this.recoveryAfter = recoveryAfter;
+        this.clock = clock;
+    }
+
+    synchronized void onSuccess(long latencyMillis) {
+        recordLatency(latencyMillis);
+        ewmaErrorRate = (1 - alpha) * ewmaErrorRate;
+    }
+
+    synchronized void onFailure(long latencyMillis) {
+        recordLatency(latencyMillis);
+        ewmaErrorRate = (1 - alpha) * ewmaErrorRate + alpha;
+        lastFailure = clock.instant();
+    }
+
+    // 헤지 요청에 져서 취소된 호출 - 오류는 아니지만 그때까지 걸린 시간은 느렸다는 근거
+    synchronized void onCancelled(long latencyMillis) {
+        recordLatency(latencyMillis);
+    }
+
+    synchronized boolean healthy() {
+        return ewmaErrorRate < errorThreshold || !clock.instant().isBefore(lastFailure.plus(recoveryAfter));
+    }
+
+    // 측정 전이면 0 - 아직 호출해 보지 않은 백엔드를 먼저 시험
+    synchronized double latencyMillis() {
+        return measured ? ewmaLatencyMillis : 0;
+    }
+
+    synchronized double errorRate() {
+        return ewmaErrorRate;
+    }
+
+    synchronized int samples() {
+        return sampleCount;
+    }
+
+    // 최근 표본의 95번째 백분위 지연 시간 (표본이 없으면 0)
+    synchronized long p95Millis() {
+        if (sampleCount == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, sampleCount);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sampleCount * 0.95) - 1];
+    }
+
+    private void recordLatency(long latencyMillis) {
+        ewmaLatencyMillis = measured ? (1 - alpha) * ewmaLatencyMillis + alpha * latencyMillis : latencyMillis;
+        measured = true;
+        latencies[next] = latencyMillis;
+        next = (next + 1) % WINDOW;
+        sampleCount = Math.min(sampleCount + 1, WINDOW);
+    }
+}
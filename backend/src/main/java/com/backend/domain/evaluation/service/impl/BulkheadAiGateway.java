@@ -0,0 +1,232 @@
+package com.backend.domain.evaluation.service.impl;
+
+import com.backend.domain.evaluation.service.AiGateway;
+import com.backend.domain.evaluation.service.AiOutputSchema;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/* AI 호출 격리 (벌크헤드)
+ * - 동시 호출 수 제한(max-in-flight), 자리가 없으면 대기열(max-queue)에서 queue-timeout까지 대기, 대기열도 가득 차면 즉시 거절
+ * - 호출마다 call-timeout 적용 - 호출은 별도 가상 스레드에서 실행하고 요청 스레드는 기한까지만 기다림
+ *   (기한을 넘긴 호출도 실제로 끝날 때까지 자리를 차지 - 느린 호출이 동시 호출 수 제한을 벗어나지 않도록)
+ * - 연속 실패가 쌓이면 서킷을 열어 일정 시간 즉시 거절
+ * 거절/시간 초과/상위 호출 실패는 모두 AI_UNAVAILABLE - 평가 쪽에서 로컬 점수로 대체
+ * 기한을 넘긴 스트리밍 호출은 취소하고 이후 조각은 전달하지 않음 (대체 결과 저장 뒤 SSE가 나가지 않도록)
+ * CachingAiGateway → BulkheadAiGateway → RoutingAiGateway → 실제 게이트웨이(aiBackend) 순서로 연결 */
+@Slf4j
+@Service
+@Qualifier("guardedAiGateway")
+public class BulkheadAiGateway implements AiGateway {
+    private final AiGateway delegate;
+    private final Semaphore permits;
+    private final int maxQueue;
+    private final Duration queueTimeout;
+    private final Duration callTimeout;
+    private final AiCircuitBreaker circuitBreaker;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter queueFullCounter;
+    private final Counter queueTimeoutCounter;
+    private final Counter circuitOpenCounter;
+    private final Counter callTimeoutCounter;
+
+    public BulkheadAiGateway(
+            @Qualifier("routedAiGateway") AiGateway delegate,
+            MeterRegistry meterRegistry,
+            @Value("${ai.bulkhead.max-in-flight:8}") int maxInFlight,
+            @Value("${ai.bulkhead.max-queue:16}") int maxQueue,
+            @Value("${ai.bulkhead.queue-timeout:PT10S}") Duration queueTimeout,
+            @Value("${ai.bulkhead.call-timeout:PT90S}") Duration callTimeout,
+            @Value("${ai.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${ai.circuit-breaker.open-duration:PT30S}") Duration openDuration
+    ) {
+        this(delegate, meterRegistry, maxInFlight, maxQueue, queueTimeout, callTimeout,
+                new AiCircuitBreaker(failureThreshold, openDuration, Clock.systemUTC()));
+    }
+
+    BulkheadAiGateway(AiGateway delegate, MeterRegistry meterRegistry, int maxInFlight, int maxQueue,
+                      Duration queueTimeout, Duration callTimeout, AiCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxInFlight, true);
+        this.maxQueue = maxQueue;
+        this.queueTimeout = queueTimeout;
+        this.callTimeout = callTimeout;
+        this.circuitBreaker = circuitBreaker;
+
+        Gauge.builder("ai.bulkhead.in-flight", inFlight, AtomicInteger::get)
+                .description("실행 중인 AI 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.bulkhead.queue", waiting, AtomicInteger::get)
+                .description("실행 자리를 기다리는 AI 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.circuit.open", circuitBreaker, cb -> cb.state() == AiCircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("AI 서킷 브레이커 열림 여부 (1: 열림/시험 중)")
+                .register(meterRegistry);
+        this.queueFullCounter = rejected(meterRegistry, "queue_full");
+        this.queueTimeoutCounter = rejected(meterRegistry, "queue_timeout");
+        this.circuitOpenCounter = rejected(meterRegistry, "circuit_open");
+        this.callTimeoutCounter = rejected(meterRegistry, "call_timeout");
+    }
+
+    @Override
+    public String complete(String content, String prompt) {
+        return execute(() -> delegate.complete(content, prompt), null);
+    }
+
+    @Override
+    public String stream(String content, String prompt, Consumer<String> onDelta) {
+        DeltaRelay relay = new DeltaRelay(onDelta);
+        return execute(() -> delegate.stream(content, prompt, relay), relay);
+    }
+
+    @Override
+    public String stream(String content, String prompt, AiOutputSchema schema, Consumer<String> onDelta) {
+        DeltaRelay relay = new DeltaRelay(onDelta);
+        return execute(() -> delegate.stream(content, prompt, schema, relay), relay);
+    }
+
+    @Override
+    public String model() {
+        return delegate.model();
+    }
+
+    @Override
+    public boolean available() {
+        return delegate.available();
+    }
+
+    // relay: 스트리밍 호출의 조각 전달 통로 - 기한을 넘기면 닫음 (complete는 null)
+    private String execute(Supplier<String> call, DeltaRelay relay) {
+        acquirePermit();
+        if (!circuitBreaker.tryAcquire()) {
+            permits.release();
+            circuitOpenCounter.increment();
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        }
+
+        Future<String> future;
+        try {
+            inFlight.incrementAndGet();
+            future = executor.submit(() -> {
+                try {
+                    return call.get();
+                } finally {
+                    inFlight.decrementAndGet();
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            permits.release();
+            throw e;
+        }
+
+        try {
+            String result = future.get(callTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            abandon(future, relay);
+            circuitBreaker.onFailure();
+            callTimeoutCounter.increment();
+            log.warn("AI 호출 시간 초과: {}ms", callTimeout.toMillis());
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            log.warn("AI 호출 실패: {}", e.getCause().toString());
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            abandon(future, relay);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        }
+    }
+
+    // 더 기다리지 않는 호출 - 조각 전달을 먼저 끊고 호출 스레드 중단
+    private static void abandon(Future<String> future, DeltaRelay relay) {
+        if (relay != null) {
+            relay.close();
+        }
+        future.cancel(true);
+    }
+
+    // 닫힌 뒤에 도착한 조각은 버리는 onDelta 래퍼 - close가 끝나면 전달 중인 조각도 없음
+    private static final class DeltaRelay implements Consumer<String> {
+        private final Consumer<String> onDelta;
+        private boolean closed;
+
+        private DeltaRelay(Consumer<String> onDelta) {
+            this.onDelta = onDelta;
+        }
+
+        @Override
+        public synchronized void accept(String delta) {
+            if (!closed) {
+                onDelta.accept(delta);
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+        }
+    }
+
+    // 실행 자리 확보 - 바로 없으면 대기열에서 queue-timeout까지 대기, 대기열이 가득 차면 즉시 거절
+    private void acquirePermit() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            queueFullCounter.increment();
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        }
+
+        try {
+            if (!permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                queueTimeoutCounter.increment();
+                throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("ai.bulkhead.rejected")
+                .description("벌크헤드/서킷 브레이커가 거절한 AI 호출 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,266 @@
+package com.backend.domain.evaluation.service.impl;
+
+import com.backend.domain.evaluation.service.AiGateway;
+import com.backend.domain.evaluation.service.AiOutputSchema;
+import com.backend.global.cache.TtlLruCache;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/* AI 응답 캐시 (AiGateway 데코레이터)
+ * 키: 모델 + 정규화한 프롬프트/본문의 SHA-256 - 줄바꿈 형식과 줄 끝 공백만 다른 요청은 같은 키
+ * 인메모리 LRU → Redis(선택) 순으로 조회하고, 같은 키를 동시에 요청하면 한 번만 호출해 결과를 나눠 받음
+ * 실패한 호출은 저장하지 않고, 호출 측에서 파싱하지 못한 응답은 invalidate로 지움
+ * 먼저 요청한 호출을 기다리는 호출은 벌크헤드와 같은 기한(queue-timeout + call-timeout)까지만 기다림
+ * @Primary로 등록되어 AiService 등에는 이 빈이 주입되고, 캐시에 없으면 BulkheadAiGateway를 거쳐 실제 게이트웨이(OpenAi/Noop)에 위임 */
+@Slf4j
+@Primary
+@Service
+public class CachingAiGateway implements AiGateway {
+    private static final String KEY_PREFIX = "ai:completion:";
+
+    private final AiGateway delegate;
+    private final TtlLruCache<String, String> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final Duration ttl;
+    private final Duration followerTimeout;
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+
+    public CachingAiGateway(
+            @Qualifier("guardedAiGateway") AiGateway delegate,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ai.cache.enabled:true}") boolean enabled,
+            @Value("${ai.cache.max-entries:500}") int maxEntries,
+            @Value("${ai.cache.ttl:PT24H}") Duration ttl,
+            @Value("${ai.cache.redis.enabled:false}") boolean redisEnabled,
+            @Value("${ai.bulkhead.queue-timeout:PT10S}") Duration queueTimeout,
+            @Value("${ai.bulkhead.call-timeout:PT90S}") Duration callTimeout
+    ) {
+        this.delegate = delegate;
+        this.localCache = new TtlLruCache<>(maxEntries, ttl);
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.ttl = ttl;
+        this.followerTimeout = queueTimeout.plus(callTimeout);
+
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.missCounter = counter(meterRegistry, "miss");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+    }
+
+    @Override
+    public String complete(String content, String prompt) {
+        if (!enabled) {
+            return delegate.complete(content, prompt);
+        }
+        return cached(key(content, prompt), () -> delegate.complete(content, prompt), null);
+    }
+
+    // 캐시에서 찾으면 전체 응답을 한 번에 전달, 아니면 위임 게이트웨이의 스트리밍을 그대로 중계
+    @Override
+    public String stream(String content, String prompt, Consumer<String> onDelta) {
+        if (!enabled) {
+            return delegate.stream(content, prompt, onDelta);
+        }
+        return cached(key(content, prompt), () -> delegate.stream(content, prompt, onDelta), onDelta);
+    }
+
+    // 스키마가 다르면 응답 형식도 다르므로 스키마 이름을 키에 포함
+    @Override
+    public String stream(String content, String prompt, AiOutputSchema schema, Consumer<String> onDelta) {
+        if (!enabled) {
+            return delegate.stream(content, prompt, schema, onDelta);
+        }
+        return cached(schemaKey(content, prompt, schema),
+                () -> delegate.stream(content, prompt, schema, onDelta), onDelta);
+    }
+
+    private String schemaKey(String content, String prompt, AiOutputSchema schema) {
+        return key(content, "[schema:" + schema.name() + "]\n" + prompt);
+    }
+
+    @Override
+    public void invalidate(String content, String prompt, AiOutputSchema schema) {
+        if (!enabled) {
+            return;
+        }
+        String key = schemaKey(content, prompt, schema);
+        localCache.invalidate(key);
+        if (redisEnabled) {
+            deleteRedis(key);
+        }
+        log.debug("파싱할 수 없는 AI 응답 캐시 제거: {}", schema.name());
+    }
+
+    private String cached(String key, Supplier<String> loader, Consumer<String> onDelta) {
+        String cached = find(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return replay(cached, onDelta);
+        }
+
+        // 같은 키를 먼저 요청한 호출이 있으면 그 결과를 기다림
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            coalescedCounter.increment();
+            return replay(await(running), onDelta);
+        }
+
+        missCounter.increment();
+        try {
+            String result = loader.get();
+            store(key, result);
+            call.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private String replay(String result, Consumer<String> onDelta) {
+        if (onDelta != null && result != null && !result.isEmpty()) {
+            onDelta.accept(result);
+        }
+        return result;
+    }
+
+    @Override
+    public String model() {
+        return delegate.model();
+    }
+
+    @Override
+    public boolean available() {
+        return delegate.available();
+    }
+
+    private String find(String key) {
+        String local = localCache.get(key);
+        if (local != null || !redisEnabled) {
+            return local;
+        }
+
+        String remote = readRedis(key);
+        if (remote != null) {
+            localCache.put(key, remote);
+        }
+        return remote;
+    }
+
+    private void store(String key, String result) {
+        if (result == null) {
+            return;
+        }
+        localCache.put(key, result);
+        if (redisEnabled) {
+            writeRedis(key, result);
+        }
+    }
+
+    private String await(CompletableFuture<String> running) {
+        try {
+            return running.get(followerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        } catch (TimeoutException e) {
+            log.warn("먼저 요청한 AI 호출 대기 시간 초과: {}ms", followerTimeout.toMillis());
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        }
+    }
+
+    String key(String content, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(delegate.model().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(prompt).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(content).getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 줄바꿈(\r\n → \n) 통일, 줄 끝 공백과 앞뒤 공백 제거
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\r\n", "\n")
+                .replace('\r', '\n')
+                .replaceAll("[ \\t]+\n", "\n")
+                .strip();
+    }
+
+    private String readRedis(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 Redis 조회 실패 (무시): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, String value) {
+        try {
+            redisTemplate.opsForValue().set(key, value, ttl);
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 Redis 저장 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    private void deleteRedis(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 Redis 삭제 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.completion.cache")
+                .description("AI 응답 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
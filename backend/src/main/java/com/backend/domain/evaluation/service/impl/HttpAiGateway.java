@@ -0,0 +1,88 @@
+package com.backend.domain.evaluation.service.impl;
+
+import com.backend.domain.evaluation.service.AiGateway;
+import com.backend.domain.evaluation.service.AiOutputSchema;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/* HTTP로 연결하는 AI 백엔드 (자체 호스팅 모델 프록시, 테스트용 스텁 서버 등)
+ * 요청: POST {url} {"content": "...", "prompt": "...", "schema": {"name": "...", "schema": {...}}}  (schema는 구조화 출력일 때만)
+ * 응답: 2xx {"result": "..."} - 그 외 상태 코드는 실패 */
+class HttpAiGateway implements AiGateway {
+    private final URI uri;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+    private final Duration timeout;
+
+    HttpAiGateway(String url, ObjectMapper objectMapper, Duration timeout) {
+        this.uri = URI.create(url);
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    @Override
+    public String complete(String content, String prompt) {
+        return call(content, prompt, null);
+    }
+
+    @Override
+    public String stream(String content, String prompt, AiOutputSchema schema, Consumer<String> onDelta) {
+        String result = call(content, prompt, schema);
+        if (result != null && !result.isEmpty()) {
+            onDelta.accept(result);
+        }
+        return result;
+    }
+
+    @Override
+    public String model() {
+        return "http:" + uri;
+    }
+
+    private String call(String content, String prompt, AiOutputSchema schema) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("content", content);
+        body.put("prompt", prompt);
+        if (schema != null) {
+            body.put("schema", Map.of("name", schema.name(), "schema", schema.jsonSchema()));
+        }
+
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("AI 백엔드 응답 오류: " + uri + " - HTTP " + response.statusCode());
+            }
+            JsonNode result = objectMapper.readTree(response.body()).path("result");
+            if (!result.isTextual()) {
+                throw new IllegalStateException("AI 백엔드 응답에 result가 없음: " + uri);
+            }
+            return result.asText();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 백엔드 호출 중단: " + uri, e);
+        }
+    }
+}
@@ -1,25 +1,32 @@
 package com.backend.domain.evaluation.service.impl;
 
 import com.backend.domain.evaluation.service.AiGateway;
+import com.backend.domain.evaluation.service.AiOutputSchema;
 import com.openai.client.OpenAIClient;
+import com.openai.core.JsonValue;
+import com.openai.core.http.StreamResponse;
 import com.openai.models.ChatModel;
 import com.openai.models.responses.*;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression; // ★ import
 import org.springframework.stereotype.Service;
 
-import java.lang.reflect.Method;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Service
+@Qualifier("aiBackend")
 @ConditionalOnExpression("T(org.springframework.util.StringUtils).hasText(environment['openai.api.key'])")
 @RequiredArgsConstructor
 public class OpenAiGateway implements AiGateway {
+    private static final ChatModel MODEL = ChatModel.GPT_5_NANO;
 
     private final OpenAIClient client;
 
@@ -28,6 +35,58 @@ public class OpenAiGateway implements AiGateway {
 
     @Override
     public String complete(String content, String prompt) {
+        Response res = client.responses().create(params(content, prompt, null));
+
+        String joined = extractOutputText(res);
+        if (!joined.isEmpty()) return joined;
+
+        return String.valueOf(res);
+    }
+
+    /* 스트리밍 응답 - 텍스트 델타 이벤트가 올 때마다 onDelta로 전달
+     * 델타가 하나도 없으면 완료 이벤트의 전체 응답에서 텍스트 추출 */
+    @Override
+    public String stream(String content, String prompt, Consumer<String> onDelta) {
+        return stream(params(content, prompt, null), onDelta);
+    }
+
+    // 구조화 출력 - 응답 형식을 JSON Schema(strict)로 고정
+    @Override
+    public String stream(String content, String prompt, AiOutputSchema schema, Consumer<String> onDelta) {
+        return stream(params(content, prompt, schema), onDelta);
+    }
+
+    private String stream(ResponseCreateParams params, Consumer<String> onDelta) {
+        StringBuilder text = new StringBuilder();
+        Response completed = null;
+
+        try (StreamResponse<ResponseStreamEvent> events = client.responses().createStreaming(params)) {
+            Iterator<ResponseStreamEvent> it = events.stream().iterator();
+            while (it.hasNext()) {
+                ResponseStreamEvent event = it.next();
+                Optional<ResponseTextDeltaEvent> delta = event.outputTextDelta();
+                if (delta.isPresent()) {
+                    String chunk = delta.get().delta();
+                    text.append(chunk);
+                    onDelta.accept(chunk);
+                } else if (event.completed().isPresent()) {
+                    completed = event.completed().get().response();
+                }
+            }
+        }
+
+        if (!text.isEmpty()) return text.toString().trim();
+        String joined = extractOutputText(completed);
+        if (!joined.isEmpty()) onDelta.accept(joined);
+        return joined;
+    }
+
+    @Override
+    public String model() {
+        return MODEL.asString();
+    }
+
+    private ResponseCreateParams params(String content, String prompt, AiOutputSchema schema) {
         String input = """
                 [SYSTEM PROMPT]
                 %s
@@ -42,23 +101,26 @@ public class OpenAiGateway implements AiGateway {
                 content == null ? "" : content
         );
 
-        var params = ResponseCreateParams.builder()
-                .model(ChatModel.GPT_5_NANO)
-                .input(input)
-                .build();
-
-        Response res = client.responses().create(params);
+        ResponseCreateParams.Builder builder = ResponseCreateParams.builder()
+                .model(MODEL)
+                .input(input);
+        if (schema != null) {
+            builder.text(textFormat(schema));
+        }
+        return builder.build();
+    }
 
-        try {
-            Method m = res.getClass().getMethod("outputText");
-            Object out = m.invoke(res);
-            if (out instanceof String s && !s.trim().isEmpty()) return s.trim();
-        } catch (Throwable ignore) {}
+    private static ResponseTextConfig textFormat(AiOutputSchema schema) {
+        ResponseFormatTextJsonSchemaConfig.Schema.Builder jsonSchema = ResponseFormatTextJsonSchemaConfig.Schema.builder();
+        schema.jsonSchema().forEach((key, value) -> jsonSchema.putAdditionalProperty(key, JsonValue.from(value)));
 
-        String joined = extractOutputText(res);
-        if (!joined.isEmpty()) return joined;
-
-        return String.valueOf(res);
+        return ResponseTextConfig.builder()
+                .format(ResponseFormatTextJsonSchemaConfig.builder()
+                        .name(schema.name())
+                        .schema(jsonSchema.build())
+                        .strict(true)
+                        .build())
+                .build();
     }
 
     private static String extractOutputText(Response res) {
@@ -0,0 +1,350 @@
+package com.backend.domain.evaluation.service.impl;
+
+import com.backend.domain.evaluation.service.AiGateway;
+import com.backend.domain.evaluation.service.AiOutputSchema;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/* 여러 AI 백엔드 중 응답이 가장 빠른 정상 백엔드로 호출을 보내는 라우터
+ * - 백엔드: aiBackend 빈(OpenAI 또는 Noop) + ai.router.http-backends에 적은 HTTP 백엔드
+ *   (호출할 수 없는 백엔드(Noop)는 다른 백엔드가 있으면 제외)
+ * - 백엔드마다 지연 시간/오류율 EWMA를 기록 (BackendStats), 정상 백엔드 중 지연 시간이 가장 짧은 순으로 선택
+ * - complete: 첫 백엔드가 p95 지연 시간 안에 응답하지 않으면 다음 백엔드에 헤지 요청, 먼저 성공한 응답 사용 (진 쪽은 취소)
+ *   첫 백엔드가 바로 실패하면 다음 백엔드로 재시도
+ * - stream: complete와 같이 헤지/재시도하되, 조각은 먼저 조각을 보낸(또는 먼저 끝난) 백엔드 것만 전달
+ *   조각을 보내기 시작한 백엔드가 있으면 다른 호출은 취소하고, 그 백엔드가 실패하면 재시도하지 않음
+ * BulkheadAiGateway → RoutingAiGateway → 각 백엔드 순서로 연결 */
+@Slf4j
+@Service
+@Qualifier("routedAiGateway")
+public class RoutingAiGateway implements AiGateway {
+    private final List<Backend> backends;
+    private final boolean hedgeEnabled;
+    private final Duration hedgeMinDelay;
+    private final Duration hedgeInitialDelay;
+    private final int hedgeMinSamples;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter hedgedCounter;
+    private final Counter failoverCounter;
+
+    private record Backend(AiGateway gateway, BackendStats stats) {
+    }
+
+    public RoutingAiGateway(
+            @Qualifier("aiBackend") List<AiGateway> backends,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.router.http-backends:}") List<String> httpBackends,
+            @Value("${ai.router.http-timeout:PT60S}") Duration httpTimeout,
+            @Value("${ai.router.ewma-alpha:0.2}") double ewmaAlpha,
+            @Value("${ai.router.error-threshold:0.5}") double errorThreshold,
+            @Value("${ai.router.recovery-after:PT30S}") Duration recoveryAfter,
+            @Value("${ai.router.hedge.enabled:true}") boolean hedgeEnabled,
+            @Value("${ai.router.hedge.min-delay:PT2S}") Duration hedgeMinDelay,
+            @Value("${ai.router.hedge.initial-delay:PT30S}") Duration hedgeInitialDelay,
+            @Value("${ai.router.hedge.min-samples:20}") int hedgeMinSamples
+    ) {
+        List<AiGateway> gateways = new ArrayList<>(backends);
+        httpBackends.stream()
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .forEach(url -> gateways.add(new HttpAiGateway(url, objectMapper, httpTimeout)));
+
+        this.backends = gateways.stream()
+                .map(gateway -> new Backend(gateway, new BackendStats(ewmaAlpha, errorThreshold, recoveryAfter, Clock.systemUTC())))
+                .toList();
+        if (this.backends.isEmpty()) {
+            throw new IllegalStateException("AI 백엔드가 없습니다");
+        }
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgeInitialDelay = hedgeInitialDelay;
+        this.hedgeMinSamples = hedgeMinSamples;
+
+        for (Backend backend : this.backends) {
+            Gauge.builder("ai.router.latency", backend.stats(), BackendStats::latencyMillis)
+                    .description("AI 백엔드 응답 시간 EWMA (ms)")
+                    .tag("backend", backend.gateway().model())
+                    .register(meterRegistry);
+            Gauge.builder("ai.router.error-rate", backend.stats(), BackendStats::errorRate)
+                    .description("AI 백엔드 오류율 EWMA")
+                    .tag("backend", backend.gateway().model())
+                    .register(meterRegistry);
+        }
+        this.hedgedCounter = Counter.builder("ai.router.hedged")
+                .description("p95 지연 시간을 넘겨 다른 백엔드에 보낸 헤지 요청 수")
+                .register(meterRegistry);
+        this.failoverCounter = Counter.builder("ai.router.failover")
+                .description("백엔드 실패로 다음 백엔드에 다시 보낸 요청 수")
+                .register(meterRegistry);
+
+        log.info("AI 라우터 백엔드: {}", this.backends.stream().map(b -> b.gateway().model()).toList());
+    }
+
+    @Override
+    public String complete(String content, String prompt) {
+        List<Backend> ranked = rank();
+        Function<AiGateway, String> call = gateway -> gateway.complete(content, prompt);
+
+        CompletableFuture<String> primary = submit(ranked.get(0), call);
+        if (ranked.size() == 1) {
+            return await(primary);
+        }
+
+        CompletableFuture<String> hedge = null;
+        try {
+            return primary.get(hedgeDelay(ranked.get(0)).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            hedgedCounter.increment();
+            log.debug("AI 응답 지연, 헤지 요청: {} → {}", ranked.get(0).gateway().model(), ranked.get(1).gateway().model());
+            hedge = submit(ranked.get(1), call);
+            return await(firstSuccessful(primary, hedge));
+        } catch (ExecutionException e) {
+            failoverCounter.increment();
+            log.warn("AI 백엔드 실패, 다음 백엔드로 재시도: {} - {}", ranked.get(0).gateway().model(), e.getCause().getMessage());
+            hedge = submit(ranked.get(1), call);
+            return await(hedge);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public String stream(String content, String prompt, Consumer<String> onDelta) {
+        return hedgedStream(onDelta, (gateway, delta) -> gateway.stream(content, prompt, delta));
+    }
+
+    @Override
+    public String stream(String content, String prompt, AiOutputSchema schema, Consumer<String> onDelta) {
+        return hedgedStream(onDelta, (gateway, delta) -> gateway.stream(content, prompt, schema, delta));
+    }
+
+    // 응답 캐시 키 구분용 - 어느 백엔드가 응답하든 같은 라우터 구성이면 같은 값
+    @Override
+    public String model() {
+        return backends.stream().map(b -> b.gateway().model()).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public boolean available() {
+        return backends.stream().anyMatch(b -> b.gateway().available());
+    }
+
+    // 호출 가능한 백엔드 중 정상 → 지연 시간 짧은 순 (모두 호출할 수 없으면 전체)
+    private List<Backend> rank() {
+        List<Backend> candidates = backends.stream().filter(b -> b.gateway().available()).toList();
+        if (candidates.isEmpty()) {
+            candidates = backends;
+        }
+        return candidates.stream()
+                .sorted(Comparator.comparing((Backend b) -> !b.stats().healthy())
+                        .thenComparingDouble(b -> b.stats().latencyMillis()))
+                .toList();
+    }
+
+    // 표본이 충분하면 p95 (최소 min-delay), 부족하면 initial-delay
+    private Duration hedgeDelay(Backend backend) {
+        if (!hedgeEnabled) {
+            return Duration.ofMillis(Long.MAX_VALUE);
+        }
+        if (backend.stats().samples() < hedgeMinSamples) {
+            return hedgeInitialDelay;
+        }
+        Duration p95 = Duration.ofMillis(backend.stats().p95Millis());
+        return p95.compareTo(hedgeMinDelay) < 0 ? hedgeMinDelay : p95;
+    }
+
+    /* 백엔드 호출을 별도 가상 스레드에서 실행하고 결과를 통계에 기록
+     * 반환된 future를 취소하면 호출 스레드도 중단 (헤지에 진 호출) */
+    private CompletableFuture<String> submit(Backend backend, Function<AiGateway, String> call) {
+        return submit(backend, new CompletableFuture<>(), call);
+    }
+
+    private CompletableFuture<String> submit(Backend backend, CompletableFuture<String> result, Function<AiGateway, String> call) {
+        Future<?> task = executor.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                String value = call.apply(backend.gateway());
+                backend.stats().onSuccess(elapsedMillis(start));
+                result.complete(value);
+            } catch (Throwable t) {
+                if (result.isCancelled()) {
+                    backend.stats().onCancelled(elapsedMillis(start));
+                } else {
+                    backend.stats().onFailure(elapsedMillis(start));
+                    result.completeExceptionally(t);
+                }
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    // 둘 중 먼저 성공한 결과, 둘 다 실패하면 나중 실패
+    private static CompletableFuture<String> firstSuccessful(CompletableFuture<String> a, CompletableFuture<String> b) {
+        CompletableFuture<String> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<String> future : List.of(a, b)) {
+            future.whenComplete((value, error) -> {
+                if (error == null) {
+                    winner.complete(value);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    /* 스트리밍 헤지 - 각 호출의 조각은 owner로 정해진 호출 것만 onDelta로 전달
+     * owner는 처음 조각을 보내거나 처음 성공한 호출, 정해지면 나머지 호출은 취소 */
+    private String hedgedStream(Consumer<String> onDelta, StreamCall call) {
+        List<Backend> ranked = rank();
+        AtomicReference<CompletableFuture<String>> owner = new AtomicReference<>();
+        List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> primary = submitStream(ranked.get(0), call, onDelta, owner, attempts);
+        if (ranked.size() == 1) {
+            return await(primary);
+        }
+
+        CompletableFuture<String> hedge = null;
+        try {
+            return primary.get(hedgeDelay(ranked.get(0)).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (owner.get() == primary) {
+                // 이미 조각을 보내는 중 - 느려도 끝까지 기다림
+                return await(primary);
+            }
+            hedgedCounter.increment();
+            log.debug("AI 스트리밍 응답 지연, 헤지 요청: {} → {}", ranked.get(0).gateway().model(), ranked.get(1).gateway().model());
+            hedge = submitStream(ranked.get(1), call, onDelta, owner, attempts);
+            return await(firstOwned(primary, hedge, owner));
+        } catch (ExecutionException e) {
+            if (owner.get() == primary) {
+                // 조각을 일부 보낸 뒤 실패 - 다른 백엔드 응답을 이어 붙일 수 없음
+                return await(primary);
+            }
+            failoverCounter.increment();
+            log.warn("AI 백엔드 스트리밍 실패, 다음 백엔드로 재시도: {} - {}", ranked.get(0).gateway().model(), e.getCause().getMessage());
+            hedge = submitStream(ranked.get(1), call, onDelta, owner, attempts);
+            return await(hedge);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private CompletableFuture<String> submitStream(Backend backend, StreamCall call, Consumer<String> onDelta,
+                                                   AtomicReference<CompletableFuture<String>> owner,
+                                                   List<CompletableFuture<String>> attempts) {
+        CompletableFuture<String> self = new CompletableFuture<>();
+        attempts.add(self);
+        Consumer<String> gate = delta -> {
+            if (claim(owner, self, attempts)) {
+                onDelta.accept(delta);
+            }
+        };
+        return submit(backend, self, gateway -> call.stream(gateway, gate));
+    }
+
+    // owner가 비어 있으면 self로 정하고 나머지 호출 취소 - self가 owner면 true
+    private static boolean claim(AtomicReference<CompletableFuture<String>> owner, CompletableFuture<String> self,
+                                 List<CompletableFuture<String>> attempts) {
+        if (owner.compareAndSet(null, self)) {
+            attempts.stream().filter(other -> other != self).forEach(other -> other.cancel(true));
+            return true;
+        }
+        return owner.get() == self;
+    }
+
+    // 둘 중 owner인 호출의 성공 결과, owner가 아닌 호출의 결과는 실패로 취급
+    private static CompletableFuture<String> firstOwned(CompletableFuture<String> a, CompletableFuture<String> b,
+                                                        AtomicReference<CompletableFuture<String>> owner) {
+        CompletableFuture<String> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<String>> attempts = List.of(a, b);
+        for (CompletableFuture<String> future : attempts) {
+            future.whenComplete((value, error) -> {
+                if (error == null && claim(owner, future, attempts)) {
+                    winner.complete(value);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error != null ? error : new BusinessException(ErrorCode.AI_UNAVAILABLE));
+                }
+            });
+        }
+        return winner;
+    }
+
+    @FunctionalInterface
+    private interface StreamCall {
+        String stream(AiGateway gateway, Consumer<String> onDelta);
+    }
+
+    private static String await(CompletableFuture<String> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
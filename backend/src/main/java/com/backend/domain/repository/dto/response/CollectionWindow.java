@@ -0,0 +1,92 @@
+package com.backend.domain.repository.dto.response;
+
+import com.backend.domain.repository.dto.response.github.CommitResponse;
+import com.backend.domain.repository.dto.response.github.IssueResponse;
+import com.backend.domain.repository.dto.response.github.PullRequestResponse;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/* 분석 기간 안의 원본 목록 - 증분 수집 시 새로 받은 변경분을 합친 뒤 매퍼에 다시 넣음
+ * 커밋은 최신순, 이슈/PR은 생성일 내림차순 (전체 수집 결과와 같은 순서) */
+public record CollectionWindow(
+        List<CommitResponse> commits,
+        List<IssueResponse> issues,
+        List<PullRequestResponse> pullRequests
+) {
+    // 새 커밋을 앞에 붙이고 중복(SHA)과 기간 밖 커밋 제거
+    public List<CommitResponse> mergeCommits(List<CommitResponse> delta, Instant since, int maxItems) {
+        Set<String> seen = new HashSet<>();
+        return Stream.concat(delta.stream(), commits.stream())
+                .filter(commit -> commit.sha() == null || seen.add(commit.sha()))
+                .filter(commit -> isAfter(commitDate(commit), since))
+                .limit(maxItems)
+                .toList();
+    }
+
+    // 수정된 이슈로 교체(번호 기준)하고 생성일이 기간 밖인 이슈 제거
+    public List<IssueResponse> mergeIssues(List<IssueResponse> delta, Instant createdAfter, int maxItems) {
+        return mergeByNumber(issues, delta, IssueResponse::number, IssueResponse::created_at, createdAfter, maxItems);
+    }
+
+    public List<PullRequestResponse> mergePullRequests(List<PullRequestResponse> delta, Instant createdAfter, int maxItems) {
+        return mergeByNumber(pullRequests, delta, PullRequestResponse::number, PullRequestResponse::created_at, createdAfter, maxItems);
+    }
+
+    // 가장 최근 수정 시각 - 다음 증분 수집의 since
+    public static <T> Instant newestUpdate(List<T> items, Function<T, String> updatedAt) {
+        return items.stream()
+                .map(updatedAt)
+                .map(CollectionWindow::parse)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    public static Instant parse(String dateTime) {
+        if (dateTime == null || dateTime.isBlank()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(dateTime).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static <T> List<T> mergeByNumber(List<T> previous, List<T> delta, Function<T, Long> number,
+                                             Function<T, String> createdAt, Instant createdAfter, int maxItems) {
+        Map<Long, T> merged = new LinkedHashMap<>();
+        previous.forEach(item -> merged.put(number.apply(item), item));
+        delta.forEach(item -> merged.put(number.apply(item), item));
+
+        Comparator<T> newestFirst = Comparator.comparing(item -> parse(createdAt.apply(item)),
+                Comparator.nullsLast(Comparator.<Instant>reverseOrder()));
+        return merged.values().stream()
+                .filter(item -> isAfter(parse(createdAt.apply(item)), createdAfter))
+                .sorted(newestFirst)
+                .limit(maxItems)
+                .toList();
+    }
+
+    private static Instant commitDate(CommitResponse commit) {
+        if (commit.commit() == null || commit.commit().author() == null) {
+            return null;
+        }
+        return parse(commit.commit().author().date());
+    }
+
+    private static boolean isAfter(Instant value, Instant bound) {
+        return value != null && value.isAfter(bound);
+    }
+}
@@ -45,6 +45,9 @@ public class RepositoryData {
     private List<String> cicdFiles;
     private boolean hasDockerfile;
 
+    // 트리 항목이 최대 개수를 넘어 일부 경로만 반영됨 - 보안/테스트/CI/CD 지표는 부분 트리 기준
+    private boolean treeTruncated;
+
     // ===== 6. 커뮤니티 활성도 (Community) =====
     private int issueCountLast6Months;
     private int closedIssueCountLast6Months;
@@ -53,6 +56,32 @@ public class RepositoryData {
     private List<IssueInfo> recentIssues;
     private List<PullRequestInfo> recentPullRequests;
 
+    // ===== 증분 수집 - 바뀌지 않은 단계의 값을 이전 수집 결과에서 복사 =====
+    // 문서화 품질 (README)
+    public void copyReadmeInfoFrom(RepositoryData previous) {
+        this.hasReadme = previous.hasReadme;
+        this.readmeLength = previous.readmeLength;
+        this.readmeSectionCount = previous.readmeSectionCount;
+        this.readmeSectionTitles = previous.readmeSectionTitles;
+        this.readmeContent = previous.readmeContent;
+    }
+
+    // 보안/테스트/CI/CD (트리)
+    public void copyTreeInfoFrom(RepositoryData previous) {
+        this.hasSensitiveFile = previous.hasSensitiveFile;
+        this.sensitiveFilePaths = previous.sensitiveFilePaths;
+        this.hasBuildFile = previous.hasBuildFile;
+        this.buildFiles = previous.buildFiles;
+        this.hasTestDirectory = previous.hasTestDirectory;
+        this.testFileCount = previous.testFileCount;
+        this.sourceFileCount = previous.sourceFileCount;
+        this.testCoverageRatio = previous.testCoverageRatio;
+        this.hasCICD = previous.hasCICD;
+        this.cicdFiles = previous.cicdFiles;
+        this.hasDockerfile = previous.hasDockerfile;
+        this.treeTruncated = previous.treeTruncated;
+    }
+
     // ===== 내부 클래스 (상세 정보) =====
     @Data
     public static class CommitInfo {
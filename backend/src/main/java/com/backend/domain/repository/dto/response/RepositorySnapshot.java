@@ -0,0 +1,36 @@
+package com.backend.domain.repository.dto.response;
+
+import com.backend.domain.repository.dto.response.github.RepoResponse;
+import com.backend.domain.repository.entity.CollectionWatermark;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.Map;
+
+// GitHub 수집 단계 결과 묶음 - 저장소 메타정보 + 매핑된 분석 데이터 + 사용 언어
+public record RepositorySnapshot(
+        RepoResponse repoInfo,
+        RepositoryData data,
+        Map<String, Integer> languages,
+        CollectionWatermark watermark, // 증분 수집 기준 (HEAD SHA를 알 수 없으면 null)
+        CollectionWindow window,       // 증분 수집 시 변경분을 합칠 원본 목록
+        boolean partial                // 호출 한도 부족 등으로 생략된 단계가 있음 - 캐시/증분 수집 기준으로 쓰지 않음
+) {
+    public RepositorySnapshot(RepoResponse repoInfo, RepositoryData data, Map<String, Integer> languages) {
+        this(repoInfo, data, languages, null, null, false);
+    }
+
+    public RepositorySnapshot(RepoResponse repoInfo, RepositoryData data, Map<String, Integer> languages,
+                              CollectionWatermark watermark, CollectionWindow window) {
+        this(repoInfo, data, languages, watermark, window, false);
+    }
+
+    public RepositorySnapshot withData(RepositoryData data) {
+        return new RepositorySnapshot(repoInfo, data, languages, watermark, window, partial);
+    }
+
+    // 다음 재분석에서 변경분만 수집할 수 있는지
+    @JsonIgnore
+    public boolean isIncrementalBase() {
+        return !partial && watermark != null && watermark.lastCommitSha() != null && window != null && data != null;
+    }
+}
@@ -2,8 +2,13 @@ package com.backend.domain.repository.dto.response.github;
 
 // commits 응답용 DTO
 public record CommitResponse(
+        String sha, // 증분 수집 시 중복 제거용
         CommitDetails commit
 ) {
+    public CommitResponse(CommitDetails commit) {
+        this(null, commit);
+    }
+
     public record CommitDetails(
             String message,
             AuthorDetails author
@@ -0,0 +1,17 @@
+package com.backend.domain.repository.dto.response.github;
+
+import java.util.List;
+
+/* compare(base...head) 응답용 DTO - 이전 HEAD가 새 HEAD의 조상인지 확인하고 그 사이 커밋을 받음
+ * status: ahead(base가 조상) / identical / behind / diverged, commits는 오래된 순 (최대 250개) */
+public record CompareResponse(
+        String status,
+        int total_commits,
+        List<CommitResponse> commits
+) {
+    // base가 head의 조상이고 그 사이 커밋을 모두 받았는지 - 아니면 전체 다시 수집
+    public boolean isCompleteFastForward() {
+        boolean fastForward = "ahead".equals(status) || "identical".equals(status);
+        return fastForward && commits != null && commits.size() >= total_commits;
+    }
+}
@@ -0,0 +1,9 @@
+package com.backend.domain.repository.dto.response.github;
+
+// git/commits 응답용 DTO - 커밋이 가리키는 루트 트리 SHA 확인용
+public record GitCommitResponse(
+        String sha,
+        Tree tree
+) {
+    public record Tree(String sha) {}
+}
@@ -7,8 +7,14 @@ public record IssueResponse(
         String state,
         String created_at,
         String closed_at,
-        PullRequest pull_request
+        PullRequest pull_request,
+        String updated_at // 증분 수집 기준 시각
 ) {
+    public IssueResponse(Long number, String title, String state, String created_at, String closed_at,
+                         PullRequest pull_request) {
+        this(number, title, state, created_at, closed_at, pull_request, null);
+    }
+
     public record PullRequest(String url) {}
 
     public boolean isPureIssue() {
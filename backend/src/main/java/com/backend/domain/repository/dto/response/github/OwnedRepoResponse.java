@@ -0,0 +1,13 @@
+package com.backend.domain.repository.dto.response.github;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// users/{username}/repos 응답용 DTO - 포트폴리오 분석 대상 선별용
+public record OwnedRepoResponse(
+        String name,
+        @JsonProperty("html_url") String htmlUrl,
+        @JsonProperty("private") boolean _private,
+        boolean fork,
+        boolean archived
+) {
+}
@@ -6,6 +6,10 @@ public record PullRequestResponse(
         String title,
         String state,
         String created_at,
-        String merged_at
+        String merged_at,
+        String updated_at // 증분 수집 기준 시각
 ) {
+    public PullRequestResponse(Long number, String title, String state, String created_at, String merged_at) {
+        this(number, title, state, created_at, merged_at, null);
+    }
 }
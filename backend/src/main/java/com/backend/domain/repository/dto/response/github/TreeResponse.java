@@ -9,6 +9,11 @@ public record TreeResponse(
 ) {
     public record TreeItem(
             String path,
-            String type
-    ) {}
+            String type,
+            String sha // 하위 트리 조회용 (type이 tree인 경우)
+    ) {
+        public TreeItem(String path, String type) {
+            this(path, type, null);
+        }
+    }
 }
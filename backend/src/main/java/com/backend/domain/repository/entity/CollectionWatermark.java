@@ -0,0 +1,17 @@
+package com.backend.domain.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.time.Instant;
+
+// 마지막 수집 시점 표시 - 재분석 시 이후 변경분만 받는 기준
+@Embeddable
+public record CollectionWatermark(
+        @Column(name = "last_commit_sha", length = 40) String lastCommitSha,
+        @Column(name = "tree_sha", length = 40) String treeSha,
+        @Column(name = "readme_sha", length = 40) String readmeSha,
+        @Column(name = "issues_updated_at") Instant issuesUpdatedAt,
+        @Column(name = "pull_requests_updated_at") Instant pullRequestsUpdatedAt
+) {
+}
@@ -59,6 +59,13 @@ public class Repositories extends BaseEntity {
     @OneToMany(mappedBy = "repositories", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RepositoryLanguage> languages = new ArrayList<>();
 
+    // 증분 재분석 기준 - 마지막 수집 시점과 그때의 수집 결과(JSON)
+    @Embedded
+    private CollectionWatermark watermark;
+
+    @Column(name = "collection_baseline", columnDefinition = "MEDIUMTEXT")
+    private String collectionBaseline;
+
     @Builder
     public Repositories(
             User user,
@@ -92,6 +99,11 @@ public class Repositories extends BaseEntity {
         this.mainBranch = repoInfo.defaultBranch();
     }
 
+    public void updateCollectionBaseline(CollectionWatermark watermark, String collectionBaseline) {
+        this.watermark = watermark;
+        this.collectionBaseline = collectionBaseline;
+    }
+
     public boolean isPublic() {
         return this.publicRepository;
     }
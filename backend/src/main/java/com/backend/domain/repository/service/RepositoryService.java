@@ -1,34 +1,57 @@
 package com.backend.domain.repository.service;
 
 import com.backend.domain.analysis.service.SseProgressNotifier;
+import com.backend.domain.repository.dto.response.CollectionWindow;
 import com.backend.domain.repository.dto.response.RepositoryData;
 import com.backend.domain.repository.dto.response.RepositoryResponse;
+import com.backend.domain.repository.dto.response.RepositorySnapshot;
 import com.backend.domain.repository.dto.response.github.*;
+import com.backend.domain.repository.entity.CollectionWatermark;
 import com.backend.domain.repository.entity.Language;
 import com.backend.domain.repository.entity.Repositories;
 import com.backend.domain.repository.entity.RepositoryLanguage;
 import com.backend.domain.repository.repository.RepositoryJpaRepository;
 import com.backend.domain.repository.repository.RepositoryLanguageRepository;
-import com.backend.domain.repository.service.fetcher.GitHubDataFetcher;
+import com.backend.domain.repository.service.cache.RepositorySingleFlight;
+import com.backend.domain.repository.service.cache.RepositorySnapshotCache;
+import com.backend.domain.repository.service.fetcher.ClonedRepository;
+import com.backend.domain.repository.service.fetcher.GitCloneCollector;
+import com.backend.domain.repository.service.fetcher.ReactiveGitHubDataFetcher;
 import com.backend.domain.repository.service.mapper.*;
 import com.backend.domain.user.entity.User;
 import com.backend.domain.user.repository.UserRepository;
 import com.backend.domain.user.util.JwtUtil;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.exception.ErrorCode;
+import com.backend.global.github.GitHubCredentialPool;
+import com.backend.global.github.GitHubRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -36,7 +59,8 @@ import java.util.Optional;
 public class RepositoryService {
 
     private final UserRepository userRepository;
-    private final GitHubDataFetcher gitHubDataFetcher;
+    private final ReactiveGitHubDataFetcher reactiveGitHubDataFetcher;
+    private final GitCloneCollector gitCloneCollector;
     private final RepositoriesMapper repositoriesMapper;
     private final RepositoryInfoMapper repositoryInfoMapper;
     private final CommitInfoMapper commitInfoMapper;
@@ -44,14 +68,35 @@ public class RepositoryService {
     private final SecurityInfoMapper securityInfoMapper;
     private final TestInfoMapper testInfoMapper;
     private final CicdInfoMapper cicdInfoMapper;
+    private final PathClassifier pathClassifier;
     private final IssueInfoMapper issueInfoMapper;
     private final PullRequestInfoMapper pullRequestInfoMapper;
     private final RepositoryJpaRepository repositoryJpaRepository;
     private final SseProgressNotifier sseProgressNotifier;
     private final RepositoryLanguageRepository repositoryLanguageRepository;
     private final JwtUtil jwtUtil;
+    private final RepositorySnapshotCache snapshotCache;
+    private final RepositorySingleFlight repositorySingleFlight;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 증분 수집 시 합친 목록의 최대 요소 수 (전체 수집과 같은 상한)
+    @Value("${github.pagination.max-items:1000}")
+    private int maxItems;
+
+    private static final long RATE_LIMIT_NOTICE_SECONDS = 3;
+    private static final String GITHUB_URL = "https://github.com/";
+
+    // 수집 단계별 진행 메시지 (프론트 단계 순서와 동일)
+    private static final List<String> COLLECTION_STEPS = List.of(
+            "커밋 히스토리 분석",
+            "문서화 품질 분석",
+            "보안 구성 분석",
+            "테스트 구성 분석",
+            "CI/CD 설정 분석",
+            "커뮤니티 활동 분석"
+    );
 
-    @Transactional
     public RepositoryData fetchAndSaveRepository(String owner, String repo, Long userId) {
         try {
             return fetchCompleteRepositoryData(owner, repo, userId);
@@ -63,62 +108,381 @@ public class RepositoryService {
         }
     }
 
-    // Github 저장소 데이터를 수집하고 DB에 저장 및 RepositoryData로 매핑
-    @Transactional
+    /* Github 저장소 데이터를 수집하고 DB에 저장 및 RepositoryData로 매핑
+     * GitHub 수집은 트랜잭션 밖에서 진행하고, Entity 저장만 짧은 트랜잭션으로 처리 */
     public RepositoryData fetchCompleteRepositoryData(String owner, String repo, Long userId) {
-        RepositoryData data = new RepositoryData();
+        // 사용자가 등록한 GitHub 토큰이 있으면 해당 토큰으로 수집 (없으면 서비스 토큰 풀 사용)
+        String userToken = userRepository.findById(userId)
+                .map(User::getGithubToken)
+                .orElse(null);
 
-        try {
-            // 1. 기본 정보 수집 및 매핑 + Repositories 테이블 저장
-            safeSendSse(userId, "status", "GitHub 연결 중");
-            RepoResponse repoInfo = gitHubDataFetcher.fetchRepositoryInfo(owner, repo);
-            validateRepositorySize(repoInfo.size());
-            repositoryInfoMapper.mapBasicInfo(data, repoInfo);
-
-            // 2. 커밋 데이터 수집 및 매핑
-            safeSendSse(userId, "status", "커밋 히스토리 분석");
-            ZonedDateTime ninetyDaysAgoUtc = ZonedDateTime.now(ZoneOffset.UTC).minus(90, ChronoUnit.DAYS);
-            String sinceParam = ninetyDaysAgoUtc.format(DateTimeFormatter.ISO_INSTANT);
-            List<CommitResponse> commits = gitHubDataFetcher.fetchCommitInfo(owner, repo, sinceParam);
-            commitInfoMapper.mapCommitInfo(data, commits);
-
-            // 3. README 데이터 수집 및 매핑
-            safeSendSse(userId, "status", "문서화 품질 분석");
-            String readme = gitHubDataFetcher.fetchReadmeContent(owner, repo).orElse("");
-            readmeInfoMapper.mapReadmeInfo(data, readme);
-
-            // 4. 보안 관리 데이터 수집 및 매핑
-            safeSendSse(userId, "status", "보안 구성 분석");
-            TreeResponse tree = gitHubDataFetcher.fetchRepositoryTreeInfo(owner, repo, repoInfo.defaultBranch()).orElse(null);
-            securityInfoMapper.mapSecurityInfo(data, tree);
-
-            // 5. 테스트 데이터 수집 및 매핑
-            safeSendSse(userId, "status", "테스트 구성 분석");
-            testInfoMapper.mapTestInfo(data, tree);
-
-            // 6. CI/CD 데이터 수집 및 매핑
-            safeSendSse(userId, "status", "CI/CD 설정 분석");
-            cicdInfoMapper.mapCicdInfo(data, tree);
-
-            // 7. 커뮤니티 활성도 데이터 수집 및 매핑
-            safeSendSse(userId, "status", "커뮤니티 활동 분석");
-            List<IssueResponse> issues = gitHubDataFetcher.fetchIssueInfo(owner, repo);
-            issueInfoMapper.mapIssueInfo(data, issues);
-            List<PullRequestResponse> prs = gitHubDataFetcher.fetchPullRequestInfo(owner, repo);
-            pullRequestInfoMapper.mapPullRequestInfo(data, prs);
-
-            // Entity 저장 로직
-            saveOrUpdateRepository(repoInfo, owner, repo, userId);
-
-            return data;
-        } catch (BusinessException e) {
-            safeSendSse(userId, "error", "❌ " + e.getErrorCode().getMessage());
-            throw e;
+        // 이전 분석의 수집 결과가 있으면 그 이후 변경분만 수집
+        RepositorySnapshot baseline = loadCollectionBaseline(owner, repo, userId);
 
+        // 수집 단계 전체가 논블로킹으로 진행되고, 저장 직전에 한 번만 결과를 기다림
+        // 실패 이벤트(SSE error)는 분석 작업(AnalysisJobService)에서 전송
+        RepositorySnapshot snapshot = collectRepositoryData(owner, repo, userId, baseline)
+                .contextWrite(context -> GitHubCredentialPool.withUserToken(context, userToken))
+                .block();
+        String collectionBaseline = serializeCollectionBaseline(snapshot);
+
+        // Entity 저장 로직
+        transactionTemplate.executeWithoutResult(status ->
+                saveOrUpdateRepository(snapshot, collectionBaseline, userId));
+
+        return snapshot.data();
+    }
+
+    // 저장된 이전 수집 결과 - 없거나 읽을 수 없으면 null (전체 수집)
+    private RepositorySnapshot loadCollectionBaseline(String owner, String repo, Long userId) {
+        return repositoryJpaRepository.findByHtmlUrlAndUserId(GITHUB_URL + owner + "/" + repo, userId)
+                .map(Repositories::getCollectionBaseline)
+                .map(json -> {
+                    try {
+                        return objectMapper.readValue(json, RepositorySnapshot.class);
+                    } catch (Exception e) {
+                        log.warn("이전 수집 결과 역직렬화 실패, 전체 수집: {}/{} - {}", owner, repo, e.getMessage());
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+
+    private String serializeCollectionBaseline(RepositorySnapshot snapshot) {
+        if (!snapshot.isIncrementalBase()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(snapshot);
         } catch (Exception e) {
-            safeSendSse(userId, "error", "❌ Repository 데이터 수집 실패: " + e.getMessage());
-            throw e;
+            log.warn("수집 결과 직렬화 실패 (다음 분석은 전체 수집): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /* GitHub 데이터 수집 파이프라인
+     * 0. HEAD 커밋 SHA 조회 - 같은 커밋의 수집 결과가 캐시에 있으면 이후 단계 생략
+     *    같은 저장소를 다른 요청이 수집 중이면 그 결과를 넘겨받음 (RepositorySingleFlight)
+     * 1. 기본 정보 수집 및 매핑
+     * 2~7. 이후 호출은 서로 독립적이므로 동시에 요청하고, 응답이 도착하는 대로 해당 매퍼를 실행
+     *      (매퍼마다 채우는 필드가 겹치지 않음)
+     * baseline(이전 분석의 수집 결과)이 있으면 그 기준 시점 이후 변경분만 받아 합침 */
+    public Mono<RepositorySnapshot> collectRepositoryData(String owner, String repo, Long userId,
+                                                          RepositorySnapshot baseline) {
+        return Mono.fromRunnable(() -> safeSendSse(userId, "status", "GitHub 연결 중"))
+                .then(reactiveGitHubDataFetcher.predictCollectionWait())
+                .doOnNext(wait -> notifyRateLimitWait(userId, wait))
+                .then(reactiveGitHubDataFetcher.fetchHeadSha(owner, repo)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()))
+                .flatMap(headSha -> headSha
+                        .map(sha -> snapshotCache.find(owner, repo, sha))
+                        .orElseGet(Mono::empty)
+                        .flatMap(snapshot -> replayCachedSnapshot(userId, snapshot))
+                        // 같은 저장소를 수집 중인 요청이 있으면 결과를 넘겨받음
+                        .switchIfEmpty(Mono.defer(() -> repositorySingleFlight.execute(
+                                owner, repo, headSha.orElse(null),
+                                () -> collectFromGitHub(owner, repo, userId, headSha.orElse(null), baseline)
+                                        .flatMap(snapshot -> storeSnapshot(owner, repo, headSha, snapshot)),
+                                () -> safeSendSse(userId, "status", "같은 저장소를 분석 중인 요청이 있어 결과를 기다리는 중"),
+                                snapshot -> replayCachedSnapshot(userId, snapshot)
+                        ))))
+                .contextWrite(context -> GitHubRateLimiter.withWaitListener(context, wait -> notifyRateLimitWait(userId, wait)));
+    }
+
+    private Mono<RepositorySnapshot> collectFromGitHub(String owner, String repo, Long userId,
+                                                      String headSha, RepositorySnapshot baseline) {
+        return Mono.defer(() -> {
+            RepositoryData data = new RepositoryData();
+
+            return reactiveGitHubDataFetcher.fetchRepositoryInfo(owner, repo)
+                    .doOnNext(repoInfo -> {
+                        validateRepositorySize(repoInfo.size());
+                        repositoryInfoMapper.mapBasicInfo(data, repoInfo);
+                    })
+                    .flatMap(repoInfo -> collectDetails(owner, repo, userId, repoInfo, headSha,
+                            usableBaseline(baseline, repoInfo, headSha), data));
+        });
+    }
+
+    // 증분 수집 기준으로 쓸 수 있는 이전 수집 결과 - HEAD를 알 수 없거나 기본 브랜치가 바뀌었으면 전체 수집
+    private RepositorySnapshot usableBaseline(RepositorySnapshot baseline, RepoResponse repoInfo, String headSha) {
+        if (baseline == null || !baseline.isIncrementalBase() || headSha == null || baseline.repoInfo() == null) {
+            return null;
+        }
+        return Objects.equals(baseline.repoInfo().defaultBranch(), repoInfo.defaultBranch()) ? baseline : null;
+    }
+
+    // 부분 수집 결과는 다른 요청과 공유하지 않음 (생략된 단계가 그대로 재사용되지 않도록)
+    private Mono<RepositorySnapshot> storeSnapshot(String owner, String repo, Optional<String> headSha,
+                                                   RepositorySnapshot snapshot) {
+        if (snapshot.partial()) {
+            return Mono.just(snapshot);
+        }
+        return headSha
+                .map(sha -> snapshotCache.store(owner, repo, sha, snapshot).thenReturn(snapshot))
+                .orElseGet(() -> Mono.just(snapshot));
+    }
+
+    // 캐시된 수집 결과 사용 - 시점에 따라 달라지는 값만 갱신하고 진행 상황은 순서대로 전송
+    private Mono<RepositorySnapshot> replayCachedSnapshot(Long userId, RepositorySnapshot snapshot) {
+        commitInfoMapper.refreshDaysSinceLastCommit(snapshot.data());
+
+        return Flux.fromIterable(COLLECTION_STEPS)
+                .doOnNext(step -> safeSendSse(userId, "status", step))
+                .then(Mono.just(snapshot));
+    }
+
+    // GitHub 호출 한도로 요청이 지연되는 경우 예상 대기 시간 안내
+    private void notifyRateLimitWait(Long userId, Duration wait) {
+        if (wait.toSeconds() < RATE_LIMIT_NOTICE_SECONDS) {
+            return;
+        }
+        safeSendSse(userId, "status", "GitHub API 호출 한도로 대기 중 (약 " + wait.toSeconds() + "초)");
+    }
+
+    /* 수집 단계 구성
+     * baseline이 없으면 전체 수집, 있으면 기준 시점 이후 변경분만 수집해 이전 목록과 합침
+     * - 커밋: HEAD가 같으면 요청 없음, 다르면 이전 HEAD와 비교해 그 사이 커밋만 요청 (이력이 바뀌었으면 전체 수집)
+     * - 트리/README/언어: 루트 트리 SHA가 같으면 이전 결과 재사용
+     * - 이슈/PR: 기준 시각 이후 수정된 항목만 요청
+     * 호출 한도 부족으로 이슈/PR 단계를 생략하거나 트리가 최대 항목 수에서 잘리면 부분 수집 - 기준(watermark)을 만들지 않아 다음 분석은 전체 수집 */
+    private Mono<RepositorySnapshot> collectDetails(String owner, String repo, Long userId, RepoResponse repoInfo,
+                                                    String headSha, RepositorySnapshot baseline, RepositoryData data) {
+        Instant startedAt = Instant.now();
+        ZonedDateTime ninetyDaysAgoUtc = ZonedDateTime.now(ZoneOffset.UTC).minus(90, ChronoUnit.DAYS);
+        Instant sixMonthsAgo = ZonedDateTime.now(ZoneOffset.UTC).minusMonths(6).toInstant();
+        CollectionWatermark previous = (baseline != null) ? baseline.watermark() : null;
+        boolean headUnchanged = previous != null && headSha.equals(previous.lastCommitSha());
+        AtomicBoolean partial = new AtomicBoolean();
+
+        // 루트 트리 SHA - 이전 수집과 같으면 트리/README/언어 단계 생략
+        Mono<Optional<String>> treeSha = (headSha == null ? Mono.<String>empty()
+                : headUnchanged ? Mono.justOrEmpty(previous.treeSha())
+                : reactiveGitHubDataFetcher.fetchTreeSha(owner, repo, headSha))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .cache();
+        Mono<Boolean> treeUnchanged = treeSha
+                .map(sha -> previous != null && sha.isPresent() && sha.get().equals(previous.treeSha()))
+                .cache();
+
+        // 클론 수집 대상이면 트리/커밋/README를 로컬 클론에서 한 번에 수집 (실패하면 empty → REST 단계로 대체)
+        Mono<ClonedRepository> cloned = gitCloneCollector.supports(repoInfo)
+                ? treeUnchanged.filter(unchanged -> !unchanged)
+                        .flatMap(changed -> gitCloneCollector.collect(owner, repo, repoInfo.defaultBranch(), ninetyDaysAgoUtc.toInstant()))
+                        .onErrorResume(e -> {
+                            log.warn("클론 수집 실패, REST 수집으로 대체: {}/{} - {}", owner, repo, e.getMessage());
+                            return Mono.empty();
+                        })
+                        .cache()
+                : Mono.empty();
+
+        Mono<List<CommitResponse>> commits = (baseline == null
+                ? fromCloneOrRest(cloned, ClonedRepository::commits,
+                        reactiveGitHubDataFetcher.fetchCommitInfo(owner, repo, ninetyDaysAgoUtc.format(DateTimeFormatter.ISO_INSTANT))
+                                .collectList())
+                : collectNewCommits(owner, repo, baseline, headSha, headUnchanged, ninetyDaysAgoUtc.toInstant()))
+                .doOnNext(list -> commitInfoMapper.mapCommitInfo(data, list))
+                .cache();
+
+        Mono<Optional<String>> readmeSha = treeUnchanged
+                .flatMap(unchanged -> {
+                    if (unchanged) {
+                        data.copyReadmeInfoFrom(baseline.data());
+                        return Mono.justOrEmpty(previous.readmeSha());
+                    }
+                    return fromCloneOrRest(cloned, ClonedRepository::readme,
+                            reactiveGitHubDataFetcher.fetchReadmeContent(owner, repo).defaultIfEmpty(""))
+                            .doOnNext(readme -> readmeInfoMapper.mapReadmeInfo(data, readme))
+                            .filter(readme -> !readme.isEmpty())
+                            .map(RepositoryService::gitBlobSha);
+                })
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .cache();
+
+        Mono<Void> treeStage = treeUnchanged
+                .flatMap(unchanged -> {
+                    if (unchanged) {
+                        data.copyTreeInfoFrom(baseline.data());
+                        return Mono.<Void>empty();
+                    }
+                    return fromCloneOrRest(cloned, clone -> buildTreeIndex(clone.tree()),
+                            reactiveGitHubDataFetcher.fetchRepositoryTree(owner, repo, repoInfo.defaultBranch(), () -> {
+                                        data.setTreeTruncated(true);
+                                        partial.set(true);
+                                        safeSendSse(userId, "status", "파일이 너무 많아 일부 경로만 분석에 반영");
+                                    }).as(this::indexTree))
+                            .doOnNext(treeIndex -> mapTreeInfo(data, treeIndex))
+                            .then();
+                })
+                .cache();
+
+        Mono<List<IssueResponse>> issues = collectIssues(owner, repo, baseline, sixMonthsAgo, partial)
+                .doOnNext(list -> issueInfoMapper.mapIssueInfo(data, list))
+                .cache();
+        Mono<List<PullRequestResponse>> pullRequests = collectPullRequests(owner, repo, baseline, sixMonthsAgo, partial)
+                .doOnNext(list -> pullRequestInfoMapper.mapPullRequestInfo(data, list))
+                .cache();
+        Mono<Void> communityStage = Mono.when(issues, pullRequests).cache();
+
+        Mono<Map<String, Integer>> languageStage = treeUnchanged
+                .flatMap(unchanged -> unchanged
+                        ? Mono.just(baseline.languages())
+                        : reactiveGitHubDataFetcher.fetchLanguages(owner, repo))
+                .cache();
+
+        // 진행 상황은 프론트 단계 순서에 맞춰 순차적으로 전송 (각 단계는 이미 동시에 진행 중)
+        List<Mono<?>> stages = List.of(commits, readmeSha, treeStage, Mono.empty(), Mono.empty(), communityStage);
+        Mono<Void> progress = Flux.range(0, COLLECTION_STEPS.size())
+                .concatMap(i -> notifyThen(userId, COLLECTION_STEPS.get(i), stages.get(i)))
+                .then();
+
+        return Mono.when(Mono.when(commits, readmeSha, treeStage, communityStage, languageStage), progress)
+                .then(Mono.zip(languageStage, commits, readmeSha, treeSha, issues, pullRequests))
+                .map(result -> {
+                    if (partial.get()) {
+                        return new RepositorySnapshot(repoInfo, data, result.getT1(), null, null, true);
+                    }
+                    CollectionWatermark watermark = (headSha == null) ? null : new CollectionWatermark(
+                            headSha,
+                            result.getT4().orElse(null),
+                            result.getT3().orElse(null),
+                            newestUpdate(result.getT5(), IssueResponse::updated_at,
+                                    previous != null ? previous.issuesUpdatedAt() : null, startedAt),
+                            newestUpdate(result.getT6(), PullRequestResponse::updated_at,
+                                    previous != null ? previous.pullRequestsUpdatedAt() : null, startedAt));
+                    CollectionWindow window = new CollectionWindow(result.getT2(), result.getT5(), result.getT6());
+                    return new RepositorySnapshot(repoInfo, data, result.getT1(), watermark, window);
+                });
+    }
+
+    /* 마지막 수집 이후 커밋을 이전 목록 앞에 합침
+     * 이전 HEAD가 새 HEAD의 조상이면 compare 범위의 커밋만 사용 (작성 시각이 아닌 커밋 이력 기준 - 체리픽/작성 시각 역전에도 누락 없음)
+     * 강제 푸시/리베이스로 조상이 아니거나, 비교 범위가 잘리거나, 비교에 실패하면 기간 내 커밋 전체를 다시 수집 */
+    private Mono<List<CommitResponse>> collectNewCommits(String owner, String repo, RepositorySnapshot baseline,
+                                                         String headSha, boolean headUnchanged, Instant since) {
+        CollectionWindow window = baseline.window();
+        if (headUnchanged) {
+            return Mono.just(window.mergeCommits(List.of(), since, maxItems));
+        }
+
+        String previousHead = baseline.watermark().lastCommitSha();
+        return reactiveGitHubDataFetcher.compareCommits(owner, repo, previousHead, headSha)
+                .filter(CompareResponse::isCompleteFastForward)
+                .map(compare -> window.mergeCommits(compare.commits().reversed(), since, maxItems))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.info("이전 HEAD가 새 HEAD의 조상이 아니거나 비교할 수 없어 커밋 전체 수집: {}/{} {}...{}",
+                            owner, repo, previousHead, headSha);
+                    return reactiveGitHubDataFetcher.fetchCommitInfo(owner, repo, DateTimeFormatter.ISO_INSTANT.format(since))
+                            .collectList();
+                }));
+    }
+
+    /* 이슈 - 기준 시각이 있으면 이후 수정된 이슈만 받아 합치고, 실패하면 이전 목록 유지
+     * 전체 수집이 호출 한도로 생략되거나 변경분 수집이 실패하면 partial 표시 */
+    private Mono<List<IssueResponse>> collectIssues(String owner, String repo, RepositorySnapshot baseline,
+                                                    Instant createdAfter, AtomicBoolean partial) {
+        if (baseline == null || baseline.watermark().issuesUpdatedAt() == null) {
+            return reactiveGitHubDataFetcher.fetchIssueInfo(owner, repo)
+                    .collectList()
+                    .onErrorResume(RepositoryService::isRateLimited, e -> {
+                        log.warn("호출 한도 부족으로 이슈 수집 생략 (부분 수집): {}/{}", owner, repo);
+                        partial.set(true);
+                        return Mono.just(List.of());
+                    });
         }
+        CollectionWindow window = baseline.window();
+        return reactiveGitHubDataFetcher.fetchIssuesUpdatedSince(owner, repo, baseline.watermark().issuesUpdatedAt())
+                .collectList()
+                .map(delta -> window.mergeIssues(delta, createdAfter, maxItems))
+                .onErrorResume(BusinessException.class, e -> {
+                    log.warn("이슈 변경분 수집 실패, 이전 목록 사용 (부분 수집): {}/{} - {}", owner, repo, e.getErrorCode());
+                    partial.set(true);
+                    return Mono.just(window.mergeIssues(List.of(), createdAfter, maxItems));
+                });
+    }
+
+    // PR - 이슈와 같은 방식
+    private Mono<List<PullRequestResponse>> collectPullRequests(String owner, String repo, RepositorySnapshot baseline,
+                                                                Instant createdAfter, AtomicBoolean partial) {
+        if (baseline == null || baseline.watermark().pullRequestsUpdatedAt() == null) {
+            return reactiveGitHubDataFetcher.fetchPullRequestInfo(owner, repo)
+                    .collectList()
+                    .onErrorResume(RepositoryService::isRateLimited, e -> {
+                        log.warn("호출 한도 부족으로 PR 수집 생략 (부분 수집): {}/{}", owner, repo);
+                        partial.set(true);
+                        return Mono.just(List.of());
+                    });
+        }
+        CollectionWindow window = baseline.window();
+        return reactiveGitHubDataFetcher.fetchPullRequestsUpdatedSince(owner, repo, baseline.watermark().pullRequestsUpdatedAt())
+                .collectList()
+                .map(delta -> window.mergePullRequests(delta, createdAfter, maxItems))
+                .onErrorResume(BusinessException.class, e -> {
+                    log.warn("PR 변경분 수집 실패, 이전 목록 사용 (부분 수집): {}/{} - {}", owner, repo, e.getErrorCode());
+                    partial.set(true);
+                    return Mono.just(window.mergePullRequests(List.of(), createdAfter, maxItems));
+                });
+    }
+
+    // 다음 증분 수집 기준 시각 - 받은 항목 중 가장 최근 수정 시각, 없으면 이전 기준 또는 수집 시작 시각
+    private <T> Instant newestUpdate(List<T> items, Function<T, String> updatedAt, Instant previous, Instant startedAt) {
+        Instant newest = CollectionWindow.newestUpdate(items, updatedAt);
+        if (newest != null) {
+            return (previous != null && previous.isAfter(newest)) ? previous : newest;
+        }
+        return (previous != null) ? previous : startedAt;
+    }
+
+    private static boolean isRateLimited(Throwable throwable) {
+        return throwable instanceof BusinessException e
+                && e.getErrorCode() == ErrorCode.GITHUB_RATE_LIMIT_EXCEEDED;
+    }
+
+    // git blob SHA-1 (GitHub의 파일 SHA와 같은 값)
+    private static String gitBlobSha(String content) {
+        try {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(("blob " + bytes.length + "\0").getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 클론 결과가 있으면 사용하고, 없으면(클론 미사용/실패) REST 수집 결과 사용
+    private <T> Mono<T> fromCloneOrRest(Mono<ClonedRepository> cloned, Function<ClonedRepository, T> extract, Mono<T> rest) {
+        return cloned.map(extract).switchIfEmpty(rest);
+    }
+
+    // 트리 항목은 받는 대로 인덱스에 추가
+    private Mono<TreeIndex> indexTree(Flux<TreeResponse.TreeItem> items) {
+        return items.collect(() -> new TreeIndex.Builder(pathClassifier), (builder, item) -> builder.add(item.path(), item.type()))
+                .map(TreeIndex.Builder::build);
+    }
+
+    private TreeIndex buildTreeIndex(Iterable<TreeResponse.TreeItem> items) {
+        TreeIndex.Builder builder = new TreeIndex.Builder(pathClassifier);
+        for (TreeResponse.TreeItem item : items) {
+            builder.add(item.path(), item.type());
+        }
+        return builder.build();
+    }
+
+    // 완성된 트리 인덱스를 세 매퍼가 공유
+    private void mapTreeInfo(RepositoryData data, TreeIndex treeIndex) {
+        securityInfoMapper.mapSecurityInfo(data, treeIndex);
+        testInfoMapper.mapTestInfo(data, treeIndex);
+        cicdInfoMapper.mapCicdInfo(data, treeIndex);
+    }
+
+    // SSE 상태 전송 후 해당 단계 완료 대기
+    private Mono<Void> notifyThen(Long userId, String message, Mono<?> stage) {
+        return Mono.fromRunnable(() -> safeSendSse(userId, "status", message))
+                .then(stage.then());
     }
 
     // SSE 전송 헬퍼 메서드
@@ -132,23 +496,39 @@ public class RepositoryService {
     }
 
     /* Repository Entity를 DB에 저장하거나 기존 데이터 업데이트
-    * 같은 htmlUrl + userId 조합이 존재하면 업데이트, 없으면 신규 데이터 저장 */
-    private void saveOrUpdateRepository(RepoResponse repoInfo, String owner, String repo, Long userId) {
+    * 같은 htmlUrl + userId 조합이 존재하면 업데이트, 없으면 신규 데이터 저장
+    * 증분 수집 기준(watermark + 수집 결과 JSON)은 새로 만들어진 경우에만 갱신 */
+    private void saveOrUpdateRepository(RepositorySnapshot snapshot, String collectionBaseline, Long userId) {
+        RepoResponse repoInfo = snapshot.repoInfo();
+        Map<String, Integer> languagesData = snapshot.languages();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        Map<String, Integer> languagesData = gitHubDataFetcher.fetchLanguages(owner, repo);
-
-        repositoryJpaRepository.findByHtmlUrlAndUserId(repoInfo.htmlUrl(), userId)
-                .ifPresentOrElse(existing -> {
+        Repositories repository = repositoryJpaRepository.findByHtmlUrlAndUserId(repoInfo.htmlUrl(), userId)
+                .map(existing -> {
                     existing.updateFrom(repoInfo);
                     existing.updateLanguagesFrom(languagesData);
-                },
-                () -> {
+                    return existing;
+                })
+                .orElseGet(() -> {
                     Repositories newRepo = repositoriesMapper.toEntity(repoInfo, user);
                     newRepo.updateLanguagesFrom(languagesData);
-                    repositoryJpaRepository.save(newRepo);
+                    return repositoryJpaRepository.save(newRepo);
                 });
+
+        if (collectionBaseline != null) {
+            repository.updateCollectionBaseline(snapshot.watermark(), collectionBaseline);
+        }
+    }
+
+    // GitHub 사용자의 공개 저장소 URL 목록 (포크/보관 저장소 제외, 최근 push 순으로 최대 limit개) - 블로킹, 작업 스레드에서 호출
+    public List<String> findPortfolioRepositoryUrls(String githubUsername, int limit) {
+        return reactiveGitHubDataFetcher.fetchUserRepositories(githubUsername)
+                .filter(repo -> !repo._private() && !repo.fork() && !repo.archived())
+                .map(OwnedRepoResponse::htmlUrl)
+                .take(limit)
+                .collectList()
+                .block();
     }
 
     // 특정 사용자의 모든 Repository 조회
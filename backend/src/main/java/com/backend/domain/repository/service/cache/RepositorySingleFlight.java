@@ -0,0 +1,179 @@
+package com.backend.domain.repository.service.cache;
+
+import com.backend.domain.repository.dto.response.RepositoryData;
+import com.backend.domain.repository.dto.response.RepositorySnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/* 같은 저장소에 대한 동시 수집 요청 병합 (single-flight)
+ * - 인스턴스 내부: 먼저 들어온 요청만 수집하고, 이후 요청은 같은 결과를 구독
+ * - 인스턴스 간(선택): Redis 키로 수집 중임을 표시하고, 다른 인스턴스는 공유 캐시(RepositorySnapshotCache)에 결과가 올라올 때까지 대기
+ * 결과를 넘겨받은 요청은 각자 RepositoryData 사본을 받아 이후 저장/평가를 독립적으로 진행 */
+@Slf4j
+@Component
+public class RepositorySingleFlight {
+    private static final String KEY_PREFIX = "repository:collecting:";
+
+    private final Map<String, Mono<RepositorySnapshot>> inFlight = new ConcurrentHashMap<>();
+    private final RepositorySnapshotCache snapshotCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration lockTimeout;
+    private final Duration pollInterval;
+
+    public RepositorySingleFlight(
+            RepositorySnapshotCache snapshotCache,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${repository.single-flight.redis.enabled:false}") boolean redisEnabled,
+            @Value("${repository.single-flight.lock-timeout:PT5M}") Duration lockTimeout,
+            @Value("${repository.single-flight.poll-interval:PT1S}") Duration pollInterval
+    ) {
+        this.snapshotCache = snapshotCache;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.lockTimeout = lockTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    /* 수집 실행 또는 진행 중인 수집에 합류
+     * collector: 직접 수집할 때 실행 (공유 캐시 저장까지 포함해야 다른 인스턴스가 결과를 받을 수 있음)
+     * onWait: 다른 요청의 수집 결과를 기다리기 시작할 때 호출
+     * onShared: 다른 요청의 수집 결과를 넘겨받았을 때 적용 */
+    public Mono<RepositorySnapshot> execute(String owner, String repo, String headSha,
+                                            Supplier<Mono<RepositorySnapshot>> collector,
+                                            Runnable onWait,
+                                            Function<RepositorySnapshot, Mono<RepositorySnapshot>> onShared) {
+        String key = key(owner, repo, headSha);
+
+        return Mono.defer(() -> {
+            AtomicBoolean leader = new AtomicBoolean(false);
+            AtomicReference<Mono<RepositorySnapshot>> created = new AtomicReference<>();
+
+            Mono<RepositorySnapshot> flight = inFlight.computeIfAbsent(key, k -> {
+                leader.set(true);
+                Mono<RepositorySnapshot> shared = lead(owner, repo, headSha, k, collector, onWait, onShared)
+                        .doFinally(signal -> inFlight.remove(k, created.get()))
+                        .cache();
+                created.set(shared);
+                return shared;
+            });
+
+            if (leader.get()) {
+                return flight;
+            }
+
+            log.info("진행 중인 저장소 수집에 합류: {}", key);
+            onWait.run();
+            return flight
+                    .flatMap(snapshot -> shareWith(snapshot, collector))
+                    .flatMap(onShared)
+                    // 먼저 시작한 요청이 실패하면 (토큰 권한 문제 등) 직접 수집
+                    .onErrorResume(e -> {
+                        log.warn("합류한 저장소 수집 실패, 직접 수집: {} - {}", key, e.getMessage());
+                        return collector.get();
+                    });
+        });
+    }
+
+    // 인스턴스 내 대표 요청 - 다른 인스턴스가 수집 중이면 공유 캐시에 결과가 올라올 때까지 대기
+    private Mono<RepositorySnapshot> lead(String owner, String repo, String headSha, String key,
+                                          Supplier<Mono<RepositorySnapshot>> collector,
+                                          Runnable onWait,
+                                          Function<RepositorySnapshot, Mono<RepositorySnapshot>> onShared) {
+        if (!redisEnabled || headSha == null) {
+            return collector.get();
+        }
+
+        String token = UUID.randomUUID().toString();
+        return Mono.fromCallable(() -> tryMark(key, token))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(marked -> marked
+                        ? Mono.usingWhen(Mono.just(token), t -> collector.get(), t -> Mono.fromRunnable(() -> unmark(key, t))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                        : Mono.fromRunnable(onWait)
+                                .then(awaitRemote(owner, repo, headSha, key))
+                                .flatMap(onShared)
+                                .switchIfEmpty(Mono.defer(collector)));
+    }
+
+    // 다른 인스턴스의 수집 결과 대기 - 표시가 사라지거나 시간이 지나도 결과가 없으면 빈 결과
+    private Mono<RepositorySnapshot> awaitRemote(String owner, String repo, String headSha, String key) {
+        log.info("다른 인스턴스에서 수집 중, 결과 대기: {}", key);
+
+        return Flux.interval(pollInterval)
+                .concatMap(tick -> snapshotCache.find(owner, repo, headSha)
+                        .map(Optional::of)
+                        // 결과가 없고 아직 수집 중이면 다음 주기에 다시 확인, 표시가 사라졌으면 빈 결과로 종료
+                        .switchIfEmpty(Mono.fromCallable(() -> isMarked(key))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .flatMap(marked -> marked
+                                        ? Mono.<Optional<RepositorySnapshot>>empty()
+                                        : Mono.just(Optional.<RepositorySnapshot>empty()))))
+                .next()
+                .timeout(lockTimeout, Mono.empty())
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    // 넘겨받은 결과 - 비공개 저장소는 권한이 다를 수 있으므로 직접 수집, 그 외에는 사본 전달
+    private Mono<RepositorySnapshot> shareWith(RepositorySnapshot snapshot, Supplier<Mono<RepositorySnapshot>> collector) {
+        if (snapshot.repoInfo() != null && snapshot.repoInfo()._private()) {
+            return collector.get();
+        }
+
+        RepositoryData copy = objectMapper.convertValue(snapshot.data(), RepositoryData.class);
+        return Mono.just(snapshot.withData(copy));
+    }
+
+    private boolean tryMark(String key, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, token, lockTimeout));
+        } catch (Exception e) {
+            log.warn("수집 표시 실패, 직접 수집: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private boolean isMarked(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + key));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 본인이 표시한 경우에만 해제
+    private void unmark(String key, String token) {
+        try {
+            if (token.equals(redisTemplate.opsForValue().get(KEY_PREFIX + key))) {
+                redisTemplate.delete(KEY_PREFIX + key);
+            }
+        } catch (Exception e) {
+            log.warn("수집 표시 해제 실패 (TTL 만료로 정리됨): {}", e.getMessage());
+        }
+    }
+
+    private String key(String owner, String repo, String headSha) {
+        String coordinates = owner.toLowerCase(Locale.ROOT) + "/" + repo.toLowerCase(Locale.ROOT);
+        return (headSha != null) ? coordinates + "@" + headSha : coordinates;
+    }
+}
@@ -0,0 +1,130 @@
+package com.backend.domain.repository.service.cache;
+
+import com.backend.domain.repository.dto.response.RepositorySnapshot;
+import com.backend.global.cache.TtlLruCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/* 저장소 수집 결과 공유 캐시
+ * 키: owner/repo@headSha - 같은 커밋을 가리키는 동안에는 수집 결과가 동일하므로 사용자 간 공유
+ * 값: RepositorySnapshot JSON - 조회할 때마다 새 객체로 역직렬화되어 호출자 간 상태가 섞이지 않음
+ * 비공개 저장소는 토큰 권한에 따라 결과가 달라지므로 저장하지 않음 */
+@Slf4j
+@Component
+public class RepositorySnapshotCache {
+    private static final String KEY_PREFIX = "repository:snapshot:";
+
+    private final TtlLruCache<String, String> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration ttl;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RepositorySnapshotCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${repository.snapshot-cache.max-entries:200}") int maxEntries,
+            @Value("${repository.snapshot-cache.ttl:PT6H}") Duration ttl,
+            @Value("${repository.snapshot-cache.redis.enabled:false}") boolean redisEnabled
+    ) {
+        this.localCache = new TtlLruCache<>(maxEntries, ttl);
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.ttl = ttl;
+
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.missCounter = counter(meterRegistry, "miss");
+    }
+
+    // 캐시 조회 - 인메모리에 없으면 Redis 조회 후 인메모리에 적재
+    public Mono<RepositorySnapshot> find(String owner, String repo, String headSha) {
+        String key = key(owner, repo, headSha);
+
+        return Mono.defer(() -> {
+                    String local = localCache.get(key);
+                    if (local != null || !redisEnabled) {
+                        return Mono.justOrEmpty(local);
+                    }
+                    return Mono.fromCallable(() -> readRedis(key))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .doOnNext(json -> localCache.put(key, json));
+                })
+                .flatMap(json -> Mono.justOrEmpty(deserialize(json)))
+                .doOnNext(snapshot -> {
+                    hitCounter.increment();
+                    log.info("저장소 수집 캐시 적중: {}", key);
+                })
+                .switchIfEmpty(Mono.fromRunnable(missCounter::increment));
+    }
+
+    // 캐시 저장 - 공개 저장소만
+    public Mono<Void> store(String owner, String repo, String headSha, RepositorySnapshot snapshot) {
+        if (snapshot.repoInfo() == null || snapshot.repoInfo()._private()) {
+            return Mono.empty();
+        }
+
+        String key = key(owner, repo, headSha);
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(snapshot))
+                .doOnNext(json -> localCache.put(key, json))
+                .filter(json -> redisEnabled)
+                .flatMap(json -> Mono.fromRunnable(() -> writeRedis(key, json))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .onErrorResume(e -> {
+                    log.warn("저장소 수집 캐시 저장 실패 (무시): {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private String key(String owner, String repo, String headSha) {
+        return KEY_PREFIX + owner.toLowerCase(Locale.ROOT) + "/" + repo.toLowerCase(Locale.ROOT) + "@" + headSha;
+    }
+
+    private RepositorySnapshot deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, RepositorySnapshot.class);
+        } catch (Exception e) {
+            log.warn("저장소 수집 캐시 역직렬화 실패 (무시): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String readRedis(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("저장소 수집 캐시 Redis 조회 실패 (무시): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, String json) {
+        try {
+            redisTemplate.opsForValue().set(key, json, ttl);
+        } catch (Exception e) {
+            log.warn("저장소 수집 캐시 Redis 저장 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("repository.snapshot.cache")
+                .description("저장소 수집 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
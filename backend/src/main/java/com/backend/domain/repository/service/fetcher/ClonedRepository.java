@@ -0,0 +1,13 @@
+package com.backend.domain.repository.service.fetcher;
+
+import com.backend.domain.repository.dto.response.github.CommitResponse;
+
+import java.util.List;
+
+// 로컬 클론으로 수집한 저장소 데이터 - REST 수집의 트리/커밋/README 단계를 대신함
+public record ClonedRepository(
+        CompactTree tree,
+        List<CommitResponse> commits,
+        String readme // README가 없으면 빈 문자열
+) {
+}
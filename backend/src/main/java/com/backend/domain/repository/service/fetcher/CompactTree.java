@@ -0,0 +1,163 @@
+package com.backend.domain.repository.service.fetcher;
+
+import com.backend.domain.repository.dto.response.github.TreeResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/* git 트리 응답의 압축 저장소
+ * 경로는 UTF-8 바이트로 하나의 배열(arena)에 이어 붙이고 항목별 시작 위치만 보관
+ * 항목 유형은 1바이트 코드, SHA는 하위 트리 조회에 필요한 tree 항목만 보관
+ * 순회할 때만 TreeItem을 만들어 넘기므로 항목별 객체가 계속 남지 않음 */
+public class CompactTree implements Iterable<TreeResponse.TreeItem> {
+    private static final byte BLOB = 0;
+    private static final byte TREE = 1;
+    private static final byte OTHER = 2;
+
+    private static final int NO_SHA = -1;
+
+    private final byte[] arena;
+    private final int[] offsets;  // 항목 i의 경로 = arena[offsets[i], offsets[i + 1])
+    private final byte[] types;
+    private final int[] shaIndexes;
+    private final List<String> shas;
+    private final int size;
+    private final boolean truncated;
+
+    private CompactTree(Builder builder, boolean truncated) {
+        this.arena = Arrays.copyOf(builder.arena, builder.arenaLength);
+        this.offsets = Arrays.copyOf(builder.offsets, builder.size + 1);
+        this.types = Arrays.copyOf(builder.types, builder.size);
+        this.shaIndexes = Arrays.copyOf(builder.shaIndexes, builder.size);
+        this.shas = builder.shas;
+        this.size = builder.size;
+        this.truncated = truncated;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 응답이 잘렸는지 여부 (GitHub 재귀 조회 한도 초과)
+    public boolean truncated() {
+        return truncated;
+    }
+
+    public TreeResponse.TreeItem get(int index) {
+        String path = new String(arena, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+        String sha = (shaIndexes[index] != NO_SHA) ? shas.get(shaIndexes[index]) : null;
+        return new TreeResponse.TreeItem(path, typeName(types[index]), sha);
+    }
+
+    @Override
+    public Iterator<TreeResponse.TreeItem> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public TreeResponse.TreeItem next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    private static String typeName(byte type) {
+        return switch (type) {
+            case BLOB -> "blob";
+            case TREE -> "tree";
+            default -> "commit";
+        };
+    }
+
+    // 항목을 순서대로 추가 - 경로는 문자 배열 구간에서 바로 UTF-8로 인코딩해 String을 만들지 않음
+    public static class Builder {
+        private static final int INITIAL_ENTRIES = 256;
+
+        private byte[] arena = new byte[INITIAL_ENTRIES * 32];
+        private int arenaLength;
+        private int[] offsets = new int[INITIAL_ENTRIES + 1];
+        private byte[] types = new byte[INITIAL_ENTRIES];
+        private int[] shaIndexes = new int[INITIAL_ENTRIES];
+        private final List<String> shas = new ArrayList<>();
+        private int size;
+
+        public Builder add(char[] path, int offset, int length, String type, String sha) {
+            ensureEntryCapacity(size + 1);
+            appendUtf8(path, offset, length);
+
+            byte code = "blob".equals(type) ? BLOB : "tree".equals(type) ? TREE : OTHER;
+            types[size] = code;
+            if (code == TREE && sha != null) {
+                shaIndexes[size] = shas.size();
+                shas.add(sha);
+            } else {
+                shaIndexes[size] = NO_SHA;
+            }
+
+            size++;
+            offsets[size] = arenaLength;
+            return this;
+        }
+
+        public Builder add(String path, String type, String sha) {
+            return add(path.toCharArray(), 0, path.length(), type, sha);
+        }
+
+        public CompactTree build(boolean truncated) {
+            return new CompactTree(this, truncated);
+        }
+
+        private void appendUtf8(char[] chars, int offset, int length) {
+            ensureArenaCapacity(arenaLength + length * 3);
+            int end = offset + length;
+            for (int i = offset; i < end; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    arena[arenaLength++] = (byte) c;
+                } else if (c < 0x800) {
+                    arena[arenaLength++] = (byte) (0xC0 | (c >> 6));
+                    arena[arenaLength++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1])) {
+                    int codePoint = Character.toCodePoint(c, chars[++i]);
+                    ensureArenaCapacity(arenaLength + 4);
+                    arena[arenaLength++] = (byte) (0xF0 | (codePoint >> 18));
+                    arena[arenaLength++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    arena[arenaLength++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    arena[arenaLength++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    arena[arenaLength++] = (byte) (0xE0 | (c >> 12));
+                    arena[arenaLength++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    arena[arenaLength++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void ensureArenaCapacity(int capacity) {
+            if (capacity > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(capacity, arena.length * 2));
+            }
+        }
+
+        private void ensureEntryCapacity(int entries) {
+            if (entries < types.length) {
+                return;
+            }
+            int capacity = Math.max(entries, types.length * 2);
+            types = Arrays.copyOf(types, capacity);
+            shaIndexes = Arrays.copyOf(shaIndexes, capacity);
+            offsets = Arrays.copyOf(offsets, capacity + 1);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.backend.domain.repository.service.fetcher;
+
+import com.backend.domain.repository.dto.response.github.CommitResponse;
+import com.backend.domain.repository.dto.response.github.RepoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.CloneCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.LargeObjectException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/* 로컬 클론 수집 엔진 (JGit)
+ * 큰 공개 저장소는 트리/커밋/README를 REST API 대신 얕은 클론(최근 커밋만)으로 수집
+ * - 작업 디렉터리 없이(bare) 객체만 받아 트리와 README는 객체 DB에서 직접 읽음
+ * - git 프로토콜 요청은 REST API 호출 한도에 차감되지 않음
+ * - 수집이 끝나면 임시 디렉터리 삭제
+ * 저장소 크기(RepoResponse.size, KB)가 설정 범위 안일 때만 사용하고, 실패하면 호출 측에서 REST 수집으로 대체 */
+@Slf4j
+@Component
+public class GitCloneCollector {
+    private static final int MAX_README_BYTES = 1024 * 1024;
+
+    private final boolean enabled;
+    private final long minSizeKb;
+    private final long maxSizeKb;
+    private final Duration timeout;
+    private final String baseUrl;
+    private final int maxTreeNodes;
+    private final int maxCommits;
+
+    public GitCloneCollector(
+            @Value("${repository.clone.enabled:false}") boolean enabled,
+            @Value("${repository.clone.min-size-kb:51200}") long minSizeKb,
+            @Value("${repository.clone.max-size-kb:1048576}") long maxSizeKb,
+            @Value("${repository.clone.timeout:PT2M}") Duration timeout,
+            @Value("${repository.clone.base-url:https://github.com/}") String baseUrl,
+            @Value("${github.tree.max-nodes:200000}") int maxTreeNodes,
+            @Value("${github.pagination.max-items:1000}") int maxCommits
+    ) {
+        this.enabled = enabled;
+        this.minSizeKb = minSizeKb;
+        this.maxSizeKb = maxSizeKb;
+        this.timeout = timeout;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.maxTreeNodes = maxTreeNodes;
+        this.maxCommits = maxCommits;
+    }
+
+    // 클론 수집 대상 여부 - 공개 저장소이고 크기가 설정 범위 안
+    public boolean supports(RepoResponse repoInfo) {
+        if (!enabled || repoInfo == null || repoInfo._private() || repoInfo.size() == null) {
+            return false;
+        }
+        return repoInfo.size() >= minSizeKb && repoInfo.size() <= maxSizeKb;
+    }
+
+    // 클론 후 수집 - 블로킹 작업이므로 boundedElastic에서 실행
+    public Mono<ClonedRepository> collect(String owner, String repoName, String branch, Instant since) {
+        String uri = baseUrl + owner + "/" + repoName + ".git";
+        return Mono.fromCallable(() -> cloneAndRead(uri, branch, since))
+                .subscribeOn(Schedulers.boundedElastic())
+                .timeout(timeout);
+    }
+
+    ClonedRepository cloneAndRead(String uri, String branch, Instant since) throws IOException, GitAPIException {
+        Path directory = Files.createTempDirectory("repository-clone-");
+        long startedAt = System.currentTimeMillis();
+
+        try (Git git = shallowClone(uri, branch, since, directory.toFile())) {
+            Repository repository = git.getRepository();
+            ObjectId head = resolveHead(repository, branch);
+            if (head == null) {
+                return new ClonedRepository(new CompactTree.Builder().build(false), List.of(), "");
+            }
+
+            try (RevWalk walk = new RevWalk(repository)) {
+                RevCommit headCommit = walk.parseCommit(head);
+                TreeSnapshot snapshot = readTree(repository, headCommit);
+                List<CommitResponse> commits = readCommits(walk, headCommit, since);
+
+                log.info("클론 수집 완료: {} (항목 {}개, 커밋 {}개, {}ms)",
+                        uri, snapshot.tree().size(), commits.size(), System.currentTimeMillis() - startedAt);
+                return new ClonedRepository(snapshot.tree(), commits, snapshot.readme());
+            }
+        } finally {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    // 최근 커밋만 받는 얕은 클론 - 기간 내 커밋이 없으면 since 조건이 거절되므로 HEAD 1개만 받음
+    private Git shallowClone(String uri, String branch, Instant since, File directory) throws GitAPIException, IOException {
+        try {
+            return cloneCommand(uri, branch, directory).setShallowSince(since).call();
+        } catch (GitAPIException e) {
+            log.debug("기간 기준 얕은 클론 실패, HEAD만 클론: {} - {}", uri, e.getMessage());
+            FileSystemUtils.deleteRecursively(directory.toPath());
+            Files.createDirectories(directory.toPath());
+            return cloneCommand(uri, branch, directory).setDepth(1).call();
+        }
+    }
+
+    private CloneCommand cloneCommand(String uri, String branch, File directory) {
+        CloneCommand command = Git.cloneRepository()
+                .setURI(uri)
+                .setDirectory(directory)
+                .setBare(true)
+                .setCloneAllBranches(false)
+                .setTimeout((int) timeout.toSeconds());
+        if (branch != null) {
+            command.setBranch(Constants.R_HEADS + branch)
+                    .setBranchesToClone(List.of(Constants.R_HEADS + branch));
+        }
+        return command;
+    }
+
+    private ObjectId resolveHead(Repository repository, String branch) throws IOException {
+        ObjectId head = (branch != null) ? repository.resolve(Constants.R_HEADS + branch) : null;
+        return (head != null) ? head : repository.resolve(Constants.HEAD);
+    }
+
+    // HEAD 트리 전체 순회 - 디렉터리(tree), 파일(blob), 서브모듈(commit) 항목과 루트 README 본문
+    private TreeSnapshot readTree(Repository repository, RevCommit headCommit) throws IOException {
+        CompactTree.Builder builder = new CompactTree.Builder();
+        ObjectId readmeId = null;
+        String readmeName = null;
+        int nodes = 0;
+
+        try (TreeWalk treeWalk = new TreeWalk(repository)) {
+            treeWalk.addTree(headCommit.getTree());
+            treeWalk.setRecursive(false);
+
+            while (treeWalk.next() && nodes < maxTreeNodes) {
+                String path = treeWalk.getPathString();
+                nodes++;
+
+                if (treeWalk.isSubtree()) {
+                    builder.add(path, "tree", treeWalk.getObjectId(0).name());
+                    treeWalk.enterSubtree();
+                } else if (FileMode.GITLINK.equals(treeWalk.getFileMode(0))) {
+                    builder.add(path, "commit", null);
+                } else {
+                    builder.add(path, "blob", null);
+                    if (treeWalk.getDepth() == 0 && isPreferredReadme(path, readmeName)) {
+                        readmeId = treeWalk.getObjectId(0);
+                        readmeName = path;
+                    }
+                }
+            }
+        }
+
+        return new TreeSnapshot(builder.build(nodes >= maxTreeNodes), readReadme(repository, readmeId));
+    }
+
+    // 루트의 README* 파일 - README.md를 우선
+    private boolean isPreferredReadme(String fileName, String current) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (!lower.startsWith("readme")) {
+            return false;
+        }
+        return current == null || (lower.equals("readme.md") && !current.equalsIgnoreCase("readme.md"));
+    }
+
+    private String readReadme(Repository repository, ObjectId readmeId) throws IOException {
+        if (readmeId == null) {
+            return "";
+        }
+        try {
+            byte[] bytes = repository.open(readmeId, Constants.OBJ_BLOB).getCachedBytes(MAX_README_BYTES);
+            return new String(bytes, StandardCharsets.UTF_8);
+        } catch (LargeObjectException e) {
+            log.debug("README가 너무 커서 생략: {}", readmeId.name());
+            return "";
+        }
+    }
+
+    // HEAD부터 since 이후 커밋 (최신순, 최대 개수 제한) - REST commits 응답과 같은 형태로 변환
+    private List<CommitResponse> readCommits(RevWalk walk, RevCommit headCommit, Instant since) throws IOException {
+        List<CommitResponse> commits = new ArrayList<>();
+        walk.markStart(headCommit);
+
+        for (RevCommit commit : walk) {
+            Instant authoredAt = commit.getAuthorIdent().getWhenAsInstant();
+            if (authoredAt.isBefore(since) || commits.size() >= maxCommits) {
+                break;
+            }
+            commits.add(new CommitResponse(commit.name(), new CommitResponse.CommitDetails(
+                    commit.getFullMessage(),
+                    new CommitResponse.AuthorDetails(
+                            OffsetDateTime.ofInstant(authoredAt, ZoneOffset.UTC).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+            )));
+        }
+        return commits;
+    }
+
+    private record TreeSnapshot(CompactTree tree, String readme) {}
+}
@@ -0,0 +1,182 @@
+package com.backend.domain.repository.service.fetcher;
+
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/* git 트리 응답 스트리밍 디코더
+ * 응답 본문(DataBuffer)을 받는 대로 논블로킹 JSON 파서에 넣고, tree 항목의 path/type/sha만 CompactTree에 기록
+ * 응답 전체 문자열이나 항목별 DTO를 만들지 않으며, 사용하지 않는 필드(mode, size, url)는 값을 꺼내지 않고 건너뜀 */
+@Slf4j
+public final class GitTreeDecoder {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private GitTreeDecoder() {
+    }
+
+    public static Mono<CompactTree> decode(Flux<DataBuffer> body) {
+        return Mono.defer(() -> {
+            State state = new State();
+            return body
+                    .doOnNext(buffer -> {
+                        try {
+                            state.feed(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .then(Mono.fromCallable(state::finish));
+        });
+    }
+
+    // 파서 상태 - 최상위 객체(깊이 1) → tree 배열(깊이 2) → 항목 객체(깊이 3)
+    private static final class State {
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final CompactTree.Builder builder = new CompactTree.Builder();
+
+        private int depth;
+        private String topField;
+        private boolean inTree;
+        private String entryField;
+        private boolean truncated;
+
+        private char[] path;
+        private int pathLength;
+        private String type;
+        private String sha;
+
+        State() {
+            try {
+                this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        void feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                drain();
+            } catch (IOException e) {
+                throw parseError(e);
+            }
+        }
+
+        CompactTree finish() {
+            try {
+                feeder.endOfInput();
+                drain();
+            } catch (IOException e) {
+                throw parseError(e);
+            }
+            return builder.build(truncated);
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                switch (token) {
+                    case START_OBJECT, START_ARRAY -> {
+                        depth++;
+                        if (depth == 2 && token == JsonToken.START_ARRAY && "tree".equals(topField)) {
+                            inTree = true;
+                        } else if (inTree && depth == 3) {
+                            startEntry();
+                        }
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        if (inTree && depth == 3 && token == JsonToken.END_OBJECT) {
+                            endEntry();
+                        } else if (inTree && depth == 2) {
+                            inTree = false;
+                        }
+                        depth--;
+                    }
+                    case FIELD_NAME -> {
+                        if (depth == 1) {
+                            topField = parser.currentName();
+                        } else if (inTree && depth == 3) {
+                            entryField = parser.currentName();
+                        }
+                    }
+                    case VALUE_TRUE, VALUE_FALSE -> {
+                        if (depth == 1 && "truncated".equals(topField)) {
+                            truncated = (token == JsonToken.VALUE_TRUE);
+                        }
+                    }
+                    case VALUE_STRING -> {
+                        if (inTree && depth == 3) {
+                            readEntryField();
+                        }
+                    }
+                    default -> {
+                        // 숫자/null 등 사용하지 않는 값
+                    }
+                }
+            }
+        }
+
+        private void startEntry() {
+            pathLength = -1;
+            type = null;
+            sha = null;
+            entryField = null;
+        }
+
+        private void readEntryField() throws IOException {
+            if ("path".equals(entryField)) {
+                int length = parser.getTextLength();
+                if (path == null || path.length < length) {
+                    path = new char[Math.max(length, 256)];
+                }
+                System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), path, 0, length);
+                pathLength = length;
+            } else if ("type".equals(entryField)) {
+                type = textEquals("blob") ? "blob" : textEquals("tree") ? "tree" : parser.getText();
+            } else if ("sha".equals(entryField) && (type == null || "tree".equals(type))) {
+                // GitHub 응답은 type이 sha보다 먼저 오므로 blob 항목의 SHA는 문자열로 만들지 않음
+                sha = parser.getText();
+            }
+        }
+
+        private boolean textEquals(String expected) throws IOException {
+            if (parser.getTextLength() != expected.length()) {
+                return false;
+            }
+            char[] chars = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            for (int i = 0; i < expected.length(); i++) {
+                if (chars[offset + i] != expected.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void endEntry() {
+            if (pathLength >= 0) {
+                builder.add(path, 0, pathLength, type, "tree".equals(type) ? sha : null);
+            }
+        }
+    }
+
+    private static BusinessException parseError(IOException e) {
+        log.error("GitHub 트리 응답 파싱 실패: {}", e.getMessage());
+        return new BusinessException(ErrorCode.GITHUB_RESPONSE_PARSE_ERROR);
+    }
+}
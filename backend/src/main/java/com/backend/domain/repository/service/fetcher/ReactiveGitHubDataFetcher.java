@@ -0,0 +1,308 @@
+package com.backend.domain.repository.service.fetcher;
+
+import com.backend.domain.repository.dto.response.github.*;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.github.GitHubRateLimiter;
+import com.backend.global.github.ReactiveGitHubApiClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* GitHub 저장소 데이터 수집 (논블로킹)
+ * 저장소가 없거나 데이터가 없는 경우(404)는 빈 결과로 처리하고, 그 외 오류는 그대로 전파 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveGitHubDataFetcher {
+    private final ReactiveGitHubApiClient reactiveGitHubApiClient;
+    private static final int COMMUNITY_ANALYSIS_MONTHS = 6;
+    private static final int ESTIMATED_REQUESTS_PER_COLLECTION = 10;
+
+    // 페이지네이션 설정 - 페이지당 요소 수, 최대 페이지 수, 목록당 최대 요소 수
+    @Value("${github.pagination.per-page:100}")
+    private int perPage;
+
+    @Value("${github.pagination.max-pages:10}")
+    private int maxPages;
+
+    @Value("${github.pagination.max-items:1000}")
+    private int maxItems;
+
+    // 잘린 트리 보완 조회 설정 - 최대 항목 수, 동시 하위 트리 요청 수
+    @Value("${github.tree.max-nodes:200000}")
+    private int maxTreeNodes;
+
+    @Value("${github.tree.concurrency:4}")
+    private int treeConcurrency;
+
+    public Mono<RepoResponse> fetchRepositoryInfo(String owner, String repoName) {
+        return reactiveGitHubApiClient.get("/repos/{owner}/{repo}", RepoResponse.class, owner, repoName);
+    }
+
+    /* 기본 브랜치 HEAD 커밋 SHA 조회 - 본문이 SHA 문자열뿐인 가벼운 요청 (ETag 재검증 시 304)
+     * 빈 저장소 등으로 조회할 수 없으면 빈 결과 */
+    public Mono<String> fetchHeadSha(String owner, String repoName) {
+        return reactiveGitHubApiClient.getText(
+                        "/repos/{owner}/{repo}/commits/HEAD", "application/vnd.github.sha", owner, repoName
+                )
+                .map(String::trim)
+                .filter(sha -> !sha.isEmpty())
+                .onErrorResume(BusinessException.class, e -> {
+                    log.debug("HEAD SHA 조회 실패: {}/{} - {}", owner, repoName, e.getErrorCode());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<String> fetchReadmeContent(String owner, String repoName) {
+        return reactiveGitHubApiClient.getRaw("/repos/{owner}/{repo}/readme", owner, repoName)
+                .filter(content -> !content.trim().isEmpty())
+                .onErrorResume(this::isNotFound, e -> Mono.empty());
+    }
+
+    // since 이후 커밋만 요청 - 페이지를 따라가되 최대 개수에서 중단
+    public Flux<CommitResponse> fetchCommitInfo(String owner, String repoName, String since) {
+        return reactiveGitHubApiClient.getPaged(
+                        "/repos/{owner}/{repo}/commits?since={since}&per_page={perPage}",
+                        CommitResponse.class, maxPages, owner, repoName, since, perPage
+                )
+                .take(maxItems)
+                .onErrorResume(this::isNotFound, e -> Flux.empty());
+    }
+
+    // 잘린 트리 여부가 필요 없는 조회
+    public Flux<TreeResponse.TreeItem> fetchRepositoryTree(String owner, String repoName, String defaultBranch) {
+        return fetchRepositoryTree(owner, repoName, defaultBranch, () -> {});
+    }
+
+    /* 저장소 전체 트리 항목 조회 (경로는 저장소 루트 기준)
+     * 재귀 조회 결과가 잘리면(truncated) 하위 트리를 단계별(BFS)로 나눠 조회하고, 받는 대로 항목을 내보냄
+     * 최대 항목 수(github.tree.max-nodes)를 넘으면 조회를 중단하고 onTruncated 호출 (일부 경로만 반영된 트리) */
+    public Flux<TreeResponse.TreeItem> fetchRepositoryTree(String owner, String repoName, String defaultBranch,
+                                                           Runnable onTruncated) {
+        TreeResponse.TreeItem root = new TreeResponse.TreeItem("", "tree", defaultBranch);
+
+        return Flux.defer(() -> {
+                    // 한도보다 한 개 더 받아 보고, 받았으면 그 항목은 버리고 잘린 트리로 표시
+                    AtomicInteger received = new AtomicInteger();
+                    return fetchTree(owner, repoName, defaultBranch, true)
+                            .flatMapMany(tree -> {
+                                if (!tree.truncated()) {
+                                    return Flux.fromIterable(tree);
+                                }
+                                log.info("트리 응답이 잘려 하위 트리 단계별 조회: {}/{}", owner, repoName);
+                                Queue<TreeResponse.TreeItem> nextLevel = new ConcurrentLinkedQueue<>();
+                                return fetchChildren(owner, repoName, root, nextLevel)
+                                        .concatWith(Flux.defer(() -> fetchLevel(owner, repoName, List.copyOf(nextLevel))));
+                            })
+                            .take(maxTreeNodes + 1L)
+                            .filter(item -> {
+                                if (received.incrementAndGet() <= maxTreeNodes) {
+                                    return true;
+                                }
+                                log.warn("트리 항목이 최대 개수({})를 넘어 조회 중단 - 일부 경로만 반영: {}/{}",
+                                        maxTreeNodes, owner, repoName);
+                                onTruncated.run();
+                                return false;
+                            });
+                })
+                .onErrorResume(this::isNotFound, e -> Flux.empty());
+    }
+
+    // 같은 깊이의 하위 트리를 동시에(최대 tree.concurrency개) 조회 - 잘린 하위 트리의 디렉터리는 다음 단계로
+    private Flux<TreeResponse.TreeItem> fetchLevel(String owner, String repoName, List<TreeResponse.TreeItem> directories) {
+        if (directories.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Queue<TreeResponse.TreeItem> nextLevel = new ConcurrentLinkedQueue<>();
+        return Flux.fromIterable(directories)
+                .flatMap(directory -> fetchSubtree(owner, repoName, directory, nextLevel), treeConcurrency)
+                .concatWith(Flux.defer(() -> fetchLevel(owner, repoName, List.copyOf(nextLevel))));
+    }
+
+    // 하위 트리 재귀 조회 - 잘리지 않았으면 그대로 사용, 잘렸으면 직접 자식만 조회
+    private Flux<TreeResponse.TreeItem> fetchSubtree(String owner, String repoName, TreeResponse.TreeItem directory,
+                                                     Queue<TreeResponse.TreeItem> nextLevel) {
+        return fetchTree(owner, repoName, directory.sha(), true)
+                .flatMapMany(tree -> tree.truncated()
+                        ? fetchChildren(owner, repoName, directory, nextLevel)
+                        : Flux.fromIterable(tree).map(item -> relocate(directory, item)));
+    }
+
+    // 직접 자식만 조회 - 하위 디렉터리는 다음 단계에서 조회하도록 기록
+    private Flux<TreeResponse.TreeItem> fetchChildren(String owner, String repoName, TreeResponse.TreeItem directory,
+                                                      Queue<TreeResponse.TreeItem> nextLevel) {
+        return fetchTree(owner, repoName, directory.sha(), false)
+                .flatMapIterable(tree -> tree)
+                .map(item -> relocate(directory, item))
+                .doOnNext(item -> {
+                    if ("tree".equals(item.type()) && item.sha() != null) {
+                        nextLevel.add(item);
+                    }
+                });
+    }
+
+    // 트리 응답은 스트리밍으로 읽어 경로만 압축 저장 (응답 전체 문자열/DTO 목록을 만들지 않음)
+    private Mono<CompactTree> fetchTree(String owner, String repoName, String sha, boolean recursive) {
+        String uri = recursive
+                ? "/repos/{owner}/{repo}/git/trees/{sha}?recursive=1"
+                : "/repos/{owner}/{repo}/git/trees/{sha}";
+        return reactiveGitHubApiClient.getStreaming(uri, GitTreeDecoder::decode, owner, repoName, sha);
+    }
+
+    // 하위 트리 기준 경로를 저장소 루트 기준으로 변환
+    private TreeResponse.TreeItem relocate(TreeResponse.TreeItem directory, TreeResponse.TreeItem item) {
+        if (directory.path().isEmpty()) {
+            return item;
+        }
+        return new TreeResponse.TreeItem(directory.path() + "/" + item.path(), item.type(), item.sha());
+    }
+
+    /* 최근 6개월 이슈 수집
+     * since(최종 수정 시각 기준)로 서버에서 1차 필터링하고, 생성일 내림차순으로 받다가 기간을 벗어나면 중단
+     * 낮은 우선순위 요청 - 호출 한도 부족(GITHUB_RATE_LIMIT_EXCEEDED)은 그대로 전파 (호출 측에서 부분 수집으로 처리) */
+    public Flux<IssueResponse> fetchIssueInfo(String owner, String repoName) {
+        LocalDateTime sixMonthsAgo = getSixMonthsAgo();
+        String since = sixMonthsAgo.atOffset(ZoneOffset.UTC).format(DateTimeFormatter.ISO_INSTANT);
+        return reactiveGitHubApiClient.getPaged(
+                        "/repos/{owner}/{repo}/issues?state=all&since={since}&sort=created&direction=desc&per_page={perPage}",
+                        IssueResponse.class, maxPages, owner, repoName, since, perPage
+                )
+                .takeWhile(issue -> parseGitHubDate(issue.created_at()).isAfter(sixMonthsAgo))
+                .filter(IssueResponse::isPureIssue)
+                .take(maxItems)
+                .contextWrite(context -> GitHubRateLimiter.withPriority(context, GitHubRateLimiter.Priority.LOW))
+                .onErrorResume(this::isNotFound, e -> Flux.empty());
+    }
+
+    /* 최근 6개월 PR 수집
+     * pulls API는 since를 지원하지 않으므로 생성일 내림차순으로 받다가 기간을 벗어나면 중단
+     * 낮은 우선순위 요청 - 호출 한도 부족(GITHUB_RATE_LIMIT_EXCEEDED)은 그대로 전파 (호출 측에서 부분 수집으로 처리) */
+    public Flux<PullRequestResponse> fetchPullRequestInfo(String owner, String repoName) {
+        LocalDateTime sixMonthsAgo = getSixMonthsAgo();
+        return reactiveGitHubApiClient.getPaged(
+                        "/repos/{owner}/{repo}/pulls?state=all&sort=created&direction=desc&per_page={perPage}",
+                        PullRequestResponse.class, maxPages, owner, repoName, perPage
+                )
+                .takeWhile(pr -> parseGitHubDate(pr.created_at()).isAfter(sixMonthsAgo))
+                .take(maxItems)
+                .contextWrite(context -> GitHubRateLimiter.withPriority(context, GitHubRateLimiter.Priority.LOW))
+                .onErrorResume(this::isNotFound, e -> Flux.empty());
+    }
+
+    // 커밋이 가리키는 루트 트리 SHA - 커밋 내용은 바뀌지 않으므로 다시 조회하면 ETag 재검증으로 끝남
+    public Mono<String> fetchTreeSha(String owner, String repoName, String commitSha) {
+        return reactiveGitHubApiClient.get(
+                        "/repos/{owner}/{repo}/git/commits/{sha}", GitCommitResponse.class, owner, repoName, commitSha
+                )
+                .flatMap(commit -> Mono.justOrEmpty(commit.tree()))
+                .map(GitCommitResponse.Tree::sha)
+                .onErrorResume(BusinessException.class, e -> {
+                    log.debug("트리 SHA 조회 실패: {}/{}@{} - {}", owner, repoName, commitSha, e.getErrorCode());
+                    return Mono.empty();
+                });
+    }
+
+    /* 두 커밋 비교 (증분 수집) - base가 head의 조상인지와 그 사이 커밋
+     * 강제 푸시로 base 커밋이 사라졌거나 조회에 실패하면 빈 결과 (호출 측에서 전체 수집) */
+    public Mono<CompareResponse> compareCommits(String owner, String repoName, String base, String head) {
+        return reactiveGitHubApiClient.get(
+                        "/repos/{owner}/{repo}/compare/{base}...{head}", CompareResponse.class, owner, repoName, base, head
+                )
+                .onErrorResume(BusinessException.class, e -> {
+                    log.debug("커밋 비교 실패: {}/{} {}...{} - {}", owner, repoName, base, head, e.getErrorCode());
+                    return Mono.empty();
+                });
+    }
+
+    /* since 이후 수정된 이슈 (증분 수집) - 최종 수정 시각 내림차순
+     * 호출 한도 부족 등 오류는 그대로 전파 (호출 측에서 이전 목록과 기준 시각 유지) */
+    public Flux<IssueResponse> fetchIssuesUpdatedSince(String owner, String repoName, Instant since) {
+        return reactiveGitHubApiClient.getPaged(
+                        "/repos/{owner}/{repo}/issues?state=all&since={since}&sort=updated&direction=desc&per_page={perPage}",
+                        IssueResponse.class, maxPages, owner, repoName,
+                        DateTimeFormatter.ISO_INSTANT.format(since.truncatedTo(ChronoUnit.SECONDS)), perPage
+                )
+                .filter(IssueResponse::isPureIssue)
+                .take(maxItems)
+                .contextWrite(context -> GitHubRateLimiter.withPriority(context, GitHubRateLimiter.Priority.LOW))
+                .onErrorResume(this::isNotFound, e -> Flux.empty());
+    }
+
+    /* since 이후 수정된 PR (증분 수집)
+     * pulls API는 since를 지원하지 않으므로 최종 수정 시각 내림차순으로 받다가 기준 시각에 닿으면 중단 */
+    public Flux<PullRequestResponse> fetchPullRequestsUpdatedSince(String owner, String repoName, Instant since) {
+        return reactiveGitHubApiClient.getPaged(
+                        "/repos/{owner}/{repo}/pulls?state=all&sort=updated&direction=desc&per_page={perPage}",
+                        PullRequestResponse.class, maxPages, owner, repoName, perPage
+                )
+                .takeWhile(pr -> parseInstant(pr.updated_at()).isAfter(since))
+                .take(maxItems)
+                .contextWrite(context -> GitHubRateLimiter.withPriority(context, GitHubRateLimiter.Priority.LOW))
+                .onErrorResume(this::isNotFound, e -> Flux.empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    public Mono<Map<String, Integer>> fetchLanguages(String owner, String repoName) {
+        return reactiveGitHubApiClient.get("/repos/{owner}/{repo}/languages", Map.class, owner, repoName)
+                .map(languages -> (Map<String, Integer>) languages)
+                .onErrorResume(this::isNotFound, e -> Mono.just(Collections.<String, Integer>emptyMap()));
+    }
+
+    // 사용자가 소유한 저장소 목록 - 최근 push 순
+    public Flux<OwnedRepoResponse> fetchUserRepositories(String username) {
+        return reactiveGitHubApiClient.getPaged(
+                        "/users/{username}/repos?type=owner&sort=pushed&per_page={perPage}",
+                        OwnedRepoResponse.class, maxPages, username, perPage
+                )
+                .onErrorMap(this::isNotFound, e -> new BusinessException(ErrorCode.GITHUB_USER_NOT_FOUND));
+    }
+
+    // 저장소 1건 수집 시작까지 예상 대기 시간 (Rate Limit 기준)
+    public Mono<Duration> predictCollectionWait() {
+        return reactiveGitHubApiClient.predictWait(ESTIMATED_REQUESTS_PER_COLLECTION);
+    }
+
+    private boolean isNotFound(Throwable throwable) {
+        return throwable instanceof BusinessException e
+                && e.getErrorCode() == ErrorCode.GITHUB_REPO_NOT_FOUND;
+    }
+
+    private LocalDateTime getSixMonthsAgo() {
+        return LocalDateTime.now().minusMonths(COMMUNITY_ANALYSIS_MONTHS);
+    }
+
+    private LocalDateTime parseGitHubDate(String dateString) {
+        try {
+            return LocalDateTime.parse(dateString, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        } catch (Exception e) {
+            return LocalDateTime.MIN;
+        }
+    }
+
+    private Instant parseInstant(String dateString) {
+        try {
+            return OffsetDateTime.parse(dateString).toInstant();
+        } catch (Exception e) {
+            return Instant.MIN;
+        }
+    }
+}
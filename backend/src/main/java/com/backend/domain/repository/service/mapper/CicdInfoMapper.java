@@ -2,91 +2,40 @@ package com.backend.domain.repository.service.mapper;
 
 import com.backend.domain.repository.dto.response.RepositoryData;
 import com.backend.domain.repository.dto.response.github.TreeResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class CicdInfoMapper {
     // ResponseData CI/CD 관련 [CI/CD 존재 여부 관련]
-    private static final String GITHUB_WORKFLOWS_PATTERN = "^\\.github/workflows/.*\\.(yml|yaml)$";
-
-    private static final List<String> CICD_FILE_PATTERNS = List.of(
-            // 주요 CI/CD 플랫폼
-            "^\\.gitlab-ci\\.(yml|yaml)$",
-            "^\\.travis\\.(yml|yaml)$",
-            "^azure-pipelines\\.(yml|yaml)$",
-            "^\\.circleci/config\\.(yml|yaml)$",
-            "^\\.github/actions/.*\\.(yml|yaml)$",
-            "^\\.bitbucket-pipelines\\.(yml|yaml)$",
-            "^\\.appveyor\\.(yml|yaml)$"
-    );
-
-    private static final List<String> JENKINSFILE_PATTERNS = List.of(
-            ".*/[Jj]enkinsfile$",
-            "^[Jj]enkinsfile$",
-            ".*/[Jj]enkinsfile\\..+$",
-            "^[Jj]enkinsfile\\..+$"
-    );
-
-    private static final List<String> BUILD_FILE_PATTERNS = List.of(
-            // Java 빌드 도구
-            ".*pom\\.xml$",
-            ".*build\\.gradle(\\.kts)?$",
-            ".*gradlew(\\.bat)?$",
-            ".*mvnw(\\.cmd)?$",
-
-            // JavaScript/Node.js
-            ".*package\\.json$",
-            ".*(yarn\\.lock|pnpm-lock\\.yaml|package-lock\\.json)$",
-
-            // Python
-            ".*requirements\\.txt$",
-            ".*setup\\.py$",
-            ".*pyproject\\.toml$",
-            ".*setup\\.cfg$",
-
-            // 기타 주요 언어
-            ".*Cargo\\.toml$",
-            ".*go\\.mod$",
-            ".*Gemfile(\\.lock)?$",
-            ".*composer\\.(json|lock)$",
-
-            // C/C++ 및 범용
-            ".*CMakeLists\\.txt$",
-            ".*Makefile$",
-            ".*build\\.xml$"
-    );
-
-    private static final List<String> DOCKERFILE_PATTERNS = List.of(
-            ".*(?i)dockerfile.*$",
-            ".*(?i)docker-compose.*\\.(yml|yaml)$",
-            ".*(?i)compose.*\\.(yml|yaml)$"
-    );
+    private final PathClassifier pathClassifier;
 
     public void mapCicdInfo(RepositoryData data, TreeResponse response) {
-        if (response == null || response.tree() == null || response.tree().isEmpty()) {
+        mapCicdInfo(data, pathClassifier.index(response));
+    }
+
+    public void mapCicdInfo(RepositoryData data, TreeIndex tree) {
+        if (tree.isEmpty()) {
             setEmptyCicdData(data);
             return;
         }
 
-        List<String> filePaths = extractFilePaths(response);
-
         // CI/CD 설정 확인
-        List<String> cicdFiles = findCicdFiles(filePaths);
+        List<String> cicdFiles = tree.files(PathCategory.CICD);
         data.setHasCICD(!cicdFiles.isEmpty());
         data.setCicdFiles(cicdFiles);
 
         // 빌드 스크립트 확인
-        List<String> buildFiles = findBuildFiles(filePaths);
+        List<String> buildFiles = tree.files(PathCategory.BUILD_SCRIPT);
         data.setHasBuildFile(!buildFiles.isEmpty());
         data.setBuildFiles(buildFiles);
 
         // Dockerfile 별도 확인
-        boolean hasDockerfile = hasDockerFiles(filePaths);
-        data.setHasDockerfile(hasDockerfile);
+        data.setHasDockerfile(tree.has(PathCategory.DOCKER));
     }
 
     private void setEmptyCicdData(RepositoryData data) {
@@ -94,51 +43,4 @@ public class CicdInfoMapper {
         data.setCicdFiles(Collections.emptyList());
         data.setHasDockerfile(false);
     }
-
-    private List<String> extractFilePaths(TreeResponse response) {
-        if (response == null || response.tree() == null) {
-            return Collections.emptyList();
-        }
-
-        return response.tree().stream()
-                .filter(item -> "blob".equals(item.type()))
-                .map(TreeResponse.TreeItem::path)
-                .collect(Collectors.toList());
-    }
-
-    private List<String> findCicdFiles(List<String> filePaths) {
-        return filePaths.stream()
-                .filter(this::isCicdFile)
-                .collect(Collectors.toList());
-    }
-
-    private boolean isCicdFile(String filePath) {
-        if (filePath.matches(GITHUB_WORKFLOWS_PATTERN)) {
-            return true;
-        }
-
-        if (JENKINSFILE_PATTERNS.stream().anyMatch(filePath::matches)) {
-            return true;
-        }
-
-        return CICD_FILE_PATTERNS.stream()
-                .anyMatch(filePath::matches);
-    }
-
-    private List<String> findBuildFiles(List<String> filePaths) {
-        return filePaths.stream()
-                .filter(this::isBuildFile)
-                .collect(Collectors.toList());
-    }
-
-    private boolean isBuildFile(String filePath) {
-        return BUILD_FILE_PATTERNS.stream()
-                .anyMatch(filePath::matches);
-    }
-
-    private boolean hasDockerFiles(List<String> filePaths) {
-        return filePaths.stream()
-                .anyMatch(path -> DOCKERFILE_PATTERNS.stream()
-                        .anyMatch(path::matches));
-    }
 }
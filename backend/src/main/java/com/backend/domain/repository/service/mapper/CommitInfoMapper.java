@@ -47,6 +47,11 @@ public class CommitInfoMapper {
         data.setRecentCommits(recentCommits);
     }
 
+    // 캐시된 수집 결과 재사용 시 마지막 커밋 이후 경과일만 현재 기준으로 갱신
+    public void refreshDaysSinceLastCommit(RepositoryData data) {
+        data.setDaysSinceLastCommit(calculateDaysSinceLastCommit(data.getLastCommitDate()));
+    }
+
     private void setDefaultValues(RepositoryData data) {
         data.setLastCommitDate(null);
         data.setDaysSinceLastCommit(0);
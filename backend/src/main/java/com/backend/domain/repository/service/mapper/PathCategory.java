@@ -0,0 +1,12 @@
+package com.backend.domain.repository.service.mapper;
+
+// 트리 경로 분류 항목
+public enum PathCategory {
+    TEST,           // 테스트 파일 (테스트 디렉터리 하위 또는 테스트 파일명 규칙)
+    SOURCE,         // 소스 파일 (테스트 파일 제외)
+    SENSITIVE,      // 민감 파일 (예시/템플릿 등 안전 파일 제외)
+    BUILD,          // 빌드 파일 (파일명 일치)
+    BUILD_SCRIPT,   // 빌드 스크립트 (경로 접미사 일치, CI/CD 판단용)
+    CICD,           // CI/CD 설정 파일
+    DOCKER          // Dockerfile / docker-compose
+}
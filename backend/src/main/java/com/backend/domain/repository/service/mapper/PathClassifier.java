@@ -0,0 +1,371 @@
+package com.backend.domain.repository.service.mapper;
+
+import com.backend.domain.repository.dto.response.github.TreeResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/* 트리 경로 분류기 (테스트/소스/민감/빌드/CI/CD/Docker)
+ * 항목별 규칙을 하나의 정규식(alternation)으로 합쳐 애플리케이션 시작 시 한 번만 컴파일
+ * 확장자로 끝나는 규칙은 확장자별로 나눠 해당 경로에만 적용, 소스 확장자·빌드 파일명은 해시 조회로 판단
+ * 트리는 한 번만 순회해 TreeIndex로 만들고, Security/Test/CI/CD 매퍼는 인덱스를 공유 */
+@Component
+public class PathClassifier {
+
+    // 테스트 디렉토리
+    private static final List<String> TEST_DIRECTORY_PATTERNS = List.of(
+            "^src/test/.*",
+            ".*/(test|tests|spec|specs|__tests__)/.*",
+            ".*/(integration-tests?|functional-tests?|acceptance-tests?|e2e|qa|itest|utest)/.*"
+    );
+
+    // 테스트 파일
+    private static final List<String> TEST_FILE_PATTERNS = List.of(
+            // Java/Kotlin
+            ".*(Test|Tests|TestCase|IT|Spec|Feature|Scenario)\\.(java|kt)$",
+            ".*(Integration|Application|Unit|Functional|E2E|Performance|Load|Smoke|Acceptance|Regression|UITest).*Test\\.(java|kt)$",
+            ".*(TestBase|TestUtils?|TestHelper|TestData|TestConfig|TestSuite)\\.(java|kt)$",
+
+            // JavaScript/TypeScript
+            ".*\\.(test|spec|e2e-spec|integration|unit|browser)\\.(js|ts|jsx|tsx)$",
+
+            // Python
+            "^test_.*\\.py$",
+            ".*_test\\.py$",
+
+            // Go
+            ".*_test\\.go$",
+            ".*_(integration|unit)_test\\.go$",
+
+            // Ruby
+            ".*_spec\\.rb$",
+
+            // Rust
+            ".*_test\\.rs$",
+            ".*/tests\\.rs$",
+
+            // C/C++
+            ".*[Tt]est.*\\.(c|cpp|cc|cxx|h|hpp)$",
+
+            // Dart
+            ".*_test\\.dart$",
+
+            // PHP / Swift / C#
+            ".*Test\\.(php|swift|cs)$",
+
+            // 기타 패턴
+            ".*(Mock|Validator|Controller|Service|Repository|API|UI)Test\\.(java|kt|ts|py|cs|php|swift)$"
+    );
+
+    // 소스 파일 확장자
+    private static final Set<String> SOURCE_FILE_EXTENSIONS = Set.of(
+            "java", "kt", "scala", "js", "ts", "jsx", "tsx",
+            "py", "rb", "go", "rs", "cpp", "c", "cs",
+            "php", "swift", "m", "mm", "dart", "h", "hpp"
+    );
+
+    // 민감 파일
+    private static final List<String> SENSITIVE_FILE_PATTERNS = List.of(
+            // 환경 변수 파일
+            ".*\\.env$",
+            ".*\\.env\\.prod(uction)?$",
+            ".*\\.env\\.local$",
+
+            // 인증서 및 키
+            ".*\\.(pem|key|p12|pfx|crt|cer|p8)$",
+            ".*/id_rsa$|^id_rsa$",
+            ".*/id_dsa$|^id_dsa$",
+            ".*/id_ecdsa$|^id_ecdsa$",
+            ".*/authorized_keys$|^authorized_keys$",
+            ".*\\.(keystore|jks)$",
+
+            // 민감한 설정
+            ".*application-secret\\.ya?ml$",
+            ".*application-prod\\.ya?ml$",
+            ".*credentials\\.(json|xml|yml|yaml|properties)$",
+            ".*secret.*\\.(json|xml|yml|yaml|properties)$",
+            ".*secrets?\\.json$",
+
+            // 클라우드 인증
+            ".*/\\.aws/credentials$",
+            ".*service-account.*\\.json$",
+            ".*firebase.*\\.json$",
+            ".*google.*credentials.*\\.json$",
+
+            // 토큰 / API 키
+            ".*token.*\\.txt$",
+            ".*apikey.*\\.txt$",
+            ".*password.*\\.txt$",
+            ".*client_secret.*\\.(json|yml|yaml)$",
+            ".*oauth.*\\.json$",
+
+            // SSH 관련
+            ".*/\\.ssh/id_.*$",
+            ".*/\\.ssh/config$",
+
+            // 기타 확실한 민감 파일
+            ".*pgpass$",
+            ".*\\.netrc$"
+    );
+
+    // 민감 파일 패턴에 걸려도 제외할 안전 파일
+    private static final List<String> SAFE_FILE_PATTERNS = List.of(
+            // 예시/템플릿 파일들
+            ".*\\.(example|template|sample|dist|default)$",
+            ".*\\.env\\.(example|template|sample|dist)$",
+            ".*credentials\\.(example|sample|template)$",
+            ".*secret.*\\.(example|sample|template)$",
+
+            // 테스트/더미 데이터
+            ".*test.*\\.(json|yaml|yml|env|properties)$",
+            ".*mock.*\\.(json|yaml|yml|env|properties)$",
+            ".*dummy.*\\.(json|yaml|yml|env|properties)$",
+
+            // 예시 디렉토리들
+            ".*/fixtures/.*",
+            ".*/samples?/.*",
+            ".*/examples?/.*"
+    );
+
+    // 빌드 파일명
+    private static final Set<String> BUILD_FILE_NAMES = Set.of(
+            // 주요 빌드 파일들
+            "pom.xml", "build.gradle", "build.gradle.kts",
+            "package.json", "package-lock.json", "yarn.lock", "pnpm-lock.yaml",
+            "Cargo.toml", "go.mod", "requirements.txt", "pyproject.toml", "setup.py",
+            "CMakeLists.txt", "Makefile", "Dockerfile",
+
+            // 빌드 스크립트들
+            "gradlew", "gradlew.bat", "mvnw", "mvnw.cmd",
+
+            // 언어별 의존성 파일들
+            "Gemfile", "Gemfile.lock", "composer.json", "composer.lock",
+            "mix.exs", "build.sbt"
+    );
+
+    // 빌드 스크립트 (CI/CD 판단용, 경로 접미사 기준)
+    private static final List<String> BUILD_SCRIPT_PATTERNS = List.of(
+            // Java 빌드 도구
+            ".*pom\\.xml$",
+            ".*build\\.gradle(\\.kts)?$",
+            ".*gradlew(\\.bat)?$",
+            ".*mvnw(\\.cmd)?$",
+
+            // JavaScript/Node.js
+            ".*package\\.json$",
+            ".*(yarn\\.lock|pnpm-lock\\.yaml|package-lock\\.json)$",
+
+            // Python
+            ".*requirements\\.txt$",
+            ".*setup\\.py$",
+            ".*pyproject\\.toml$",
+            ".*setup\\.cfg$",
+
+            // 기타 주요 언어
+            ".*Cargo\\.toml$",
+            ".*go\\.mod$",
+            ".*Gemfile(\\.lock)?$",
+            ".*composer\\.(json|lock)$",
+
+            // C/C++ 및 범용
+            ".*CMakeLists\\.txt$",
+            ".*Makefile$",
+            ".*build\\.xml$"
+    );
+
+    // CI/CD 설정 파일
+    private static final List<String> CICD_FILE_PATTERNS = List.of(
+            // GitHub Actions
+            "^\\.github/workflows/.*\\.(yml|yaml)$",
+
+            // 주요 CI/CD 플랫폼
+            "^\\.gitlab-ci\\.(yml|yaml)$",
+            "^\\.travis\\.(yml|yaml)$",
+            "^azure-pipelines\\.(yml|yaml)$",
+            "^\\.circleci/config\\.(yml|yaml)$",
+            "^\\.github/actions/.*\\.(yml|yaml)$",
+            "^\\.bitbucket-pipelines\\.(yml|yaml)$",
+            "^\\.appveyor\\.(yml|yaml)$",
+
+            // Jenkins
+            ".*/[Jj]enkinsfile$",
+            "^[Jj]enkinsfile$",
+            ".*/[Jj]enkinsfile\\..+$",
+            "^[Jj]enkinsfile\\..+$"
+    );
+
+    // Dockerfile (대소문자 무시)
+    private static final List<String> DOCKER_FILE_PATTERNS = List.of(
+            ".*dockerfile.*$",
+            ".*docker-compose.*\\.(yml|yaml)$",
+            ".*compose.*\\.(yml|yaml)$"
+    );
+
+    private final RuleSet testDirectoryRules = new RuleSet(TEST_DIRECTORY_PATTERNS, 0);
+    private final RuleSet testFileRules = new RuleSet(concat(TEST_DIRECTORY_PATTERNS, TEST_FILE_PATTERNS), 0);
+    private final RuleSet sensitiveRules = new RuleSet(SENSITIVE_FILE_PATTERNS, 0);
+    private final RuleSet safeRules = new RuleSet(SAFE_FILE_PATTERNS, 0);
+    private final RuleSet buildScriptRules = new RuleSet(BUILD_SCRIPT_PATTERNS, 0);
+    private final RuleSet cicdRules = new RuleSet(CICD_FILE_PATTERNS, 0);
+    private final RuleSet dockerRules = new RuleSet(DOCKER_FILE_PATTERNS, Pattern.CASE_INSENSITIVE);
+
+    // 트리 인덱스 구성 - 트리를 한 번만 순회하며 파일(blob)별 분류, 테스트 디렉터리는 디렉터리 포함 전체 경로에서 확인
+    public TreeIndex index(TreeResponse response) {
+        if (response == null || response.tree() == null || response.tree().isEmpty()) {
+            return TreeIndex.empty();
+        }
+
+        TreeIndex.Builder builder = new TreeIndex.Builder(this);
+        for (TreeResponse.TreeItem item : response.tree()) {
+            builder.add(item.path(), item.type());
+        }
+        return builder.build();
+    }
+
+    // 파일 경로 하나의 분류 항목
+    public Set<PathCategory> classify(String filePath) {
+        Set<PathCategory> categories = EnumSet.noneOf(PathCategory.class);
+        String fileName = extractFileName(filePath);
+
+        boolean test = testFileRules.matches(filePath);
+        if (test) {
+            categories.add(PathCategory.TEST);
+        } else if (SOURCE_FILE_EXTENSIONS.contains(extractExtension(fileName))) {
+            categories.add(PathCategory.SOURCE);
+        }
+
+        if (sensitiveRules.matches(filePath) && !safeRules.matches(filePath)) {
+            categories.add(PathCategory.SENSITIVE);
+        }
+        if (BUILD_FILE_NAMES.contains(fileName)) {
+            categories.add(PathCategory.BUILD);
+        }
+        if (buildScriptRules.matches(filePath)) {
+            categories.add(PathCategory.BUILD_SCRIPT);
+        }
+        if (cicdRules.matches(filePath)) {
+            categories.add(PathCategory.CICD);
+        }
+        if (dockerRules.matches(filePath)) {
+            categories.add(PathCategory.DOCKER);
+        }
+
+        return categories;
+    }
+
+    public boolean isTestDirectory(String path) {
+        return testDirectoryRules.matches(path);
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> patterns = new ArrayList<>(first);
+        patterns.addAll(second);
+        return patterns;
+    }
+
+    private static String extractFileName(String filePath) {
+        int lastSlashIndex = filePath.lastIndexOf('/');
+        return lastSlashIndex >= 0 ? filePath.substring(lastSlashIndex + 1) : filePath;
+    }
+
+    private static String extractExtension(String fileName) {
+        int lastDotIndex = fileName.lastIndexOf('.');
+        return lastDotIndex >= 0 ? fileName.substring(lastDotIndex + 1) : "";
+    }
+
+    /* 한 항목의 규칙 묶음
+     * 규칙을 (?:p1)|(?:p2)|... 하나로 결합 - 전체 일치(matches) 기준으로 각 규칙 중 하나와 일치하는지와 동일
+     * "\.ext$", "\.(a|b)$"처럼 확장자로 끝나는 규칙은 해당 확장자 경로에만 적용되도록 확장자별로 따로 결합
+     * → 경로마다 확장자로 정규식을 고르고, 관련 없는 규칙의 .* 역추적을 건너뜀 */
+    private static final class RuleSet {
+        private static final Pattern EXTENSION_SUFFIX = Pattern.compile("\\\\\\.(?:([A-Za-z0-9]+)|\\(([A-Za-z0-9|]+)\\))\\$$");
+
+        private final int flags;
+        private final Pattern common;
+        private final Map<String, Pattern> byExtension = new HashMap<>();
+
+        RuleSet(List<String> patterns, int flags) {
+            this.flags = flags;
+
+            List<String> common = new ArrayList<>();
+            Map<String, List<String>> gated = new HashMap<>();
+            for (String pattern : patterns) {
+                List<String> extensions = requiredExtensions(pattern);
+                if (extensions.isEmpty()) {
+                    common.add(pattern);
+                } else {
+                    extensions.forEach(extension -> gated.computeIfAbsent(normalize(extension), key -> new ArrayList<>()).add(pattern));
+                }
+            }
+
+            this.common = combine(common, flags);
+            gated.forEach((extension, rules) -> byExtension.put(extension, combine(concat(common, rules), flags)));
+        }
+
+        boolean matches(String path) {
+            Pattern pattern = byExtension.getOrDefault(extensionOf(path), common);
+            return pattern != null && pattern.matcher(path).matches();
+        }
+
+        // 최상위 | 없이 확장자로 끝나는 규칙이면 그 확장자 목록, 아니면 빈 목록
+        private static List<String> requiredExtensions(String pattern) {
+            if (hasTopLevelAlternation(pattern)) {
+                return List.of();
+            }
+
+            Matcher matcher = EXTENSION_SUFFIX.matcher(pattern);
+            if (!matcher.find()) {
+                return List.of();
+            }
+            return (matcher.group(1) != null) ? List.of(matcher.group(1)) : List.of(matcher.group(2).split("\\|"));
+        }
+
+        private static boolean hasTopLevelAlternation(String pattern) {
+            int depth = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                } else if (c == '|' && depth == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 마지막 '.' 뒤 문자열 (디렉터리 구분자가 섞이면 확장자 없음)
+        private String extensionOf(String path) {
+            int dot = path.lastIndexOf('.');
+            if (dot < 0 || path.indexOf('/', dot) >= 0) {
+                return "";
+            }
+            return normalize(path.substring(dot + 1));
+        }
+
+        private String normalize(String extension) {
+            return ((flags & Pattern.CASE_INSENSITIVE) != 0) ? extension.toLowerCase(Locale.ROOT) : extension;
+        }
+
+        private static Pattern combine(List<String> patterns, int flags) {
+            if (patterns.isEmpty()) {
+                return null;
+            }
+            return Pattern.compile(patterns.stream()
+                    .map(pattern -> "(?:" + pattern + ")")
+                    .collect(Collectors.joining("|")), flags);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.backend.domain.repository.service.mapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/* 저장소 트리 인덱스 - 트리를 한 번만 순회해 만든 읽기 전용 뷰
+ * - 파일(blob)별 분류 결과를 비트마스크로 보관 (PathClassifier 규칙)
+ * - 디렉터리 경로는 한 번만 저장하고 파일은 파일명 + 디렉터리 번호로 보관 (전체 경로는 조회할 때만 조합)
+ * - 파일명 색인, 확장자 분포, 디렉터리별 파일/테스트/소스 개수
+ * Security/Test/CI/CD 매퍼는 같은 인덱스를 공유 */
+public class TreeIndex {
+    private static final TreeIndex EMPTY = new Builder(null).build();
+
+    private static final int NONE = -1;
+
+    private final boolean empty;
+    private final boolean hasTestDirectory;
+    private final List<String> fileNames;
+    private final int[] fileDirectories;
+    private final int[] fileCategories;
+    private final int[] categoryCounts;
+    private final List<String> directories;
+    private final int[] directoryFileCounts;
+    private final int[] directoryTestCounts;
+    private final int[] directorySourceCounts;
+    private final Map<String, Integer> firstFileByName;
+    private final int[] nextFileBySameName;
+    private final Map<String, Integer> extensionHistogram;
+
+    private TreeIndex(Builder builder) {
+        int fileCount = builder.fileNames.size();
+        int directoryCount = builder.directories.size();
+
+        this.empty = builder.entryCount == 0;
+        this.hasTestDirectory = builder.hasTestDirectory;
+        this.fileNames = Collections.unmodifiableList(builder.fileNames);
+        this.fileDirectories = Arrays.copyOf(builder.fileDirectories, fileCount);
+        this.fileCategories = Arrays.copyOf(builder.fileCategories, fileCount);
+        this.categoryCounts = builder.categoryCounts;
+        this.directories = Collections.unmodifiableList(builder.directories);
+        this.directoryFileCounts = Arrays.copyOf(builder.directoryFileCounts, directoryCount);
+        this.directoryTestCounts = Arrays.copyOf(builder.directoryTestCounts, directoryCount);
+        this.directorySourceCounts = Arrays.copyOf(builder.directorySourceCounts, directoryCount);
+        this.firstFileByName = builder.firstFileByName;
+        this.nextFileBySameName = Arrays.copyOf(builder.nextFileBySameName, fileCount);
+        this.extensionHistogram = Collections.unmodifiableMap(builder.extensionHistogram);
+    }
+
+    public static TreeIndex empty() {
+        return EMPTY;
+    }
+
+    // 트리가 없거나 비어 있는 경우
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public boolean hasTestDirectory() {
+        return hasTestDirectory;
+    }
+
+    public int fileCount() {
+        return fileNames.size();
+    }
+
+    // 항목에 해당하는 파일 경로 (트리 순서)
+    public List<String> files(PathCategory category) {
+        List<String> paths = new ArrayList<>(count(category));
+        if (count(category) == 0) {
+            return paths;
+        }
+
+        int bit = bit(category);
+        for (int i = 0; i < fileCategories.length; i++) {
+            if ((fileCategories[i] & bit) != 0) {
+                paths.add(path(i));
+            }
+        }
+        return paths;
+    }
+
+    public int count(PathCategory category) {
+        return categoryCounts[category.ordinal()];
+    }
+
+    public boolean has(PathCategory category) {
+        return count(category) > 0;
+    }
+
+    // 파일명이 일치하는 파일 경로 (예: "pom.xml" → 모든 모듈의 pom.xml)
+    public List<String> filesNamed(String fileName) {
+        List<String> paths = new ArrayList<>();
+        Integer first = firstFileByName.get(fileName);
+        for (int i = (first != null) ? first : NONE; i != NONE; i = nextFileBySameName[i]) {
+            paths.add(path(i));
+        }
+        return paths;
+    }
+
+    // 확장자(소문자)별 파일 수
+    public Map<String, Integer> extensionHistogram() {
+        return extensionHistogram;
+    }
+
+    // 파일이 직접 들어 있는 디렉터리별 통계 (루트는 "")
+    public List<DirectoryStats> directoryStats() {
+        List<DirectoryStats> stats = new ArrayList<>(directories.size());
+        for (int i = 0; i < directories.size(); i++) {
+            stats.add(new DirectoryStats(directories.get(i),
+                    directoryFileCounts[i], directoryTestCounts[i], directorySourceCounts[i]));
+        }
+        return stats;
+    }
+
+    private String path(int fileIndex) {
+        String directory = directories.get(fileDirectories[fileIndex]);
+        return directory.isEmpty() ? fileNames.get(fileIndex) : directory + "/" + fileNames.get(fileIndex);
+    }
+
+    private static int bit(PathCategory category) {
+        return 1 << category.ordinal();
+    }
+
+    public record DirectoryStats(
+            String path,
+            int fileCount,
+            int testFileCount,
+            int sourceFileCount
+    ) {}
+
+    // 트리 항목을 순서대로 받아 인덱스 구성 - 항목을 한 번씩만 분류
+    public static class Builder {
+        private static final int INITIAL_CAPACITY = 256;
+
+        private final PathClassifier classifier;
+
+        private int entryCount;
+        private boolean hasTestDirectory;
+
+        private final List<String> fileNames = new ArrayList<>();
+        private int[] fileDirectories = new int[INITIAL_CAPACITY];
+        private int[] fileCategories = new int[INITIAL_CAPACITY];
+        private int[] nextFileBySameName = new int[INITIAL_CAPACITY];
+        private final int[] categoryCounts = new int[PathCategory.values().length];
+
+        private final List<String> directories = new ArrayList<>();
+        private final Map<String, Integer> directoryIds = new HashMap<>();
+        private int[] directoryFileCounts = new int[INITIAL_CAPACITY];
+        private int[] directoryTestCounts = new int[INITIAL_CAPACITY];
+        private int[] directorySourceCounts = new int[INITIAL_CAPACITY];
+
+        private final Map<String, Integer> firstFileByName = new HashMap<>();
+        private final Map<String, Integer> lastFileByName = new HashMap<>();
+        private final Map<String, Integer> extensionHistogram = new LinkedHashMap<>();
+
+        public Builder(PathClassifier classifier) {
+            this.classifier = classifier;
+        }
+
+        public Builder add(String path, String type) {
+            if (path == null) {
+                return this;
+            }
+            entryCount++;
+
+            if (!hasTestDirectory && classifier.isTestDirectory(path)) {
+                hasTestDirectory = true;
+            }
+            if ("blob".equals(type)) {
+                addFile(path);
+            }
+            return this;
+        }
+
+        public TreeIndex build() {
+            return new TreeIndex(this);
+        }
+
+        private void addFile(String path) {
+            int index = fileNames.size();
+            ensureFileCapacity(index + 1);
+
+            int slash = path.lastIndexOf('/');
+            int directory = directoryId(slash >= 0 ? path.substring(0, slash) : "");
+            String fileName = slash >= 0 ? path.substring(slash + 1) : path;
+            fileNames.add(fileName);
+            fileDirectories[index] = directory;
+
+            int categories = 0;
+            for (PathCategory category : classifier.classify(path)) {
+                categories |= bit(category);
+                categoryCounts[category.ordinal()]++;
+            }
+
+            fileCategories[index] = categories;
+            directoryFileCounts[directory]++;
+            if ((categories & bit(PathCategory.TEST)) != 0) {
+                directoryTestCounts[directory]++;
+            }
+            if ((categories & bit(PathCategory.SOURCE)) != 0) {
+                directorySourceCounts[directory]++;
+            }
+
+            // 같은 파일명끼리 연결 리스트로 색인
+            nextFileBySameName[index] = NONE;
+            Integer last = lastFileByName.put(fileName, index);
+            if (last == null) {
+                firstFileByName.put(fileName, index);
+            } else {
+                nextFileBySameName[last] = index;
+            }
+
+            int dot = fileName.lastIndexOf('.');
+            if (dot > 0 && dot < fileName.length() - 1) {
+                extensionHistogram.merge(fileName.substring(dot + 1).toLowerCase(Locale.ROOT), 1, Integer::sum);
+            }
+        }
+
+        // 디렉터리 경로는 처음 본 문자열 하나만 보관하고 번호로 참조
+        private int directoryId(String directory) {
+            Integer id = directoryIds.get(directory);
+            if (id != null) {
+                return id;
+            }
+
+            int newId = directories.size();
+            directories.add(directory);
+            directoryIds.put(directory, newId);
+            if (newId >= directoryFileCounts.length) {
+                int capacity = directoryFileCounts.length * 2;
+                directoryFileCounts = Arrays.copyOf(directoryFileCounts, capacity);
+                directoryTestCounts = Arrays.copyOf(directoryTestCounts, capacity);
+                directorySourceCounts = Arrays.copyOf(directorySourceCounts, capacity);
+            }
+            return newId;
+        }
+
+        private void ensureFileCapacity(int size) {
+            if (size <= fileCategories.length) {
+                return;
+            }
+            int capacity = Math.max(size, fileCategories.length * 2);
+            fileDirectories = Arrays.copyOf(fileDirectories, capacity);
+            fileCategories = Arrays.copyOf(fileCategories, capacity);
+            nextFileBySameName = Arrays.copyOf(nextFileBySameName, capacity);
+        }
+    }
+}
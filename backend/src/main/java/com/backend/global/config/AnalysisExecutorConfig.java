@@ -0,0 +1,33 @@
+package com.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AnalysisExecutorConfig {
+
+    // --- 분석 작업 실행 스레드 풀 ---
+    @Value("${analysis.queue.workers:4}")
+    private int workers;
+
+    @Value("${analysis.queue.capacity:50}")
+    private int capacity;
+
+    // 대기열이 가득 차면 즉시 거절 (TaskRejectedException) - 호출 측에서 ANALYSIS_QUEUE_FULL로 변환
+    @Bean
+    public ThreadPoolTaskExecutor analysisJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(capacity);
+        executor.setThreadNamePrefix("analysis-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -14,16 +14,13 @@ public class ExternalApiClientConfig {
     @Value("${github.api.base-url}")
     private String githubBaseUrl;
 
-    @Value("${github.api.token}")
-    private String githubToken;
-
+    // 인증 헤더는 요청마다 GitHubCredentialPool에서 선택한 토큰으로 설정
     @Bean
     public WebClient githubWebClient() {
         return WebClient.builder()
                 .baseUrl(githubBaseUrl)
                 .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github+json")
                 .defaultHeader(HttpHeaders.USER_AGENT, "PortpolioIQ-App")
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + githubToken)
                 .codecs(configurer -> {
                     configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024);
                 })
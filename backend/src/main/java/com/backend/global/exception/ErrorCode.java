@@ -32,6 +32,10 @@ public enum ErrorCode {
     FORBIDDEN("A005", HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
     ANALYSIS_IN_PROGRESS("A006", HttpStatus.CONFLICT, "이미 분석이 진행 중입니다. 잠시 후 다시 시도해주세요."),
     ANALYSIS_FAIL("A006", HttpStatus.INTERNAL_SERVER_ERROR, "이미 분석이 진행 중입니다. 잠시 후 다시 시도해주세요."),
+    ANALYSIS_QUEUE_FULL("A008", HttpStatus.SERVICE_UNAVAILABLE, "분석 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    ANALYSIS_USER_LIMIT_EXCEEDED("A009", HttpStatus.TOO_MANY_REQUESTS, "동시에 진행할 수 있는 분석 수를 초과했습니다."),
+    ANALYSIS_JOB_NOT_FOUND("A010", HttpStatus.NOT_FOUND, "분석 작업을 찾을 수 없습니다."),
+    PORTFOLIO_EMPTY("A011", HttpStatus.BAD_REQUEST, "분석할 수 있는 저장소가 없습니다."),
 
     // ========== repository 도메인 에러 ==========
     GITHUB_REPO_NOT_FOUND("G001", HttpStatus.BAD_REQUEST, "GitHub 저장소를 찾을 수 없습니다."),
@@ -41,6 +45,10 @@ public enum ErrorCode {
     GITHUB_RESPONSE_PARSE_ERROR("G005", HttpStatus.INTERNAL_SERVER_ERROR, "GitHub 응답 데이터를 처리하는 중 오류가 발생했습니다."),
     GITHUB_API_FAILED("G006", HttpStatus.BAD_REQUEST, "GitHub API 응답에 실패했습니다."),
     GITHUB_REPO_TOO_LARGE("G007", HttpStatus.BAD_REQUEST, "저장소가 너무 커서 분석할 수 없습니다. (제한: 500MB)"),
+    GITHUB_USER_NOT_FOUND("G008", HttpStatus.BAD_REQUEST, "GitHub 사용자를 찾을 수 없습니다."),
+
+    // ========== evaluation 도메인 에러 ==========
+    AI_UNAVAILABLE("E001", HttpStatus.SERVICE_UNAVAILABLE, "AI 평가를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // ========== comment 도메인 에러 ==========
     COMMENT_NOT_FOUND("R001", HttpStatus.BAD_REQUEST, "존재하지 않는 댓글입니다."),
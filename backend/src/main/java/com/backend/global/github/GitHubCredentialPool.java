@@ -0,0 +1,83 @@
+package com.backend.global.github;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.util.context.Context;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/* GitHub 인증 토큰 선택
+ * 분석 요청 사용자의 토큰이 있으면 우선 사용하고, 없거나 소진된 경우 서비스 토큰 풀에서 선택
+ * 풀에서는 남은 호출 수가 가장 많은 토큰, 같으면 사용 횟수가 가장 적은 토큰을 선택 */
+@Slf4j
+@Component
+public class GitHubCredentialPool {
+
+    // Reactor Context 키 - 분석 요청 사용자의 GitHub 토큰
+    public static final String USER_TOKEN_KEY = GitHubCredentialPool.class.getName() + ".userToken";
+
+    private static final int UNKNOWN_REMAINING = Integer.MAX_VALUE;
+
+    private final GitHubRateLimiter rateLimiter;
+    private final List<String> serviceTokens;
+    private final Map<String, AtomicLong> usage = new ConcurrentHashMap<>();
+
+    public GitHubCredentialPool(
+            GitHubRateLimiter rateLimiter,
+            @Value("${github.api.token:}") String defaultToken,
+            @Value("${github.api.tokens:}") String additionalTokens
+    ) {
+        this.rateLimiter = rateLimiter;
+
+        Set<String> tokens = new LinkedHashSet<>();
+        Stream.concat(Stream.of(defaultToken), Arrays.stream(additionalTokens.split(",")))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .forEach(tokens::add);
+        this.serviceTokens = List.copyOf(tokens);
+
+        log.info("GitHub 서비스 토큰 {}개 등록", serviceTokens.size());
+    }
+
+    // 사용자 토큰 지정 - 구독 체인 하위에서 발생하는 GitHub 요청에 적용
+    public static Context withUserToken(Context context, String userToken) {
+        return (userToken != null && !userToken.isBlank()) ? context.put(USER_TOKEN_KEY, userToken) : context;
+    }
+
+    // 요청에 사용할 토큰 선택 - 사용 가능한 토큰이 없으면 null (비인증 요청)
+    public String select(String userToken) {
+        if (userToken != null && !userToken.isBlank() && rateLimiter.remaining(userToken) != 0) {
+            return record(userToken);
+        }
+
+        return serviceTokens.stream()
+                .max(Comparator.<String>comparingInt(this::remaining)
+                        .thenComparing(Comparator.<String>comparingLong(this::usageCount).reversed()))
+                .map(this::record)
+                .orElse(null);
+    }
+
+    private int remaining(String token) {
+        int remaining = rateLimiter.remaining(token);
+        return (remaining < 0) ? UNKNOWN_REMAINING : remaining;
+    }
+
+    private long usageCount(String token) {
+        AtomicLong count = usage.get(token);
+        return (count != null) ? count.get() : 0;
+    }
+
+    private String record(String token) {
+        usage.computeIfAbsent(token, key -> new AtomicLong()).incrementAndGet();
+        return token;
+    }
+}
@@ -0,0 +1,49 @@
+package com.backend.global.github;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+
+/* GitHub 페이지네이션 Link 헤더 파싱
+ * 예: <https://api.github.com/repositories/1/commits?page=2>; rel="next", <...?page=5>; rel="last" */
+public final class GitHubLinkHeader {
+    private GitHubLinkHeader() {}
+
+    // rel="next" 링크 추출 - 마지막 페이지면 null
+    public static String nextUrl(HttpHeaders headers) {
+        List<String> values = headers.get(HttpHeaders.LINK);
+        if (values == null) {
+            return null;
+        }
+
+        for (String value : values) {
+            String next = findRel(value, "next");
+            if (next != null) {
+                return next;
+            }
+        }
+        return null;
+    }
+
+    static String findRel(String headerValue, String rel) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return null;
+        }
+
+        for (String link : headerValue.split(",")) {
+            String[] segments = link.split(";");
+            String url = segments[0].trim();
+            if (!url.startsWith("<") || !url.endsWith(">")) {
+                continue;
+            }
+
+            for (int i = 1; i < segments.length; i++) {
+                String param = segments[i].trim();
+                if (param.equals("rel=\"" + rel + "\"") || param.equals("rel=" + rel)) {
+                    return url.substring(1, url.length() - 1);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,229 @@
+package com.backend.global.github;
+
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/* GitHub API 요청 스케줄러
+ * 토큰별 남은 호출 수(X-RateLimit-Remaining)와 초기화 시각(X-RateLimit-Reset)을 추적하고,
+ * 초기화 시각까지 남은 호출 수를 고르게 쓰도록 토큰 버킷으로 요청을 통과시킴
+ * 남은 호출 수가 적으면 LOW 우선순위 요청은 대기(초기화가 가까운 경우) 또는 거절 */
+@Slf4j
+@Component
+public class GitHubRateLimiter {
+
+    // Reactor Context 키 - 요청 우선순위, 대기 발생 시 알림 콜백
+    public static final String PRIORITY_KEY = GitHubRateLimiter.class.getName() + ".priority";
+    public static final String WAIT_LISTENER_KEY = GitHubRateLimiter.class.getName() + ".waitListener";
+
+    public enum Priority { HIGH, LOW }
+
+    private final Map<String, TokenBudget> budgets = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final int burst;
+    private final int lowPriorityReserve;
+    private final Duration maxWait;
+
+    public GitHubRateLimiter(
+            @Value("${github.rate-limit.burst:30}") int burst,
+            @Value("${github.rate-limit.low-priority-reserve:500}") int lowPriorityReserve,
+            @Value("${github.rate-limit.max-wait:PT1M}") Duration maxWait
+    ) {
+        this(Clock.systemUTC(), burst, lowPriorityReserve, maxWait);
+    }
+
+    GitHubRateLimiter(Clock clock, int burst, int lowPriorityReserve, Duration maxWait) {
+        this.clock = clock;
+        this.burst = burst;
+        this.lowPriorityReserve = lowPriorityReserve;
+        this.maxWait = maxWait;
+    }
+
+    // 우선순위 지정 - 구독 체인 하위에서 발생하는 GitHub 요청에 적용
+    public static Context withPriority(Context context, Priority priority) {
+        return context.put(PRIORITY_KEY, priority);
+    }
+
+    // 대기 알림 콜백 지정 - 요청이 지연될 때 예상 대기 시간 전달 (SSE 안내용)
+    public static Context withWaitListener(Context context, Consumer<Duration> listener) {
+        return context.put(WAIT_LISTENER_KEY, listener);
+    }
+
+    /* 요청 허가 - 통과 가능할 때 완료되는 Mono 반환
+     * 대기 시간이 허용 범위를 넘는 경우 GITHUB_RATE_LIMIT_EXCEEDED */
+    public Mono<Void> acquire(String token) {
+        return Mono.deferContextual(context -> {
+            Priority priority = context.getOrDefault(PRIORITY_KEY, Priority.HIGH);
+            Duration wait = budget(token).reserve(priority, clock.millis());
+
+            if (wait == null) {
+                log.warn("GitHub API 호출 한도 부족으로 요청 거절 - priority: {}", priority);
+                return Mono.error(new BusinessException(ErrorCode.GITHUB_RATE_LIMIT_EXCEEDED));
+            }
+            if (wait.isZero()) {
+                return Mono.empty();
+            }
+
+            log.info("GitHub API 호출 대기 - priority: {}, wait: {}ms", priority, wait.toMillis());
+            notifyWait(context, wait);
+            return Mono.delay(wait).then();
+        });
+    }
+
+    // 응답 헤더로 토큰별 남은 호출 수 갱신
+    public void update(String token, HttpHeaders headers) {
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        String limit = headers.getFirst("X-RateLimit-Limit");
+        String reset = headers.getFirst("X-RateLimit-Reset");
+        if (remaining == null || reset == null) {
+            return;
+        }
+
+        try {
+            budget(token).update(
+                    Integer.parseInt(remaining),
+                    (limit != null) ? Integer.parseInt(limit) : -1,
+                    Long.parseLong(reset) * 1000
+            );
+        } catch (NumberFormatException e) {
+            log.warn("Rate Limit 헤더 값 파싱 실패: remaining={}, reset={}", remaining, reset);
+        }
+    }
+
+    // 지정한 수의 요청을 보내기까지 예상 대기 시간
+    public Duration predictWait(String token, int requests) {
+        return budget(token).predictWait(requests, clock.millis());
+    }
+
+    // 토큰의 남은 호출 수 - 아직 알 수 없으면 -1
+    public int remaining(String token) {
+        return budget(token).remaining(clock.millis());
+    }
+
+    private TokenBudget budget(String token) {
+        return budgets.computeIfAbsent((token != null) ? token : "", key -> new TokenBudget());
+    }
+
+    private void notifyWait(ContextView context, Duration wait) {
+        context.<Consumer<Duration>>getOrEmpty(WAIT_LISTENER_KEY).ifPresent(listener -> {
+            try {
+                listener.accept(wait);
+            } catch (Exception e) {
+                log.debug("대기 알림 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    /* 토큰 하나의 호출 예산
+     * remaining/resetAt은 GitHub 응답 헤더 기준, tokens는 로컬 버킷 잔량
+     * 버킷 충전 속도 = 남은 호출 수 / 초기화까지 남은 시간 */
+    private class TokenBudget {
+        private int remaining = -1;   // 헤더를 받기 전에는 알 수 없음
+        private int limit = -1;
+        private long resetAt;
+        private double tokens = burst;
+        private long lastRefill;
+
+        synchronized void update(int remaining, int limit, long resetAt) {
+            this.remaining = remaining;
+            this.limit = limit;
+            this.resetAt = resetAt;
+        }
+
+        // 요청 1건 예약 - 대기 시간 반환, 허용 범위를 넘으면 null
+        synchronized Duration reserve(Priority priority, long now) {
+            rollOver(now);
+            if (remaining < 0) {
+                return Duration.ZERO;
+            }
+
+            long untilReset = Math.max(0, resetAt - now);
+
+            // 남은 호출이 없으면 초기화 시각까지 대기
+            if (remaining == 0) {
+                return admitAfter(untilReset);
+            }
+            // 예산이 적으면 LOW 우선순위는 HIGH 요청 몫으로 남겨둠
+            if (priority == Priority.LOW && remaining <= lowPriorityReserve) {
+                return admitAfter(untilReset);
+            }
+
+            refill(now, untilReset);
+            tokens -= 1;
+            remaining -= 1;
+            if (tokens >= 0) {
+                return Duration.ZERO;
+            }
+
+            long wait = (long) Math.ceil(-tokens / ratePerMilli(untilReset));
+            if (wait > maxWait.toMillis()) {
+                tokens += 1;
+                remaining += 1;
+                return null;
+            }
+            return Duration.ofMillis(wait);
+        }
+
+        synchronized int remaining(long now) {
+            rollOver(now);
+            return remaining;
+        }
+
+        synchronized Duration predictWait(int requests, long now) {
+            rollOver(now);
+            if (remaining < 0) {
+                return Duration.ZERO;
+            }
+
+            long untilReset = Math.max(0, resetAt - now);
+            if (remaining < requests) {
+                return Duration.ofMillis(untilReset);
+            }
+
+            refill(now, untilReset);
+            double shortage = requests - tokens;
+            if (shortage <= 0) {
+                return Duration.ZERO;
+            }
+            return Duration.ofMillis((long) Math.ceil(shortage / ratePerMilli(untilReset)));
+        }
+
+        // 초기화 시각이 지나면 한도 복구
+        private void rollOver(long now) {
+            if (remaining >= 0 && resetAt > 0 && now >= resetAt) {
+                remaining = (limit > 0) ? limit : -1;
+                tokens = burst;
+                lastRefill = now;
+            }
+        }
+
+        private void refill(long now, long untilReset) {
+            if (lastRefill == 0) {
+                lastRefill = now;
+                return;
+            }
+            tokens = Math.min(burst, tokens + (now - lastRefill) * ratePerMilli(untilReset));
+            lastRefill = now;
+        }
+
+        private double ratePerMilli(long untilReset) {
+            return (double) Math.max(remaining, 1) / Math.max(untilReset, 1000);
+        }
+
+        private Duration admitAfter(long untilReset) {
+            return (untilReset <= maxWait.toMillis()) ? Duration.ofMillis(untilReset) : null;
+        }
+    }
+}
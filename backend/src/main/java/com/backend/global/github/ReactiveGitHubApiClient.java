@@ -0,0 +1,332 @@
+package com.backend.global.github;
+
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.github.cache.CachedResponse;
+import com.backend.global.github.cache.GitHubResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/* GitHub API 논블로킹 클라이언트
+ * 모든 호출은 Mono/Flux로 반환되며 구독 시점에 요청이 전송됨
+ * 호출마다 Rate Limit 확인, 일시적 오류(네트워크 타임아웃, 500/503) 재시도, GitHub 오류의 BusinessException 변환을 적용
+ * 단건 GET 요청은 GitHubResponseCache를 통해 조건부 요청(ETag)으로 전송 (스트리밍 요청 제외)
+ * 인증 토큰은 요청마다 GitHubCredentialPool에서 선택 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveGitHubApiClient {
+
+    private final WebClient githubWebClient;
+    private final GitHubResponseCache responseCache;
+    private final GitHubRateLimiter rateLimiter;
+    private final GitHubCredentialPool credentialPool;
+    private final ObjectMapper objectMapper;
+
+    private static final int RATE_LIMIT_WARNING_THRESHOLD = 100;
+    private static final int RATE_LIMIT_CRITICAL_THRESHOLD = 10;
+    private static final int MAX_RETRY_ATTEMPTS = 1;  // 원본 1회 + 재시도 1회
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    // GitHub API GET 요청 - 기본 JSON 응답
+    public <T> Mono<T> get(String uri, Class<T> responseType, Object... uriVariables) {
+        return getCached(uri, null, uriVariables)
+                .map(body -> decode(body, responseType));
+    }
+
+    // GitHub API GET 요청 - 커스텀 Accept 헤더
+    public <T> Mono<T> getWithAcceptHeader(String uri, Class<T> responseType, String acceptHeader, Object... uriVariables) {
+        return getCached(uri, acceptHeader, uriVariables)
+                .map(body -> decode(body, responseType));
+    }
+
+    // GitHub API GET 요청 - Raw 본문 (Readme)
+    public Mono<String> getRaw(String uri, Object... uriVariables) {
+        return getCached(uri, "application/vnd.github.raw", uriVariables);
+    }
+
+    // GitHub API GET 요청 - 커스텀 Accept 헤더, 본문 문자열 그대로 반환 (예: application/vnd.github.sha)
+    public Mono<String> getText(String uri, String acceptHeader, Object... uriVariables) {
+        return getCached(uri, acceptHeader, uriVariables);
+    }
+
+    /* GitHub API GET 요청 - 본문을 DataBuffer 스트림으로 읽기 (트리 등 큰 응답)
+     * 본문 전체를 메모리에 올리지 않으므로 코덱 버퍼 한도가 적용되지 않으며, 응답 캐시(ETag)를 거치지 않음
+     * bodyReader는 응답마다 새로 구독되며(재시도 포함) 받은 버퍼를 해제해야 함 */
+    public <T> Mono<T> getStreaming(String uri, Function<Flux<DataBuffer>, Mono<T>> bodyReader, Object... uriVariables) {
+        return withToken(token -> execute(token,
+                githubWebClient.get()
+                        .uri(uri, uriVariables)
+                        .headers(headers -> authorize(headers, token))
+                        .exchangeToMono(response -> {
+                            checkRateLimit(token, response.headers().asHttpHeaders());
+                            if (!response.statusCode().is2xxSuccessful()) {
+                                return response.createError();
+                            }
+                            return bodyReader.apply(response.bodyToFlux(DataBuffer.class));
+                        })
+        ));
+    }
+
+    /* 조건부 요청 - 캐시된 ETag/Last-Modified가 있으면 If-None-Match/If-Modified-Since 전송
+     * 304 응답은 Rate Limit에 차감되지 않으며 캐시된 본문을 그대로 사용 */
+    private Mono<String> getCached(String uri, String acceptHeader, Object... uriVariables) {
+        return withToken(token -> {
+            String key = responseCache.key(
+                    token,
+                    (acceptHeader != null) ? acceptHeader : "default",
+                    UriComponentsBuilder.fromUriString(uri).buildAndExpand(uriVariables).toUriString()
+            );
+
+            return responseCache.find(key)
+                    .doOnNext(cached -> responseCache.recordHit())
+                    .map(Optional::of)
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        responseCache.recordMiss();
+                        return Optional.<CachedResponse>empty();
+                    }))
+                    .flatMap(cached -> execute(token, exchange(token, key, cached.orElse(null), uri, acceptHeader, uriVariables)));
+        });
+    }
+
+    private Mono<String> exchange(String token, String key, CachedResponse cached,
+                                  String uri, String acceptHeader, Object... uriVariables) {
+        return githubWebClient.get()
+                .uri(uri, uriVariables)
+                .headers(headers -> {
+                    authorize(headers, token);
+                    if (acceptHeader != null) {
+                        headers.set(HttpHeaders.ACCEPT, acceptHeader);
+                    }
+                    if (cached != null && cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                    if (cached != null && cached.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    checkRateLimit(token, headers);
+
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+                        responseCache.recordNotModified();
+                        return response.releaseBody().thenReturn(cached.body());
+                    }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.createError();
+                    }
+
+                    return response.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .flatMap(body -> responseCache.store(key, new CachedResponse(
+                                    headers.getETag(),
+                                    headers.getFirst(HttpHeaders.LAST_MODIFIED),
+                                    body,
+                                    System.currentTimeMillis()
+                            )).thenReturn(body));
+                });
+    }
+
+    // 캐시/응답 본문(JSON)을 응답 타입으로 변환
+    private <T> T decode(String body, Class<T> responseType) {
+        if (body.isBlank()) {
+            throw new BusinessException(ErrorCode.GITHUB_API_FAILED);
+        }
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            log.error("GitHub 응답 파싱 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.GITHUB_RESPONSE_PARSE_ERROR);
+        }
+    }
+
+    // GitHub API List 응답 처리 - 배열 요소를 도착하는 대로 방출
+    public <T> Flux<T> getList(String uri, Class<T> elementType, Object... uriVariables) {
+        return withToken(token -> execute(token,
+                githubWebClient.get()
+                        .uri(uri, uriVariables)
+                        .headers(headers -> authorize(headers, token))
+                        .retrieve()
+                        .toEntityFlux(elementType)
+                        .map(response -> {
+                            checkRateLimit(token, response.getHeaders());
+                            Flux<T> body = response.getBody();
+                            return (body != null) ? body : Flux.<T>empty();
+                        })
+        )).flatMapMany(body -> body);
+    }
+
+    /* GitHub API 페이지네이션 응답 처리
+     * Link 헤더의 rel="next"를 따라가며 요소를 지연 방출 - 하위에서 취소(take, takeWhile)하면 다음 페이지는 요청하지 않음
+     * 한 번에 메모리에 올라가는 데이터는 한 페이지 분량으로 제한됨 */
+    public <T> Flux<T> getPaged(String uri, Class<T> elementType, int maxPages, Object... uriVariables) {
+        return fetchPage(githubWebClient.get().uri(uri, uriVariables), elementType, 1)
+                .expand(page -> (page.nextUrl() != null && page.number() < maxPages)
+                        ? fetchPage(githubWebClient.get().uri(URI.create(page.nextUrl())), elementType, page.number() + 1)
+                        : Mono.<Page<T>>empty())
+                .concatMapIterable(Page::items, 1);
+    }
+
+    // 페이지마다 토큰을 다시 선택 - 수집 도중 토큰이 소진되면 다른 토큰으로 이어서 요청
+    private <T> Mono<Page<T>> fetchPage(WebClient.RequestHeadersSpec<?> request, Class<T> elementType, int number) {
+        return withToken(token -> execute(token,
+                request.headers(headers -> authorize(headers, token))
+                        .retrieve()
+                        .toEntityList(elementType)
+                        .map(response -> {
+                            checkRateLimit(token, response.getHeaders());
+                            List<T> body = response.getBody();
+                            return new Page<>(
+                                    (body != null) ? body : Collections.<T>emptyList(),
+                                    GitHubLinkHeader.nextUrl(response.getHeaders()),
+                                    number
+                            );
+                        })
+        ));
+    }
+
+    // 페이지 단위 응답 - 요소 목록 + 다음 페이지 URL + 페이지 번호(1부터)
+    private record Page<T>(List<T> items, String nextUrl, int number) {}
+
+    // 지정한 수의 요청을 보내기까지 예상 대기 시간 (Rate Limit 기준)
+    public Mono<Duration> predictWait(int requests) {
+        return withToken(token -> Mono.just(rateLimiter.predictWait(token, requests)));
+    }
+
+    // 요청마다 인증 토큰 선택 - Reactor Context의 사용자 토큰 우선, 없으면 서비스 토큰 풀
+    private <T> Mono<T> withToken(Function<String, Mono<T>> call) {
+        return Mono.deferContextual(context ->
+                call.apply(credentialPool.select(context.getOrDefault(GitHubCredentialPool.USER_TOKEN_KEY, null))));
+    }
+
+    private void authorize(HttpHeaders headers, String token) {
+        if (token != null) {
+            headers.setBearerAuth(token);
+        }
+    }
+
+    // 호출 한도 확인 후 요청, 일시적 오류 재시도 및 공통 예외 처리
+    private <T> Mono<T> execute(String token, Mono<T> request) {
+        return rateLimiter.acquire(token)
+                .then(request)
+                .retryWhen(Retry.fixedDelay(MAX_RETRY_ATTEMPTS, RETRY_DELAY)
+                        .filter(this::isRetryable)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .onErrorResume(WebClientResponseException.class, this::handleWebClientError);
+    }
+
+    // 네트워크 오류, 500/503 응답만 재시도
+    private boolean isRetryable(Throwable throwable) {
+        return throwable instanceof WebClientRequestException
+                || throwable instanceof WebClientResponseException.ServiceUnavailable
+                || throwable instanceof WebClientResponseException.InternalServerError;
+    }
+
+    // WebClient 응답 예외를 비즈니스 예외로 변환
+    private <T> Mono<T> handleWebClientError(WebClientResponseException ex) {
+        log.error("GitHub API 호출 실패: {}", ex.getMessage());
+
+        if (ex.getStatusCode().is4xxClientError()) {
+            HttpStatus status = (HttpStatus) ex.getStatusCode();
+
+            if (status == HttpStatus.BAD_REQUEST) {
+                return Mono.error(new BusinessException(ErrorCode.GITHUB_API_FAILED));
+            }
+            if (status == HttpStatus.UNAUTHORIZED) {
+                return Mono.error(new BusinessException(ErrorCode.GITHUB_INVALID_TOKEN));
+            }
+            if (status == HttpStatus.FORBIDDEN) {
+                // 호출 한도 초과도 403으로 응답됨 (남은 호출 수 0 또는 Secondary Rate Limit)
+                if (isRateLimited(ex.getHeaders())) {
+                    return Mono.error(new BusinessException(ErrorCode.GITHUB_RATE_LIMIT_EXCEEDED));
+                }
+                return Mono.error(new BusinessException(ErrorCode.FORBIDDEN));
+            }
+            if (status == HttpStatus.NOT_FOUND) {
+                return Mono.error(new BusinessException(ErrorCode.GITHUB_REPO_NOT_FOUND));
+            }
+            if (status == HttpStatus.GONE) {
+                return Mono.error(new BusinessException(ErrorCode.GITHUB_API_FAILED));
+            }
+            if (status == HttpStatus.UNPROCESSABLE_ENTITY) {
+                return Mono.error(new BusinessException(ErrorCode.GITHUB_API_FAILED));
+            }
+            if (status == HttpStatus.TOO_MANY_REQUESTS) {
+                return Mono.error(new BusinessException(ErrorCode.GITHUB_RATE_LIMIT_EXCEEDED));
+            }
+
+            return Mono.error(new BusinessException(ErrorCode.GITHUB_REPO_NOT_FOUND));
+        }
+        if (ex.getStatusCode().is5xxServerError()) {
+            return Mono.error(new BusinessException(ErrorCode.GITHUB_API_SERVER_ERROR));
+        }
+        return Mono.error(new BusinessException(ErrorCode.GITHUB_API_FAILED));
+    }
+
+    private boolean isRateLimited(HttpHeaders headers) {
+        return "0".equals(getHeaderValue(headers, "X-RateLimit-Remaining"))
+                || getHeaderValue(headers, "Retry-After") != null;
+    }
+
+    // GitHub API Rate Limit 상태 확인 및 로깅 - 남은 호출 수는 스케줄러에 반영
+    private void checkRateLimit(String token, HttpHeaders headers) {
+        rateLimiter.update(token, headers);
+        try {
+            String remainingStr = getHeaderValue(headers, "X-RateLimit-Remaining");
+            String resetStr = getHeaderValue(headers, "X-RateLimit-Reset");
+
+            if (remainingStr == null || resetStr == null) {
+                log.debug("Rate Limit 헤더를 찾을 수 없습니다.");
+                return;
+            }
+
+            int remaining = Integer.parseInt(remainingStr);
+            long resetTime = Long.parseLong(resetStr);
+            long currentTime = System.currentTimeMillis() / 1000;
+            long timeUntilReset = resetTime - currentTime;
+
+            log.info("GitHub API Rate Limit - 남은 요청: {}, 초기화까지: {}분",
+                    remaining, timeUntilReset / 60);
+
+            if (remaining <= RATE_LIMIT_CRITICAL_THRESHOLD) {
+                log.error("🚨 GitHub API Rate Limit - 남은 요청: {}, 초기화: {}분 후",
+                        remaining, timeUntilReset / 60);
+            } else if (remaining <= RATE_LIMIT_WARNING_THRESHOLD) {
+                log.warn("⚠️ GitHub API Rate Limit - 남은 요청: {}, 초기화: {}분 후",
+                        remaining, timeUntilReset / 60);
+            }
+
+        } catch (NumberFormatException e) {
+            log.error("Rate Limit 헤더 값 파싱 실패", e);
+        } catch (Exception e) {
+            log.error("Rate Limit 헤더 처리 중 오류 발생", e);
+        }
+    }
+
+    // HTTP 헤더에서 특정 값 추출
+    private String getHeaderValue(HttpHeaders headers, String headerName) {
+        List<String> values = headers.get(headerName);
+        return (values != null && !values.isEmpty()) ? values.get(0) : null;
+    }
+}
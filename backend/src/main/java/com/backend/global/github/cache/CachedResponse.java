@@ -0,0 +1,13 @@
+package com.backend.global.github.cache;
+
+// GitHub 응답 캐시 항목 - 검증자(ETag, Last-Modified) + 본문 + 저장 시각(epoch millis)
+public record CachedResponse(
+        String etag,
+        String lastModified,
+        String body,
+        long storedAt
+) {
+    public boolean hasValidator() {
+        return etag != null || lastModified != null;
+    }
+}
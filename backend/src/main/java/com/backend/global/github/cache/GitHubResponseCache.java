@@ -0,0 +1,149 @@
+package com.backend.global.github.cache;
+
+import com.backend.global.cache.TtlLruCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/* GitHub 조건부 요청(ETag / Last-Modified)용 응답 캐시
+ * 1차: 인메모리 LRU, 2차(선택): Redis
+ * 키는 URI + Accept 헤더 + 토큰 지문 조합 (토큰마다 접근 가능한 데이터가 다를 수 있음) */
+@Slf4j
+@Component
+public class GitHubResponseCache {
+    private static final String KEY_PREFIX = "github:response:";
+
+    private final TtlLruCache<String, CachedResponse> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration ttl;
+
+    private final Counter hitCounter;
+    private final Counter notModifiedCounter;
+    private final Counter missCounter;
+
+    public GitHubResponseCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${github.cache.max-entries:2000}") int maxEntries,
+            @Value("${github.cache.ttl:PT24H}") Duration ttl,
+            @Value("${github.cache.redis.enabled:false}") boolean redisEnabled
+    ) {
+        this.localCache = new TtlLruCache<>(maxEntries, ttl);
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.ttl = ttl;
+
+        // hit: 캐시 항목으로 조건부 요청, miss: 캐시 없이 일반 요청, not_modified: 304로 캐시 본문 재사용
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.notModifiedCounter = counter(meterRegistry, "not_modified");
+        this.missCounter = counter(meterRegistry, "miss");
+        Gauge.builder("github.cache.size", localCache, TtlLruCache::size)
+                .description("GitHub 응답 인메모리 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    // 캐시 키 생성 - 토큰 원문 대신 지문만 사용
+    public String key(String token, String acceptHeader, String uri) {
+        return KEY_PREFIX + fingerprint(token) + ":" + acceptHeader + ":" + uri;
+    }
+
+    // 캐시 조회 - 인메모리에 없으면 Redis 조회 후 인메모리에 적재
+    public Mono<CachedResponse> find(String key) {
+        CachedResponse local = localCache.get(key);
+        if (local != null) {
+            return Mono.just(local);
+        }
+        if (!redisEnabled) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> readRedis(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(cached -> localCache.put(key, cached));
+    }
+
+    // 캐시 저장 - 검증자(ETag/Last-Modified)가 없는 응답은 재검증할 수 없으므로 저장하지 않음
+    public Mono<Void> store(String key, CachedResponse response) {
+        if (!response.hasValidator()) {
+            return Mono.empty();
+        }
+
+        localCache.put(key, response);
+        if (!redisEnabled) {
+            return Mono.empty();
+        }
+
+        return Mono.fromRunnable(() -> writeRedis(key, response))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    public void recordHit() {
+        hitCounter.increment();
+    }
+
+    public void recordNotModified() {
+        notModifiedCounter.increment();
+    }
+
+    public void recordMiss() {
+        missCounter.increment();
+    }
+
+    private CachedResponse readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return (json != null) ? objectMapper.readValue(json, CachedResponse.class) : null;
+        } catch (Exception e) {
+            log.warn("GitHub 응답 캐시 Redis 조회 실패 (무시): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, CachedResponse response) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("GitHub 응답 캐시 직렬화 실패 (무시): {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("GitHub 응답 캐시 Redis 저장 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.cache.requests")
+                .description("GitHub 응답 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String fingerprint(String token) {
+        if (token == null || token.isBlank()) {
+            return "anonymous";
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
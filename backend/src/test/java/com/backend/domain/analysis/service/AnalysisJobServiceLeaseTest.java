@@ -0,0 +1,95 @@
+package com.backend.domain.analysis.service;
+
+import com.backend.domain.analysis.entity.AnalysisJob;
+import com.backend.domain.analysis.entity.AnalysisJobStatus;
+import com.backend.domain.analysis.repository.AnalysisJobRepository;
+import com.backend.domain.user.repository.UserRepository;
+import com.backend.domain.user.util.JwtUtil;
+import com.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 하트비트가 끊겨 다른 인스턴스가 가져간 작업은 이전 인스턴스가 완료/실패로 덮어쓰지 못함
+@DataJpaTest
+class AnalysisJobServiceLeaseTest {
+
+    private static final String STALE = "instance-a";
+    private static final String NEW_OWNER = "instance-b";
+
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+
+    private AnalysisJobService staleInstance;
+    private AnalysisJobService newOwner;
+
+    @BeforeEach
+    void setUp() {
+        staleInstance = service(STALE);
+        newOwner = service(NEW_OWNER);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 가져간 작업은 이전 인스턴스가 완료/실패 처리할 수 없음")
+    void takenOverJob_shouldRejectStaleOwner() {
+        Long jobId = analysisJobRepository.save(AnalysisJob.builder()
+                .userId(1L)
+                .githubUrl("https://github.com/owner/repo")
+                .ownerId(STALE)
+                .build()).getId();
+        assertThat(staleInstance.start(jobId)).isTrue();
+
+        // 이전 인스턴스가 멈춘 사이 하트비트가 끊겨 새 인스턴스가 가져감
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(analysisJobRepository.takeOver(jobId, NEW_OWNER,
+                EnumSet.of(AnalysisJobStatus.QUEUED, AnalysisJobStatus.RUNNING), AnalysisJobStatus.QUEUED,
+                now.plusSeconds(1), now)).isEqualTo(1);
+        assertThat(newOwner.start(jobId)).isTrue();
+
+        assertThat(staleInstance.complete(jobId, 10L)).isFalse();
+        assertThat(staleInstance.fail(jobId, ErrorCode.INTERNAL_ERROR)).isFalse();
+
+        AnalysisJob running = analysisJobRepository.findById(jobId).orElseThrow();
+        assertThat(running.getStatus()).isEqualTo(AnalysisJobStatus.RUNNING);
+        assertThat(running.getOwnerId()).isEqualTo(NEW_OWNER);
+        assertThat(running.getRepositoryId()).isNull();
+
+        assertThat(newOwner.complete(jobId, 20L)).isTrue();
+        AnalysisJob completed = analysisJobRepository.findById(jobId).orElseThrow();
+        assertThat(completed.getStatus()).isEqualTo(AnalysisJobStatus.COMPLETED);
+        assertThat(completed.getRepositoryId()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("이미 끝난 작업은 다시 실패 처리하지 않음")
+    void finishedJob_shouldNotBeFailedAgain() {
+        Long jobId = analysisJobRepository.save(AnalysisJob.builder()
+                .userId(1L)
+                .githubUrl("https://github.com/owner/repo")
+                .ownerId(STALE)
+                .build()).getId();
+        assertThat(staleInstance.start(jobId)).isTrue();
+        assertThat(staleInstance.complete(jobId, 10L)).isTrue();
+
+        assertThat(staleInstance.fail(jobId, ErrorCode.INTERNAL_ERROR)).isFalse();
+        assertThat(analysisJobRepository.findById(jobId).orElseThrow().getStatus())
+                .isEqualTo(AnalysisJobStatus.COMPLETED);
+    }
+
+    private AnalysisJobService service(String instanceId) {
+        return new AnalysisJobService(analysisJobRepository, mock(UserRepository.class), mock(AnalysisService.class),
+                mock(SseProgressNotifier.class), mock(JwtUtil.class), mock(ThreadPoolTaskExecutor.class),
+                mock(TransactionTemplate.class), 2, instanceId, Duration.ofMinutes(1));
+    }
+}
@@ -44,6 +44,18 @@ class AnalysisServiceTest {
     @MockitoBean
     private SseProgressNotifier sseProgressNotifier;
 
+    @MockitoBean
+    private RedisLockManager lockManager;
+
+    @MockitoBean
+    private RepositoryJpaRepository repositoryJpaRepository;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private AnalysisJobService analysisJobService;
+
 //    @Test
 //    @DisplayName("analyze → 수집 후 evaluateAndSave 한 번 호출")
 //    void analyze_callsEvaluateOnce() {
@@ -70,10 +82,9 @@ class AnalysisServiceTest {
     void analyze_invalidUrl_doesNotCallEvaluate() {
         // given
         Long userId = 1L;
-        MockHttpServletRequest request = createAuthenticatedRequest(userId);
 
         // when & then
-        assertThatThrownBy(() -> analysisService.analyze("https://notgithub.com/owner/repo", request))
+        assertThatThrownBy(() -> analysisService.analyze("https://notgithub.com/owner/repo", userId))
                 .isInstanceOf(BusinessException.class);
 
         then(repositoryService).shouldHaveNoInteractions();
@@ -81,15 +92,15 @@ class AnalysisServiceTest {
     }
 
     @Test
-    @DisplayName("analyze → 인증되지 않은 사용자는 분석 불가")
-    void analyze_unauthenticated_throwsException() {
+    @DisplayName("enqueue → 인증되지 않은 사용자는 분석 요청 불가")
+    void enqueue_unauthenticated_throwsException() {
         // given
         String url = "https://github.com/owner/repo";
         MockHttpServletRequest request = new MockHttpServletRequest();
         given(jwtUtil.getUserId(request)).willReturn(null);
 
         // when & then
-        assertThatThrownBy(() -> analysisService.analyze(url, request))
+        assertThatThrownBy(() -> analysisJobService.enqueue(url, request))
                 .isInstanceOf(BusinessException.class);
 
         then(repositoryService).shouldHaveNoInteractions();
@@ -102,13 +113,12 @@ class AnalysisServiceTest {
         // given
         String url = "https://github.com/owner/repo";
         Long userId = 1L;
-        MockHttpServletRequest request = createAuthenticatedRequest(userId);
 
         // 락 획득 실패 (이미 분석 중)
         given(lockManager.tryLock(anyString())).willReturn(false);
 
         // when & then
-        assertThatThrownBy(() -> analysisService.analyze(url, request))
+        assertThatThrownBy(() -> analysisService.analyze(url, userId))
                 .isInstanceOf(BusinessException.class);
 
         then(repositoryService).shouldHaveNoInteractions();
@@ -121,14 +131,13 @@ class AnalysisServiceTest {
         // given
         String url = "https://github.com/owner/repo";
         Long userId = 1L;
-        MockHttpServletRequest request = createAuthenticatedRequest(userId);
 
         given(lockManager.tryLock(anyString())).willReturn(true);
         given(repositoryService.fetchAndSaveRepository("owner", "repo", userId))
                 .willThrow(new RuntimeException("GitHub API 실패"));
 
         // when & then
-        assertThatThrownBy(() -> analysisService.analyze(url, request))
+        assertThatThrownBy(() -> analysisService.analyze(url, userId))
                 .isInstanceOf(RuntimeException.class);
 
         // 예외 발생해도 락은 해제되어야 함
@@ -141,7 +150,6 @@ class AnalysisServiceTest {
         // given
         String url = "https://github.com/owner/repo";
         Long userId = 1L;
-        MockHttpServletRequest request = createAuthenticatedRequest(userId);
 
         given(lockManager.tryLock(anyString())).willReturn(true);
 
@@ -157,10 +165,10 @@ class AnalysisServiceTest {
 
         // evaluateAndSave에서 예외 발생
         willThrow(new RuntimeException("OpenAI API 실패"))
-                .given(evaluationService).evaluateAndSave(any(), anyLong());
+                .given(evaluationService).evaluateAndSave(any(), anyLong(), any(), any());
 
         // when & then
-        assertThatThrownBy(() -> analysisService.analyze(url, request))
+        assertThatThrownBy(() -> analysisService.analyze(url, userId))
                 .isInstanceOf(RuntimeException.class);
 
         // 예외 발생해도 락은 해제되어야 함
@@ -0,0 +1,132 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.evaluation.service.impl.BulkheadAiGateway;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadAiGatewayTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("동시 호출 수와 대기열이 가득 차면 AI를 호출하지 않고 즉시 거절")
+    void full_shouldRejectImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        BulkheadAiGateway gateway = bulkhead((content, prompt) -> {
+            started.countDown();
+            await(release);
+            return "ok";
+        }, 1, 0, Duration.ofSeconds(5), 5);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> gateway.complete("a", "p"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertUnavailable(() -> gateway.complete("b", "p"));
+        assertThat(rejected("queue_full")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("응답 기한을 넘기면 AI_UNAVAILABLE")
+    void slowCall_shouldTimeOut() {
+        CountDownLatch never = new CountDownLatch(1);
+        BulkheadAiGateway gateway = bulkhead((content, prompt) -> {
+            await(never);
+            return "late";
+        }, 1, 0, Duration.ofMillis(50), 5);
+
+        assertUnavailable(() -> gateway.complete("a", "p"));
+        assertThat(rejected("call_timeout")).isEqualTo(1);
+        never.countDown();
+    }
+
+    @Test
+    @DisplayName("기한을 넘긴 스트리밍 호출은 중단되고, 이후 조각은 전달되지 않음")
+    void slowStream_shouldStopRelayingDeltasAfterTimeout() throws Exception {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        List<String> deltas = new CopyOnWriteArrayList<>();
+        BulkheadAiGateway gateway = bulkhead(new AiGateway() {
+            @Override
+            public String complete(String content, String prompt) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String stream(String content, String prompt, Consumer<String> onDelta) {
+                onDelta.accept("early");
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                }
+                onDelta.accept("late");
+                return "early late";
+            }
+        }, 1, 0, Duration.ofMillis(100), 5);
+
+        assertUnavailable(() -> gateway.stream("a", "p", deltas::add));
+
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(deltas).containsExactly("early");
+    }
+
+    @Test
+    @DisplayName("상위 호출 실패는 AI_UNAVAILABLE로 감싸고, 연속 실패가 기준에 닿으면 서킷이 열려 이후 호출은 AI까지 가지 않음")
+    void consecutiveFailures_shouldOpenCircuit() {
+        AtomicInteger calls = new AtomicInteger();
+        BulkheadAiGateway gateway = bulkhead((content, prompt) -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("upstream error");
+        }, 2, 2, Duration.ofSeconds(5), 2);
+
+        assertUnavailable(() -> gateway.complete("a", "p"));
+        assertUnavailable(() -> gateway.complete("a", "p"));
+        assertUnavailable(() -> gateway.complete("a", "p"));
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(rejected("circuit_open")).isEqualTo(1);
+    }
+
+    private BulkheadAiGateway bulkhead(AiGateway delegate, int maxInFlight, int maxQueue,
+                                       Duration callTimeout, int failureThreshold) {
+        return new BulkheadAiGateway(delegate, meterRegistry, maxInFlight, maxQueue, Duration.ofMillis(100),
+                callTimeout, failureThreshold, Duration.ofMinutes(1));
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("ai.bulkhead.rejected").tag("reason", reason).counter().count();
+    }
+
+    private void assertUnavailable(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_UNAVAILABLE);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.evaluation.service.impl.CachingAiGateway;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingAiGatewayTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 요청은 두 번째부터 캐시에서 응답")
+    void sameRequest_shouldHitCache() {
+        CountingGateway delegate = new CountingGateway();
+        AiGateway gateway = caching(delegate);
+
+        String first = gateway.complete("content", "prompt");
+        String second = gateway.complete("content", "prompt");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(delegate.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.completion.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("줄바꿈 형식과 줄 끝 공백만 다르면 같은 요청으로 취급")
+    void whitespaceOnlyDifference_shouldHitCache() {
+        CountingGateway delegate = new CountingGateway();
+        AiGateway gateway = caching(delegate);
+
+        gateway.complete("line1\nline2", "prompt");
+        gateway.complete("line1  \r\nline2\n", " prompt");
+
+        assertThat(delegate.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프롬프트가 다르면 캐시를 쓰지 않음")
+    void differentPrompt_shouldMiss() {
+        CountingGateway delegate = new CountingGateway();
+        AiGateway gateway = caching(delegate);
+
+        gateway.complete("content", "prompt A");
+        gateway.complete("content", "prompt B");
+
+        assertThat(delegate.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 요청이 동시에 들어오면 AI는 한 번만 호출")
+    void concurrentMisses_shouldCallDelegateOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountingGateway delegate = new CountingGateway() {
+            @Override
+            public String complete(String content, String prompt) {
+                started.incrementAndGet();
+                await(release);
+                return super.complete(content, prompt);
+            }
+        };
+        AiGateway gateway = caching(delegate);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> gateway.complete("content", "prompt"));
+            // 첫 호출이 진행 중일 때 두 번째 호출이 합류하도록 대기
+            while (delegate.started.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<String> follower = executor.submit(() -> gateway.complete("content", "prompt"));
+            while (meterRegistry.get("ai.completion.cache").tag("result", "coalesced").counter().count() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(leader.get(5, TimeUnit.SECONDS));
+            assertThat(delegate.calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 요청도 캐시에 저장되고, 캐시 적중 시 전체 응답을 한 번에 전달")
+    void stream_shouldUseCache() {
+        CountingGateway delegate = new CountingGateway();
+        AiGateway gateway = caching(delegate);
+        List<String> deltas = new ArrayList<>();
+
+        String first = gateway.stream("content", "prompt", deltas::add);
+        String second = gateway.stream("content", "prompt", deltas::add);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(deltas).containsExactly(first, first);
+        assertThat(delegate.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 호출은 캐시하지 않음")
+    void failure_shouldNotBeCached() {
+        AtomicInteger calls = new AtomicInteger();
+        AiGateway gateway = caching((content, prompt) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("timeout");
+            }
+            return "ok";
+        });
+
+        assertThatThrownBy(() -> gateway.complete("content", "prompt")).isInstanceOf(IllegalStateException.class);
+        assertThat(gateway.complete("content", "prompt")).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("파싱하지 못한 구조화 출력 응답은 지워져 다음 요청에서 다시 호출")
+    void invalidatedResponse_shouldBeReloaded() {
+        CountingGateway delegate = new CountingGateway();
+        AiGateway gateway = caching(delegate);
+        AiOutputSchema schema = new AiOutputSchema("evaluation", Map.of("type", "object"));
+
+        gateway.stream("content", "prompt", schema, delta -> {});
+        gateway.invalidate("content", "prompt", schema);
+        String reloaded = gateway.stream("content", "prompt", schema, delta -> {});
+
+        assertThat(reloaded).isEqualTo("result-2");
+        assertThat(delegate.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("먼저 요청한 호출이 기한 안에 끝나지 않으면 기다리던 호출은 AI_UNAVAILABLE")
+    void follower_shouldTimeOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountingGateway delegate = new CountingGateway() {
+            @Override
+            public String complete(String content, String prompt) {
+                started.incrementAndGet();
+                await(release);
+                return super.complete(content, prompt);
+            }
+        };
+        AiGateway gateway = caching(delegate, Duration.ofMillis(100));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> gateway.complete("content", "prompt"));
+            while (delegate.started.get() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> gateway.complete("content", "prompt"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.AI_UNAVAILABLE);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AiGateway caching(AiGateway delegate) {
+        return caching(delegate, Duration.ofSeconds(5));
+    }
+
+    private AiGateway caching(AiGateway delegate, Duration followerTimeout) {
+        return new CachingAiGateway(delegate, null, meterRegistry, true, 100, Duration.ofMinutes(10), false,
+                Duration.ZERO, followerTimeout);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class CountingGateway implements AiGateway {
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String complete(String content, String prompt) {
+            calls.incrementAndGet();
+            return "result-" + calls.get();
+        }
+    }
+}
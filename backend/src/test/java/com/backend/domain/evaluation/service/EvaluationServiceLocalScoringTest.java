@@ -0,0 +1,157 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.analysis.entity.AnalysisResult;
+import com.backend.domain.analysis.repository.AnalysisResultRepository;
+import com.backend.domain.analysis.repository.ScoreRepository;
+import com.backend.domain.evaluation.dto.AiDto;
+import com.backend.domain.repository.dto.response.RepositoryData;
+import com.backend.domain.repository.entity.Repositories;
+import com.backend.domain.repository.repository.RepositoryJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.backend.domain.repository.dto.RepositoryDataFixture.createMinimal;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// AI 점수를 쓰지 않는 경로 (AI 미설정 / 로컬 채점 모드) - 저장소와 AI 호출은 모두 스텁
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EvaluationServiceLocalScoringTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ANALYSIS_RESULT_ID = 10L;
+
+    @Mock private AiService aiService;
+    @Mock private RepositoryJpaRepository repositoryJpaRepository;
+    @Mock private AnalysisResultRepository analysisResultRepository;
+    @Mock private ScoreRepository scoreRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private RepositoryDataFingerprint repositoryDataFingerprint;
+    @Mock private RepositoryPromptEncoder repositoryPromptEncoder;
+    @Mock private ScoreCalibrator scoreCalibrator;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper();
+    @Spy private ScoringEngine scoringEngine = new ScoringEngine(ScoringEngine.Weights.DEFAULT);
+
+    @InjectMocks
+    private EvaluationService evaluationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(evaluationService, "scoringMode", "llm");
+        ReflectionTestUtils.setField(evaluationService, "batchSize", 5);
+        ReflectionTestUtils.setField(evaluationService, "reuseWindow", Duration.ZERO);
+
+        willAnswer(inv -> inv.<TransactionCallback<Object>>getArgument(0).execute(mock(TransactionStatus.class)))
+                .given(transactionTemplate).execute(any());
+        willAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        given(repositoryDataFingerprint.of(any())).willReturn("fingerprint");
+        given(repositoryPromptEncoder.encode(any(), anyString())).willReturn("content");
+        given(repositoryJpaRepository.findByHtmlUrlAndUserId(anyString(), anyLong()))
+                .willReturn(Optional.of(mock(Repositories.class)));
+
+        AnalysisResult saved = mock(AnalysisResult.class);
+        given(saved.getId()).willReturn(ANALYSIS_RESULT_ID);
+        given(analysisResultRepository.save(any())).willReturn(saved);
+        given(analysisResultRepository.findById(ANALYSIS_RESULT_ID)).willReturn(Optional.of(saved));
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("AI를 쓸 수 없으면 일괄 평가는 저장소마다 로컬 점수로 저장하고 AI를 호출하지 않음")
+    void evaluateAndSaveAll_withoutAi_shouldSaveLocalScores() {
+        given(aiService.isAvailable()).willReturn(false);
+        List<RepositoryData> data = List.of(repository("a"), repository("b"));
+        Map<String, Long> saved = new ConcurrentHashMap<>();
+        List<RepositoryData> failed = new CopyOnWriteArrayList<>();
+
+        evaluationService.evaluateAndSaveAll(data, USER_ID,
+                (item, id) -> saved.put(item.getRepositoryUrl(), id), failed::add);
+
+        assertThat(saved).containsOnlyKeys(repository("a").getRepositoryUrl(), repository("b").getRepositoryUrl());
+        assertThat(failed).isEmpty();
+        verify(aiService, never()).stream(any(), any(), any());
+        verify(aiService, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("로컬 채점 모드의 일괄 평가는 점수를 먼저 저장하고 서술은 별도로 채움")
+    void evaluateAndSaveAll_localMode_shouldSaveBeforeNarrative() throws Exception {
+        ReflectionTestUtils.setField(evaluationService, "scoringMode", "local");
+        given(aiService.isAvailable()).willReturn(true);
+        CountDownLatch narrativeRequested = new CountDownLatch(1);
+        willAnswer(inv -> {
+            narrativeRequested.countDown();
+            throw new IllegalStateException("upstream error");
+        }).given(aiService).stream(any(AiDto.CompleteRequest.class), any(AiOutputSchema.class), any());
+        Map<String, Long> saved = new ConcurrentHashMap<>();
+
+        evaluationService.evaluateAndSaveAll(List.of(repository("a")), USER_ID,
+                (item, id) -> saved.put(item.getRepositoryUrl(), id), item -> {});
+
+        assertThat(saved).containsEntry(repository("a").getRepositoryUrl(), ANALYSIS_RESULT_ID);
+        assertThat(narrativeRequested.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("로컬 채점 모드에서 서술 작성이 실패해도 onNarrativeComplete는 한 번 호출")
+    void evaluateAndSave_localMode_shouldSignalNarrativeCompletion() throws Exception {
+        ReflectionTestUtils.setField(evaluationService, "scoringMode", "local");
+        given(aiService.isAvailable()).willReturn(true);
+        given(aiService.stream(any(AiDto.CompleteRequest.class), any(AiOutputSchema.class), any()))
+                .willThrow(new IllegalStateException("upstream error"));
+        CountDownLatch completed = new CountDownLatch(1);
+
+        Long id = evaluationService.evaluateAndSave(repository("a"), USER_ID, summary -> {}, completed::countDown);
+
+        assertThat(id).isEqualTo(ANALYSIS_RESULT_ID);
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static RepositoryData repository(String name) {
+        RepositoryData data = createMinimal();
+        data.setRepositoryName(name);
+        data.setRepositoryUrl("https://github.com/owner/" + name);
+        return data;
+    }
+}
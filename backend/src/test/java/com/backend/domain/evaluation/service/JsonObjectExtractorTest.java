@@ -0,0 +1,47 @@
+package com.backend.domain.evaluation.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonObjectExtractorTest {
+
+    @Test
+    @DisplayName("설명문과 코드 펜스 사이의 첫 JSON 객체만 추출")
+    void extract_shouldIgnoreSurroundingText() {
+        String text = "다음은 결과입니다.\n```json\n{\"summary\": \"ok\", \"scores\": {\"readme\": 10}}\n```\n추가 설명 {\"x\": 1}";
+
+        assertThat(JsonObjectExtractor.extract(text))
+                .isEqualTo("{\"summary\": \"ok\", \"scores\": {\"readme\": 10}}");
+    }
+
+    @Test
+    @DisplayName("문자열 안의 괄호와 이스케이프된 따옴표는 구조로 보지 않음")
+    void extract_shouldSkipBracesInsideStrings() {
+        String json = "{\"summary\": \"use {braces} and \\\"quotes\\\" }\", \"strengths\": [\"]\"]}";
+
+        assertThat(JsonObjectExtractor.extract(json + " trailing")).isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("중간에 끊긴 응답은 열린 문자열과 괄호를 닫아 복구")
+    void extract_shouldCloseTruncatedObject() {
+        assertThat(JsonObjectExtractor.extract("{\"summary\": \"cut here"))
+                .isEqualTo("{\"summary\": \"cut here\"}");
+        assertThat(JsonObjectExtractor.extract("{\"strengths\": [\"a\", \"b\",  "))
+                .isEqualTo("{\"strengths\": [\"a\", \"b\"]}");
+        assertThat(JsonObjectExtractor.extract("{\"scores\": {\"readme\":"))
+                .isEqualTo("{\"scores\": {\"readme\":null}}");
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 없으면 예외")
+    void extract_withoutObject_shouldThrow() {
+        assertThatThrownBy(() -> JsonObjectExtractor.extract("죄송합니다. 평가할 수 없습니다."))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonObjectExtractor.extract(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
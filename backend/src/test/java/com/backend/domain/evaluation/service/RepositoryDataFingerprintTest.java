@@ -0,0 +1,50 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.repository.dto.response.RepositoryData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.backend.domain.repository.dto.RepositoryDataFixture.createMinimal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryDataFingerprintTest {
+
+    private final RepositoryDataFingerprint fingerprint =
+            new RepositoryDataFingerprint(new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    @DisplayName("같은 데이터는 항상 같은 지문")
+    void sameData_shouldProduceSameFingerprint() {
+        RepositoryData data = createMinimal();
+
+        assertThat(fingerprint.of(copyOf(data))).isEqualTo(fingerprint.of(data));
+    }
+
+    @Test
+    @DisplayName("마지막 커밋 이후 경과일만 다르면 같은 지문")
+    void daysSinceLastCommit_shouldBeIgnored() {
+        RepositoryData today = createMinimal();
+        RepositoryData tomorrow = copyOf(today);
+        tomorrow.setDaysSinceLastCommit(today.getDaysSinceLastCommit() + 1);
+
+        assertThat(fingerprint.of(tomorrow)).isEqualTo(fingerprint.of(today));
+    }
+
+    @Test
+    @DisplayName("평가에 쓰이는 값이 바뀌면 다른 지문")
+    void changedSignal_shouldProduceDifferentFingerprint() {
+        RepositoryData before = createMinimal();
+        RepositoryData after = copyOf(before);
+        after.setCommitCountLast90Days(before.getCommitCountLast90Days() + 1);
+
+        assertThat(fingerprint.of(after)).isNotEqualTo(fingerprint.of(before));
+    }
+
+    // 생성 시각(now)까지 같은 사본
+    private RepositoryData copyOf(RepositoryData data) {
+        RepositoryData copy = createMinimal();
+        copy.setRepositoryCreatedAt(data.getRepositoryCreatedAt());
+        return copy;
+    }
+}
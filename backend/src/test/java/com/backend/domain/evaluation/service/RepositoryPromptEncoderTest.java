@@ -0,0 +1,112 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.repository.dto.response.RepositoryData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.backend.domain.repository.dto.RepositoryDataFixture.createComplete;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryPromptEncoderTest {
+
+    private static final String INSTRUCTION = "Return ONLY a valid JSON.";
+
+    private final RepositoryPromptEncoder encoder = new RepositoryPromptEncoder(1000, 300, 5);
+
+    @Test
+    @DisplayName("목록은 통계로 요약하고 README 원문 대신 발췌를 포함")
+    void encode_shouldSummarizeListsAndReadme() {
+        RepositoryData data = createComplete();
+
+        String encoded = encoder.encode(data, INSTRUCTION);
+
+        assertThat(encoded)
+                .contains("repository: complete-test-repo | Java")
+                .contains("commit_stats: 2 collected, conventional 100%")
+                .contains("readme_excerpt:")
+                .contains("## Installation")
+                .doesNotContain("CommitInfo", "committedDate=");
+    }
+
+    @Test
+    @DisplayName("README가 길어도 지시문과 합친 추정 토큰이 예산을 넘지 않음")
+    void encode_shouldStayWithinBudget() {
+        RepositoryData data = createComplete();
+        data.setReadmeContent(longReadme());
+        data.setRecentCommits(manyCommits());
+
+        String encoded = encoder.encode(data, INSTRUCTION);
+
+        assertThat(TokenEstimator.estimate(encoded) + TokenEstimator.estimate(INSTRUCTION)).isLessThanOrEqualTo(1000);
+        // 뒤쪽 섹션도 제목은 남음
+        assertThat(encoded).contains("## Section 9");
+    }
+
+    @Test
+    @DisplayName("같은 데이터는 항상 같은 결과")
+    void encode_shouldBeDeterministic() {
+        RepositoryData data = createComplete();
+        data.setReadmeContent(longReadme());
+
+        assertThat(encoder.encode(data, INSTRUCTION)).isEqualTo(encoder.encode(data, INSTRUCTION));
+    }
+
+    @Test
+    @DisplayName("여러 저장소를 묶으면 번호별 구분 제목을 붙이고 전체가 예산 안에 들어감")
+    void encodeAll_shouldNumberRepositoriesWithinBudget() {
+        List<RepositoryData> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            RepositoryData data = createComplete();
+            data.setReadmeContent(longReadme());
+            batch.add(data);
+        }
+
+        String encoded = encoder.encodeAll(batch, INSTRUCTION);
+
+        assertThat(encoded).contains("### repository 1\n", "### repository 2\n", "### repository 3\n");
+        assertThat(TokenEstimator.estimate(encoded) + TokenEstimator.estimate(INSTRUCTION)).isLessThanOrEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("README의 이미지와 HTML은 제거하고 코드 블록은 줄 수만 표기")
+    void summarizeReadme_shouldStripNoise() {
+        String readme = """
+                # Title
+                <p align="center"><img src="logo.png"></p>
+                ![badge](https://img.shields.io/badge.svg)
+                Intro text.
+
+                ```bash
+                ./gradlew build
+                ./gradlew test
+                ```
+                """;
+
+        assertThat(encoder.summarizeReadme(readme, 100))
+                .isEqualTo("# Title\nIntro text.\n\n[code: 2 lines]");
+    }
+
+    private String longReadme() {
+        StringBuilder sb = new StringBuilder("# Project\n");
+        for (int i = 0; i < 10; i++) {
+            sb.append("## Section ").append(i).append('\n');
+            sb.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(40)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private List<RepositoryData.CommitInfo> manyCommits() {
+        List<RepositoryData.CommitInfo> commits = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            RepositoryData.CommitInfo commit = new RepositoryData.CommitInfo();
+            commit.setMessage("feat: change " + i + "\n\nbody " + "x".repeat(200));
+            commit.setCommittedDate(LocalDateTime.of(2025, 1, 1, 0, 0).plusHours(i));
+            commits.add(commit);
+        }
+        return commits;
+    }
+}
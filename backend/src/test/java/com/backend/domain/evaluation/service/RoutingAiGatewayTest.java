@@ -0,0 +1,135 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.evaluation.service.impl.RoutingAiGateway;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutingAiGatewayTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<StubServer> servers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.http.stop(0));
+    }
+
+    @Test
+    @DisplayName("한 번씩 시험한 뒤에는 응답이 빠른 백엔드로 호출")
+    void shouldRouteToFastestBackend() throws IOException {
+        StubServer slow = stub("slow", 150, 200);
+        StubServer fast = stub("fast", 0, 200);
+        AiGateway router = router(List.of(slow.url(), fast.url()), 0.2, false, Duration.ofSeconds(5));
+
+        for (int i = 0; i < 10; i++) {
+            router.complete("content", "prompt");
+        }
+
+        assertThat(slow.calls.get()).isEqualTo(1);
+        assertThat(fast.calls.get()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("첫 백엔드가 지연 기준을 넘기면 다음 백엔드에 헤지 요청하고 먼저 온 응답 사용")
+    void slowPrimary_shouldBeHedged() throws IOException {
+        StubServer hanging = stub("hanging", 3_000, 200);
+        StubServer fast = stub("fast", 0, 200);
+        AiGateway router = router(List.of(hanging.url(), fast.url()), 0.2, true, Duration.ofMillis(100));
+
+        long start = System.nanoTime();
+        String result = router.complete("content", "prompt");
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(meterRegistry.get("ai.router.hedged").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍도 첫 백엔드가 지연 기준을 넘기면 헤지하고, 이긴 백엔드의 조각만 전달")
+    void slowPrimaryStream_shouldBeHedgedWithWinnerDeltasOnly() throws IOException, InterruptedException {
+        StubServer hanging = stub("hanging", 1_000, 200);
+        StubServer fast = stub("fast", 0, 200);
+        AiGateway router = router(List.of(hanging.url(), fast.url()), 0.2, true, Duration.ofMillis(100));
+        List<String> deltas = new CopyOnWriteArrayList<>();
+
+        long start = System.nanoTime();
+        String result = router.stream("content", "prompt", deltas::add);
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(900));
+        assertThat(meterRegistry.get("ai.router.hedged").counter().count()).isEqualTo(1);
+
+        // 헤지에 진 백엔드가 늦게 응답하더라도 조각이 섞이지 않음
+        Thread.sleep(1_200);
+        assertThat(deltas).containsExactly("fast");
+    }
+
+    @Test
+    @DisplayName("실패한 백엔드는 다음 백엔드로 재시도하고, 오류율이 기준을 넘으면 이후 호출에서 제외")
+    void failingBackend_shouldFailOverAndBeAvoided() throws IOException {
+        StubServer broken = stub("broken", 0, 500);
+        StubServer healthy = stub("healthy", 50, 200);
+        AiGateway router = router(List.of(broken.url(), healthy.url()), 0.6, true, Duration.ofSeconds(5));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(router.complete("content", "prompt")).isEqualTo("healthy");
+        }
+
+        assertThat(broken.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.router.failover").counter().count()).isEqualTo(1);
+    }
+
+    private AiGateway router(List<String> urls, double ewmaAlpha, boolean hedgeEnabled, Duration hedgeInitialDelay) {
+        return new RoutingAiGateway(List.of(), new ObjectMapper(), meterRegistry, urls, Duration.ofSeconds(10),
+                ewmaAlpha, 0.5, Duration.ofMinutes(1), hedgeEnabled, Duration.ofMillis(50), hedgeInitialDelay, 20);
+    }
+
+    // 지정한 지연 후 {"result": name}(또는 오류 상태 코드)을 돌려주는 스텁 서버
+    private StubServer stub(String name, long delayMillis, int status) throws IOException {
+        HttpServer http = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        StubServer server = new StubServer(http, new AtomicInteger());
+        http.createContext("/complete", exchange -> {
+            server.calls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"result\":\"" + name + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } catch (IOException ignore) {
+                // 헤지에 져서 연결이 끊긴 요청
+            }
+        });
+        http.setExecutor(Executors.newCachedThreadPool());
+        http.start();
+        servers.add(server);
+        return server;
+    }
+
+    private record StubServer(HttpServer http, AtomicInteger calls) {
+        String url() {
+            return "http://127.0.0.1:" + http.getAddress().getPort() + "/complete";
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.domain.evaluation.service;
+
+import com.backend.domain.evaluation.dto.EvaluationDto.Scores;
+import com.backend.domain.repository.dto.response.RepositoryData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.backend.domain.repository.dto.RepositoryDataFixture.createComplete;
+import static com.backend.domain.repository.dto.RepositoryDataFixture.createMinimal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoringEngineTest {
+
+    @Test
+    @DisplayName("기본 가중치로 지표별 점수 계산")
+    void score_withDefaultWeights() {
+        ScoringEngine engine = new ScoringEngine(ScoringEngine.Weights.DEFAULT);
+
+        assertThat(engine.score(createComplete())).isEqualTo(new Scores(10, 30, 25, 15));
+        assertThat(engine.score(createMinimal())).isEqualTo(new Scores(0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("가중치 합이 항목 만점을 넘어도 만점으로 자름")
+    void score_shouldCapAtCategoryMax() {
+        ScoringEngine engine = new ScoringEngine(new ScoringEngine.Weights(30, 30, 30, 30, 30, 30, 30, 30));
+
+        assertThat(engine.score(createComplete())).isEqualTo(new Scores(20, 30, 25, 15));
+    }
+
+    @Test
+    @DisplayName("보정 후에는 AI 점수와의 직선 관계를 반영, 규칙 점수는 그대로")
+    void calibrate_shouldMapTowardReferenceScores() {
+        ScoringEngine engine = new ScoringEngine(ScoringEngine.Weights.DEFAULT);
+        List<ScoringEngine.Sample> samples = new ArrayList<>();
+        for (int local = 0; local <= 20; local += 5) {
+            // AI는 README를 로컬보다 5점 높게, 나머지는 같게 채점
+            samples.add(new ScoringEngine.Sample(
+                    new Scores(local, local, local, local / 2),
+                    new Scores(local + 5, local, local, local / 2)));
+        }
+
+        engine.calibrate(samples);
+
+        RepositoryData data = createComplete();
+        assertThat(engine.score(data)).isEqualTo(new Scores(15, 30, 25, 15));
+        assertThat(engine.rawScore(data)).isEqualTo(new Scores(10, 30, 25, 15));
+    }
+
+    @Test
+    @DisplayName("로컬 점수가 모두 같으면 평균 차이만 보정")
+    void fit_withoutVariance_shouldShiftOnly() {
+        List<ScoringEngine.Sample> samples = List.of(
+                new ScoringEngine.Sample(new Scores(10, 0, 0, 0), new Scores(12, 0, 0, 0)),
+                new ScoringEngine.Sample(new Scores(10, 0, 0, 0), new Scores(16, 0, 0, 0)));
+
+        ScoringEngine.Line line = ScoringEngine.fit(samples, Scores::readme);
+
+        assertThat(line.slope()).isEqualTo(1.0);
+        assertThat(line.intercept()).isEqualTo(4.0);
+    }
+}
@@ -0,0 +1,45 @@
+package com.backend.domain.evaluation.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummaryStreamExtractorTest {
+
+    private final List<String> received = new ArrayList<>();
+    private final SummaryStreamExtractor extractor = new SummaryStreamExtractor(received::add);
+
+    @Test
+    @DisplayName("summary 값만 조각 단위로 전달하고 값이 끝나면 멈춤")
+    void accept_shouldForwardOnlySummaryValue() {
+        feed("```json\n{\n  \"sum", "mary\": \"테스트", "가 충분", "합니다.\",\n  \"strengths\": [\"A\"]", "}");
+
+        assertThat(received).containsExactly("테스트", "가 충분", "합니다.");
+    }
+
+    @Test
+    @DisplayName("조각 경계에서 잘린 이스케이프도 올바르게 복원")
+    void accept_shouldDecodeSplitEscapes() {
+        feed("{\"summary\":\"a\\", "\"b\\", "nc \\u00", "e9\"}");
+
+        assertThat(String.join("", received)).isEqualTo("a\"b\nc é");
+    }
+
+    @Test
+    @DisplayName("summary가 없으면 아무것도 전달하지 않음")
+    void accept_withoutSummary_shouldForwardNothing() {
+        feed("{\"scores\": {\"readme\": 10}}");
+
+        assertThat(received).isEmpty();
+    }
+
+    private void feed(String... chunks) {
+        for (String chunk : chunks) {
+            extractor.accept(chunk);
+        }
+    }
+}
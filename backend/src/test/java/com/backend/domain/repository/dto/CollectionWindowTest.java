@@ -0,0 +1,78 @@
+package com.backend.domain.repository.dto;
+
+import com.backend.domain.repository.dto.response.CollectionWindow;
+import com.backend.domain.repository.dto.response.github.CommitResponse;
+import com.backend.domain.repository.dto.response.github.IssueResponse;
+import com.backend.domain.repository.dto.response.github.PullRequestResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectionWindowTest {
+
+    private static final Instant SINCE = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final CollectionWindow window = new CollectionWindow(
+            List.of(commit("c3", "2025-03-01T00:00:00Z"),
+                    commit("c2", "2025-02-01T00:00:00Z"),
+                    commit("c1", "2024-10-01T00:00:00Z")),
+            List.of(issue(3, "open", "2025-02-10T00:00:00Z", "2025-02-10T00:00:00Z"),
+                    issue(1, "open", "2024-09-01T00:00:00Z", "2024-09-01T00:00:00Z")),
+            List.of(pullRequest(7, "open", "2025-02-20T00:00:00Z", "2025-02-20T00:00:00Z"))
+    );
+
+    @Test
+    @DisplayName("새 커밋을 앞에 붙이고 중복 커밋과 기간 밖 커밋은 제거")
+    void mergeCommits_shouldPrependAndDropDuplicatesAndExpired() {
+        List<CommitResponse> merged = window.mergeCommits(List.of(
+                commit("c5", "2025-03-10T00:00:00Z"),
+                commit("c4", "2025-03-05T00:00:00Z"),
+                commit("c3", "2025-03-01T00:00:00Z")), SINCE, 1000);
+
+        assertThat(merged).extracting(CommitResponse::sha).containsExactly("c5", "c4", "c3", "c2");
+    }
+
+    @Test
+    @DisplayName("수정된 이슈는 번호 기준으로 교체하고 생성일 내림차순으로 정렬")
+    void mergeIssues_shouldReplaceByNumber() {
+        List<IssueResponse> merged = window.mergeIssues(List.of(
+                issue(3, "closed", "2025-02-10T00:00:00Z", "2025-03-02T00:00:00Z"),
+                issue(4, "open", "2025-03-01T00:00:00Z", "2025-03-01T00:00:00Z")), SINCE, 1000);
+
+        assertThat(merged).extracting(IssueResponse::number).containsExactly(4L, 3L);
+        assertThat(merged.get(1).isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("변경분이 없어도 기간이 지난 PR은 제외")
+    void mergePullRequests_shouldApplyWindow() {
+        List<PullRequestResponse> merged = window.mergePullRequests(List.of(), Instant.parse("2025-03-01T00:00:00Z"), 1000);
+
+        assertThat(merged).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다음 증분 수집 기준은 가장 최근 수정 시각")
+    void newestUpdate_shouldReturnLatest() {
+        assertThat(CollectionWindow.newestUpdate(window.issues(), IssueResponse::updated_at))
+                .isEqualTo(Instant.parse("2025-02-10T00:00:00Z"));
+        assertThat(CollectionWindow.newestUpdate(List.<IssueResponse>of(), IssueResponse::updated_at)).isNull();
+    }
+
+    private static CommitResponse commit(String sha, String date) {
+        return new CommitResponse(sha, new CommitResponse.CommitDetails("message " + sha,
+                new CommitResponse.AuthorDetails(date)));
+    }
+
+    private static IssueResponse issue(long number, String state, String createdAt, String updatedAt) {
+        return new IssueResponse(number, "issue " + number, state, createdAt, null, null, updatedAt);
+    }
+
+    private static PullRequestResponse pullRequest(long number, String state, String createdAt, String updatedAt) {
+        return new PullRequestResponse(number, "pr " + number, state, createdAt, null, updatedAt);
+    }
+}
@@ -3,6 +3,7 @@ package com.backend.domain.repository.mapper;
 import com.backend.domain.repository.dto.response.RepositoryData;
 import com.backend.domain.repository.dto.response.github.TreeResponse;
 import com.backend.domain.repository.service.mapper.CicdInfoMapper;
+import com.backend.domain.repository.service.mapper.PathClassifier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -12,7 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class CicdInfoMapperTest {
 
-    private final CicdInfoMapper mapper = new CicdInfoMapper();
+    private final CicdInfoMapper mapper = new CicdInfoMapper(new PathClassifier());
 
     @Test
     @DisplayName("TreeResponse가 null이어도 NPE 없이 처리")
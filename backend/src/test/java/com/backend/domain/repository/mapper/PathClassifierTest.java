@@ -0,0 +1,62 @@
+package com.backend.domain.repository.mapper;
+
+import com.backend.domain.repository.dto.response.github.TreeResponse;
+import com.backend.domain.repository.service.mapper.PathCategory;
+import com.backend.domain.repository.service.mapper.PathClassifier;
+import com.backend.domain.repository.service.mapper.TreeIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathClassifierTest {
+
+    private final PathClassifier classifier = new PathClassifier();
+
+    @Test
+    @DisplayName("TreeResponse가 null이면 빈 인덱스 반환")
+    void classifyNullTree_shouldReturnEmpty() {
+        TreeIndex paths = classifier.index(null);
+        assertThat(paths.isEmpty()).isTrue();
+        assertThat(paths.count(PathCategory.TEST)).isZero();
+    }
+
+    @Test
+    @DisplayName("테스트 파일은 소스 파일 개수에서 제외")
+    void testFile_shouldNotBeCountedAsSource() {
+        TreeIndex paths = classifier.index(new TreeResponse(
+                List.of(
+                        new TreeResponse.TreeItem("src/test", "tree"),
+                        new TreeResponse.TreeItem("src/test/java/FooTest.java", "blob"),
+                        new TreeResponse.TreeItem("src/main/java/Foo.java", "blob"),
+                        new TreeResponse.TreeItem("web/app.test.ts", "blob")
+                ),
+                false
+        ));
+
+        assertThat(paths.hasTestDirectory()).isTrue();
+        assertThat(paths.files(PathCategory.TEST)).containsExactly("src/test/java/FooTest.java", "web/app.test.ts");
+        assertThat(paths.files(PathCategory.SOURCE)).containsExactly("src/main/java/Foo.java");
+    }
+
+    @Test
+    @DisplayName("한 경로가 여러 항목에 동시에 분류될 수 있음")
+    void classifyPath_shouldReturnAllMatchingCategories() {
+        assertThat(classifier.classify("Dockerfile"))
+                .containsExactlyInAnyOrder(PathCategory.BUILD, PathCategory.DOCKER);
+        assertThat(classifier.classify("pom.xml"))
+                .containsExactlyInAnyOrder(PathCategory.BUILD, PathCategory.BUILD_SCRIPT);
+        assertThat(classifier.classify(".github/workflows/ci.yml"))
+                .containsExactly(PathCategory.CICD);
+    }
+
+    @Test
+    @DisplayName("안전 파일 규칙에 걸리면 민감 파일에서 제외")
+    void safeFile_shouldNotBeSensitive() {
+        assertThat(classifier.classify("config/secret.json")).contains(PathCategory.SENSITIVE);
+        assertThat(classifier.classify("config/secret.json.example")).doesNotContain(PathCategory.SENSITIVE);
+        assertThat(classifier.classify("src/fixtures/server.pem")).doesNotContain(PathCategory.SENSITIVE);
+    }
+}
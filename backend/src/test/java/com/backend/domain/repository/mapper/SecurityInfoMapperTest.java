@@ -2,6 +2,7 @@ package com.backend.domain.repository.mapper;
 
 import com.backend.domain.repository.dto.response.RepositoryData;
 import com.backend.domain.repository.dto.response.github.TreeResponse;
+import com.backend.domain.repository.service.mapper.PathClassifier;
 import com.backend.domain.repository.service.mapper.SecurityInfoMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,7 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class SecurityInfoMapperTest {
 
-    private final SecurityInfoMapper mapper = new SecurityInfoMapper();
+    private final SecurityInfoMapper mapper = new SecurityInfoMapper(new PathClassifier());
 
     @Test
     @DisplayName("TreeResponse가 null이면 기본값으로 처리")
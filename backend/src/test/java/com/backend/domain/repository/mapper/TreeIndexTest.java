@@ -0,0 +1,56 @@
+package com.backend.domain.repository.mapper;
+
+import com.backend.domain.repository.dto.response.github.TreeResponse;
+import com.backend.domain.repository.service.mapper.PathClassifier;
+import com.backend.domain.repository.service.mapper.TreeIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TreeIndexTest {
+
+    private final PathClassifier classifier = new PathClassifier();
+
+    private final TreeIndex index = classifier.index(new TreeResponse(
+            List.of(
+                    new TreeResponse.TreeItem("pom.xml", "blob"),
+                    new TreeResponse.TreeItem("api", "tree"),
+                    new TreeResponse.TreeItem("api/pom.xml", "blob"),
+                    new TreeResponse.TreeItem("api/src/main/java/App.java", "blob"),
+                    new TreeResponse.TreeItem("api/src/main/java/AppConfig.java", "blob"),
+                    new TreeResponse.TreeItem("api/src/test/java/AppTest.java", "blob"),
+                    new TreeResponse.TreeItem("web/index.TS", "blob")
+            ),
+            false
+    ));
+
+    @Test
+    @DisplayName("파일명 색인으로 같은 이름의 파일을 모두 조회")
+    void filesNamed_shouldReturnAllMatches() {
+        assertThat(index.filesNamed("pom.xml")).containsExactly("pom.xml", "api/pom.xml");
+        assertThat(index.filesNamed("build.gradle")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("확장자 분포는 소문자 기준으로 집계")
+    void extensionHistogram_shouldCountLowerCaseExtensions() {
+        assertThat(index.extensionHistogram())
+                .containsEntry("java", 3)
+                .containsEntry("xml", 2)
+                .containsEntry("ts", 1);
+    }
+
+    @Test
+    @DisplayName("디렉터리별 파일/테스트/소스 개수 집계")
+    void directoryStats_shouldAggregatePerDirectory() {
+        assertThat(index.fileCount()).isEqualTo(6);
+        assertThat(index.directoryStats()).contains(
+                new TreeIndex.DirectoryStats("", 1, 0, 0),
+                new TreeIndex.DirectoryStats("api/src/main/java", 2, 0, 2),
+                new TreeIndex.DirectoryStats("api/src/test/java", 1, 1, 0)
+        );
+    }
+}
@@ -0,0 +1,203 @@
+package com.backend.domain.repository.service;
+
+import com.backend.domain.analysis.service.SseProgressNotifier;
+import com.backend.domain.repository.dto.response.RepositoryData;
+import com.backend.domain.repository.dto.response.RepositorySnapshot;
+import com.backend.domain.repository.dto.response.github.CommitResponse;
+import com.backend.domain.repository.dto.response.github.CompareResponse;
+import com.backend.domain.repository.dto.response.github.RepoResponse;
+import com.backend.domain.repository.entity.Repositories;
+import com.backend.domain.repository.repository.RepositoryJpaRepository;
+import com.backend.domain.repository.service.cache.RepositorySingleFlight;
+import com.backend.domain.repository.service.cache.RepositorySnapshotCache;
+import com.backend.domain.repository.service.fetcher.GitCloneCollector;
+import com.backend.domain.repository.service.fetcher.ReactiveGitHubDataFetcher;
+import com.backend.domain.repository.service.mapper.*;
+import com.backend.domain.user.entity.User;
+import com.backend.domain.user.repository.UserRepository;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 수집 파이프라인의 증분 수집 기준(watermark/baseline) 처리 - GitHub 호출은 모두 스텁
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RepositoryServiceCollectionTest {
+
+    private static final String OWNER = "owner";
+    private static final String REPO = "repo";
+    private static final String URL = "https://github.com/owner/repo";
+    private static final Long USER_ID = 1L;
+    private static final String RECENT = Instant.now().minus(Duration.ofDays(1)).toString();
+
+    @Mock private UserRepository userRepository;
+    @Mock private ReactiveGitHubDataFetcher fetcher;
+    @Mock private GitCloneCollector gitCloneCollector;
+    @Mock private RepositoriesMapper repositoriesMapper;
+    @Mock private RepositoryInfoMapper repositoryInfoMapper;
+    @Mock private CommitInfoMapper commitInfoMapper;
+    @Mock private ReadmeInfoMapper readmeInfoMapper;
+    @Mock private SecurityInfoMapper securityInfoMapper;
+    @Mock private TestInfoMapper testInfoMapper;
+    @Mock private CicdInfoMapper cicdInfoMapper;
+    @Mock private PathClassifier pathClassifier;
+    @Mock private IssueInfoMapper issueInfoMapper;
+    @Mock private PullRequestInfoMapper pullRequestInfoMapper;
+    @Mock private RepositoryJpaRepository repositoryJpaRepository;
+    @Mock private SseProgressNotifier sseProgressNotifier;
+    @Mock private RepositorySnapshotCache snapshotCache;
+    @Mock private RepositorySingleFlight repositorySingleFlight;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private RepositoryService repositoryService;
+
+    private final Repositories entity = Repositories.builder().name(REPO).htmlUrl(URL).publicRepository(true).build();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(repositoryService, "maxItems", 1000);
+
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(new User("u@test.com", "pw", "user")));
+        given(repositoryJpaRepository.findByHtmlUrlAndUserId(URL, USER_ID)).willReturn(Optional.of(entity));
+        willAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        given(snapshotCache.find(anyString(), anyString(), anyString())).willReturn(Mono.empty());
+        given(snapshotCache.store(anyString(), anyString(), anyString(), any())).willReturn(Mono.empty());
+        given(repositorySingleFlight.execute(anyString(), anyString(), any(), any(), any(), any()))
+                .willAnswer(inv -> inv.<Supplier<Mono<RepositorySnapshot>>>getArgument(3).get());
+
+        given(fetcher.predictCollectionWait()).willReturn(Mono.just(Duration.ZERO));
+        given(fetcher.fetchHeadSha(OWNER, REPO)).willReturn(Mono.just("head-sha"));
+        given(fetcher.fetchRepositoryInfo(OWNER, REPO)).willReturn(Mono.just(
+                new RepoResponse(REPO, OWNER + "/" + REPO, false, "", URL, "Java", "main", null, 100)));
+        given(fetcher.fetchTreeSha(OWNER, REPO, "head-sha")).willReturn(Mono.just("tree-sha"));
+        given(fetcher.fetchTreeSha(OWNER, REPO, "new-head")).willReturn(Mono.just("new-tree-sha"));
+        given(fetcher.fetchCommitInfo(eq(OWNER), eq(REPO), anyString())).willReturn(Flux.empty());
+        given(fetcher.fetchReadmeContent(OWNER, REPO)).willReturn(Mono.just("# repo"));
+        given(fetcher.fetchRepositoryTree(eq(OWNER), eq(REPO), eq("main"), any())).willReturn(Flux.empty());
+        given(fetcher.fetchLanguages(OWNER, REPO)).willReturn(Mono.just(Map.of()));
+        given(fetcher.fetchPullRequestInfo(OWNER, REPO)).willReturn(Flux.empty());
+        given(fetcher.fetchIssuesUpdatedSince(eq(OWNER), eq(REPO), any())).willReturn(Flux.empty());
+        given(fetcher.fetchPullRequestsUpdatedSince(eq(OWNER), eq(REPO), any())).willReturn(Flux.empty());
+    }
+
+    @Test
+    @DisplayName("전체 수집이 끝나면 기준을 저장하고, 다음 분석은 변경분만 수집")
+    void completeCollection_shouldEnableIncrementalNextRun() {
+        given(fetcher.fetchIssueInfo(OWNER, REPO)).willReturn(Flux.empty());
+
+        repositoryService.fetchCompleteRepositoryData(OWNER, REPO, USER_ID);
+        repositoryService.fetchCompleteRepositoryData(OWNER, REPO, USER_ID);
+
+        assertThat(entity.getCollectionBaseline()).isNotNull();
+        verify(fetcher, times(1)).fetchIssueInfo(OWNER, REPO);
+        verify(fetcher, times(1)).fetchIssuesUpdatedSince(eq(OWNER), eq(REPO), any());
+    }
+
+    @Test
+    @DisplayName("호출 한도로 이슈 단계가 생략되면 기준/캐시를 저장하지 않고, 다음 분석은 다시 전체 수집")
+    void skippedIssueStage_shouldFallBackToFullCollection() {
+        given(fetcher.fetchIssueInfo(OWNER, REPO))
+                .willReturn(Flux.error(new BusinessException(ErrorCode.GITHUB_RATE_LIMIT_EXCEEDED)));
+
+        repositoryService.fetchCompleteRepositoryData(OWNER, REPO, USER_ID);
+        repositoryService.fetchCompleteRepositoryData(OWNER, REPO, USER_ID);
+
+        assertThat(entity.getCollectionBaseline()).isNull();
+        assertThat(entity.getWatermark()).isNull();
+        verify(fetcher, times(2)).fetchIssueInfo(OWNER, REPO);
+        verify(fetcher, never()).fetchIssuesUpdatedSince(eq(OWNER), eq(REPO), any());
+        verify(snapshotCache, never()).store(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("트리가 최대 항목 수에서 잘리면 부분 수집으로 표시하고, 기준/캐시를 저장하지 않음")
+    void truncatedTree_shouldMarkCollectionPartial() {
+        given(fetcher.fetchIssueInfo(OWNER, REPO)).willReturn(Flux.empty());
+        given(fetcher.fetchRepositoryTree(eq(OWNER), eq(REPO), eq("main"), any())).willAnswer(inv -> {
+            inv.<Runnable>getArgument(3).run();
+            return Flux.empty();
+        });
+
+        RepositoryData data = repositoryService.fetchCompleteRepositoryData(OWNER, REPO, USER_ID);
+
+        assertThat(data.isTreeTruncated()).isTrue();
+        assertThat(entity.getCollectionBaseline()).isNull();
+        verify(snapshotCache, never()).store(anyString(), anyString(), anyString(), any());
+        verify(sseProgressNotifier).notify(USER_ID, "status", "파일이 너무 많아 일부 경로만 분석에 반영");
+    }
+
+    @Test
+    @DisplayName("이전 HEAD가 새 HEAD의 조상이면 compare 범위의 커밋만 받아 합침")
+    void fastForwardedHead_shouldUseCompareRange() {
+        given(fetcher.fetchIssueInfo(OWNER, REPO)).willReturn(Flux.empty());
+        given(fetcher.fetchHeadSha(OWNER, REPO)).willReturn(Mono.just("head-sha"), Mono.just("new-head"));
+        given(fetcher.compareCommits(OWNER, REPO, "head-sha", "new-head"))
+                .willReturn(Mono.just(new CompareResponse("ahead", 1, List.of(commit("new-commit")))));
+
+        repositoryService.fetchCompleteRepositoryData(OWNER, REPO, USER_ID);
+        repositoryService.fetchCompleteRepositoryData(OWNER, REPO, USER_ID);
+
+        verify(fetcher, times(1)).fetchCommitInfo(eq(OWNER), eq(REPO), anyString());
+        verify(commitInfoMapper).mapCommitInfo(any(), eq(List.of(commit("new-commit"))));
+    }
+
+    @Test
+    @DisplayName("강제 푸시로 이전 HEAD가 조상이 아니면 커밋을 전체 다시 수집")
+    void rewrittenHistory_shouldRefetchAllCommits() {
+        given(fetcher.fetchIssueInfo(OWNER, REPO)).willReturn(Flux.empty());
+        given(fetcher.fetchHeadSha(OWNER, REPO)).willReturn(Mono.just("head-sha"), Mono.just("new-head"));
+        given(fetcher.compareCommits(OWNER, REPO, "head-sha", "new-head"))
+                .willReturn(Mono.just(new CompareResponse("diverged", 3, List.of(commit("rebased-commit")))));
+
+        repositoryService.fetchCompleteRepositoryData(OWNER, REPO, USER_ID);
+        repositoryService.fetchCompleteRepositoryData(OWNER, REPO, USER_ID);
+
+        verify(fetcher, times(2)).fetchCommitInfo(eq(OWNER), eq(REPO), anyString());
+        verify(commitInfoMapper, never()).mapCommitInfo(any(), eq(List.of(commit("rebased-commit"))));
+    }
+
+    private static CommitResponse commit(String sha) {
+        return new CommitResponse(sha, new CommitResponse.CommitDetails("message",
+                new CommitResponse.AuthorDetails(RECENT)));
+    }
+}
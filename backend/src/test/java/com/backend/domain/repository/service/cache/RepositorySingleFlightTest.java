@@ -0,0 +1,75 @@
+package com.backend.domain.repository.service.cache;
+
+import com.backend.domain.repository.dto.response.RepositoryData;
+import com.backend.domain.repository.dto.response.RepositorySnapshot;
+import com.backend.domain.repository.dto.response.github.RepoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositorySingleFlightTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final RepositorySnapshotCache snapshotCache = new RepositorySnapshotCache(
+            null, objectMapper, new SimpleMeterRegistry(), 10, Duration.ofMinutes(1), false);
+    private final RepositorySingleFlight singleFlight = new RepositorySingleFlight(
+            snapshotCache, null, objectMapper, false, Duration.ofMinutes(1), Duration.ofMillis(100));
+
+    @Test
+    @DisplayName("같은 저장소 동시 수집 요청은 한 번만 수집하고 결과를 나눠 받음")
+    void concurrentRequests_shouldCollectOnce() {
+        AtomicInteger collections = new AtomicInteger();
+        AtomicInteger shared = new AtomicInteger();
+
+        Mono<RepositorySnapshot> collector = Mono.fromSupplier(() -> {
+            collections.incrementAndGet();
+            return snapshot(false);
+        }).delayElement(Duration.ofMillis(200));
+
+        List<RepositorySnapshot> results = Mono.zip(
+                singleFlight.execute("Owner", "Repo", "abc", () -> collector, () -> {}, s -> Mono.just(s)),
+                singleFlight.execute("owner", "repo", "abc", () -> collector, shared::incrementAndGet, s -> Mono.just(s))
+        ).map(tuple -> List.of(tuple.getT1(), tuple.getT2())).block();
+
+        assertThat(collections.get()).isEqualTo(1);
+        assertThat(shared.get()).isEqualTo(1);
+        assertThat(results.get(0).data()).isNotSameAs(results.get(1).data());
+        assertThat(results.get(1).data().getRepositoryName()).isEqualTo("repo");
+    }
+
+    @Test
+    @DisplayName("비공개 저장소 결과는 넘겨받지 않고 직접 수집")
+    void privateRepository_shouldNotBeShared() {
+        AtomicInteger collections = new AtomicInteger();
+
+        Mono<RepositorySnapshot> collector = Mono.fromSupplier(() -> {
+            collections.incrementAndGet();
+            return snapshot(true);
+        }).delayElement(Duration.ofMillis(200));
+
+        Mono.zip(
+                singleFlight.execute("owner", "private", "abc", () -> collector, () -> {}, s -> Mono.just(s)),
+                singleFlight.execute("owner", "private", "abc", () -> collector, () -> {}, s -> Mono.just(s))
+        ).block();
+
+        assertThat(collections.get()).isEqualTo(2);
+    }
+
+    private RepositorySnapshot snapshot(boolean isPrivate) {
+        RepositoryData data = new RepositoryData();
+        data.setRepositoryName("repo");
+        RepoResponse repoInfo = new RepoResponse("repo", "owner/repo", isPrivate, null,
+                "https://github.com/owner/repo", "Java", "main", null, 100);
+        return new RepositorySnapshot(repoInfo, data, Map.of("Java", 100));
+    }
+}
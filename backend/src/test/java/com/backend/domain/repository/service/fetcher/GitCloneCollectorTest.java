@@ -0,0 +1,105 @@
+package com.backend.domain.repository.service.fetcher;
+
+import com.backend.domain.repository.dto.response.github.RepoResponse;
+import com.backend.domain.repository.dto.response.github.TreeResponse;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitCloneCollectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("로컬 bare 저장소를 클론해 트리, 최근 커밋, README를 수집")
+    void collect_shouldReadTreeCommitsAndReadme() throws Exception {
+        Instant now = Instant.now();
+        createBareRepository(
+                commit(now.minus(200, ChronoUnit.DAYS), "initial commit", "README.md", "# Sample"),
+                commit(now.minus(10, ChronoUnit.DAYS), "add app", "src/main/java/App.java", "class App {}"),
+                commit(now.minus(1, ChronoUnit.DAYS), "add test", "src/test/java/AppTest.java", "class AppTest {}"));
+
+        ClonedRepository cloned = collector(0, 1_000)
+                .collect("owner", "repo", "main", now.minus(90, ChronoUnit.DAYS))
+                .block();
+
+        assertThat(cloned).isNotNull();
+        assertThat(paths(cloned.tree())).containsExactlyInAnyOrder(
+                "README.md", "src", "src/main", "src/main/java", "src/main/java/App.java",
+                "src/test", "src/test/java", "src/test/java/AppTest.java");
+        assertThat(cloned.commits()).extracting(c -> c.commit().message().trim())
+                .containsExactly("add test", "add app");
+        assertThat(cloned.readme()).isEqualTo("# Sample");
+    }
+
+    @Test
+    @DisplayName("비공개 저장소이거나 크기가 범위를 벗어나면 클론 수집 대상이 아님")
+    void supports_shouldCheckVisibilityAndSize() {
+        GitCloneCollector collector = collector(100, 1_000);
+
+        assertThat(collector.supports(repo(false, 500))).isTrue();
+        assertThat(collector.supports(repo(true, 500))).isFalse();
+        assertThat(collector.supports(repo(false, 50))).isFalse();
+        assertThat(collector.supports(repo(false, 5_000))).isFalse();
+        assertThat(collector.supports(repo(false, null))).isFalse();
+    }
+
+    private GitCloneCollector collector(long minSizeKb, long maxSizeKb) {
+        return new GitCloneCollector(true, minSizeKb, maxSizeKb, Duration.ofSeconds(30),
+                tempDir.toUri().toString(), 1_000, 1_000);
+    }
+
+    // 작업 저장소에 커밋을 쌓은 뒤 tempDir/owner/repo.git 으로 bare 클론
+    private void createBareRepository(FileCommit... commits) throws Exception {
+        Path work = tempDir.resolve("work");
+        try (Git git = Git.init().setDirectory(work.toFile()).setInitialBranch("main").call()) {
+            for (FileCommit commit : commits) {
+                Path file = work.resolve(commit.path());
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, commit.content());
+                git.add().addFilepattern(".").call();
+
+                PersonIdent author = new PersonIdent("dev", "dev@test.com", commit.at(), ZoneOffset.UTC);
+                git.commit().setMessage(commit.message()).setAuthor(author).setCommitter(author).call();
+            }
+        }
+        Git.cloneRepository()
+                .setURI(work.toUri().toString())
+                .setDirectory(tempDir.resolve("owner").resolve("repo.git").toFile())
+                .setBare(true)
+                .call()
+                .close();
+    }
+
+    private FileCommit commit(Instant at, String message, String path, String content) {
+        return new FileCommit(at, message, path, content);
+    }
+
+    private RepoResponse repo(boolean isPrivate, Integer sizeKb) {
+        return new RepoResponse("repo", "owner/repo", isPrivate, null, null, "Java", "main", null, sizeKb);
+    }
+
+    private List<String> paths(CompactTree tree) {
+        List<String> paths = new ArrayList<>();
+        for (TreeResponse.TreeItem item : tree) {
+            paths.add(item.path());
+        }
+        return paths;
+    }
+
+    private record FileCommit(Instant at, String message, String path, String content) {}
+}
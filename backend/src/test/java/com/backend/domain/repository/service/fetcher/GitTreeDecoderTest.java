@@ -0,0 +1,64 @@
+package com.backend.domain.repository.service.fetcher;
+
+import com.backend.domain.repository.dto.response.github.TreeResponse;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GitTreeDecoderTest {
+
+    private static final String TREE_JSON = """
+            {"sha":"abc","url":"https://api.github.com/repos/o/r/git/trees/abc",
+             "tree":[
+               {"path":"README.md","mode":"100644","type":"blob","sha":"r1","size":12,"url":"u1"},
+               {"path":"src","mode":"040000","type":"tree","sha":"s1","url":"u2"},
+               {"path":"문서/가이드.md","mode":"100644","type":"blob","sha":"g1","size":3,"url":"u3"}
+             ],
+             "truncated":true}
+            """;
+
+    @Test
+    @DisplayName("버퍼가 임의 위치에서 나뉘어 도착해도 항목을 모두 복원")
+    void splitBuffers_shouldDecodeAllEntries() {
+        CompactTree tree = GitTreeDecoder.decode(chunks(TREE_JSON, 5)).block();
+
+        assertThat(tree).isNotNull();
+        assertThat(tree.truncated()).isTrue();
+        assertThat(tree).containsExactly(
+                new TreeResponse.TreeItem("README.md", "blob", null),
+                new TreeResponse.TreeItem("src", "tree", "s1"),
+                new TreeResponse.TreeItem("문서/가이드.md", "blob", null)
+        );
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON은 응답 파싱 오류로 변환")
+    void malformedJson_shouldFailWithParseError() {
+        assertThatThrownBy(() -> GitTreeDecoder.decode(chunks("{\"tree\":[{\"path\":", 4)).block())
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GITHUB_RESPONSE_PARSE_ERROR);
+    }
+
+    private Flux<DataBuffer> chunks(String json, int size) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += size) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + size))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
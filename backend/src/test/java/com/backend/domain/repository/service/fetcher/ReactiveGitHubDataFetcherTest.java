@@ -0,0 +1,123 @@
+package com.backend.domain.repository.service.fetcher;
+
+import com.backend.domain.repository.dto.response.github.TreeResponse;
+import com.backend.global.github.ReactiveGitHubApiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactiveGitHubDataFetcherTest {
+
+    private static final String RECURSIVE = "/repos/{owner}/{repo}/git/trees/{sha}?recursive=1";
+    private static final String SHALLOW = "/repos/{owner}/{repo}/git/trees/{sha}";
+
+    private final ReactiveGitHubApiClient client = mock(ReactiveGitHubApiClient.class);
+    private final ReactiveGitHubDataFetcher fetcher = new ReactiveGitHubDataFetcher(client);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fetcher, "maxTreeNodes", 100);
+        ReflectionTestUtils.setField(fetcher, "treeConcurrency", 2);
+    }
+
+    @Test
+    @DisplayName("잘리지 않은 트리는 재귀 조회 결과를 그대로 사용")
+    void completeTree_shouldBeReturnedAsIs() {
+        tree(RECURSIVE, "main", false,
+                new TreeResponse.TreeItem("README.md", "blob", "r"),
+                new TreeResponse.TreeItem("src", "tree", "s1"),
+                new TreeResponse.TreeItem("src/App.java", "blob", "a"));
+
+        List<String> paths = paths(fetcher.fetchRepositoryTree("owner", "repo", "main").collectList().block());
+
+        assertThat(paths).containsExactly("README.md", "src", "src/App.java");
+    }
+
+    @Test
+    @DisplayName("잘린 트리는 하위 트리를 단계별로 조회해 루트 기준 경로로 합침")
+    void truncatedTree_shouldBeWalkedBySubtree() {
+        tree(RECURSIVE, "main", true, new TreeResponse.TreeItem("README.md", "blob", "r"));
+        tree(SHALLOW, "main", false,
+                new TreeResponse.TreeItem("README.md", "blob", "r"),
+                new TreeResponse.TreeItem("src", "tree", "s1"),
+                new TreeResponse.TreeItem("docs", "tree", "d1"));
+
+        // src: 재귀 조회가 잘리지 않음 → 한 번에 수집
+        tree(RECURSIVE, "s1", false,
+                new TreeResponse.TreeItem("App.java", "blob", "a"),
+                new TreeResponse.TreeItem("test", "tree", "t1"),
+                new TreeResponse.TreeItem("test/AppTest.java", "blob", "at"));
+
+        // docs: 재귀 조회도 잘림 → 직접 자식만 받고 img는 다음 단계에서 조회
+        tree(RECURSIVE, "d1", true);
+        tree(SHALLOW, "d1", false,
+                new TreeResponse.TreeItem("guide.md", "blob", "g"),
+                new TreeResponse.TreeItem("img", "tree", "i1"));
+        tree(RECURSIVE, "i1", false, new TreeResponse.TreeItem("logo.png", "blob", "l"));
+
+        List<String> paths = paths(fetcher.fetchRepositoryTree("owner", "repo", "main").collectList().block());
+
+        assertThat(paths).containsExactlyInAnyOrder(
+                "README.md", "src", "docs",
+                "src/App.java", "src/test", "src/test/AppTest.java",
+                "docs/guide.md", "docs/img", "docs/img/logo.png");
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 조회를 중단하고 잘린 트리로 알림")
+    void nodeBudget_shouldStopWalkingAndReportTruncation() {
+        ReflectionTestUtils.setField(fetcher, "maxTreeNodes", 2);
+        tree(RECURSIVE, "main", true);
+        tree(SHALLOW, "main", false,
+                new TreeResponse.TreeItem("a", "tree", "a1"),
+                new TreeResponse.TreeItem("b", "tree", "b1"),
+                new TreeResponse.TreeItem("c", "tree", "c1"));
+        AtomicInteger truncated = new AtomicInteger();
+
+        List<String> paths = paths(fetcher.fetchRepositoryTree("owner", "repo", "main", truncated::incrementAndGet)
+                .collectList().block());
+
+        assertThat(paths).containsExactly("a", "b");
+        assertThat(truncated.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("항목 수가 최대 항목 수와 같으면 잘린 트리가 아님")
+    void treeWithinBudget_shouldNotReportTruncation() {
+        ReflectionTestUtils.setField(fetcher, "maxTreeNodes", 2);
+        tree(RECURSIVE, "main", false,
+                new TreeResponse.TreeItem("README.md", "blob", "r"),
+                new TreeResponse.TreeItem("src", "tree", "s1"));
+        AtomicInteger truncated = new AtomicInteger();
+
+        List<String> paths = paths(fetcher.fetchRepositoryTree("owner", "repo", "main", truncated::incrementAndGet)
+                .collectList().block());
+
+        assertThat(paths).containsExactly("README.md", "src");
+        assertThat(truncated.get()).isZero();
+    }
+
+    private void tree(String uri, String sha, boolean truncated, TreeResponse.TreeItem... items) {
+        CompactTree.Builder builder = new CompactTree.Builder();
+        for (TreeResponse.TreeItem item : items) {
+            builder.add(item.path(), item.type(), item.sha());
+        }
+        when(client.getStreaming(eq(uri), any(), eq("owner"), eq("repo"), eq(sha)))
+                .thenReturn(Mono.just(builder.build(truncated)));
+    }
+
+    private List<String> paths(List<TreeResponse.TreeItem> items) {
+        return items.stream().map(TreeResponse.TreeItem::path).toList();
+    }
+}
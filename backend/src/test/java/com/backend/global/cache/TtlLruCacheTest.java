@@ -0,0 +1,71 @@
+package com.backend.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtlLruCacheTest {
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 항목이 제거됨")
+    void exceedingMaxEntries_shouldEvictLeastRecentlyUsed() {
+        TtlLruCache<String, Integer> cache = new TtlLruCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");      // a를 최근 사용으로 갱신
+        cache.put("c", 3);   // b 제거
+
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않음")
+    void expiredEntry_shouldNotBeReturned() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        TtlLruCache<String, Integer> cache = new TtlLruCache<>(10, Duration.ofSeconds(30), clock);
+        cache.put("a", 1);
+
+        clock.advance(Duration.ofSeconds(29));
+        assertThat(cache.get("a")).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.backend.global.github;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubCredentialPoolTest {
+
+    private final GitHubRateLimiter rateLimiter = new GitHubRateLimiter(30, 500, Duration.ofMinutes(1));
+    private final GitHubCredentialPool pool = new GitHubCredentialPool(rateLimiter, "service-a", "service-b, service-c");
+
+    @Test
+    @DisplayName("사용자 토큰이 있으면 사용자 토큰을 우선 사용")
+    void userToken_shouldBePreferred() {
+        assertThat(pool.select("user-token")).isEqualTo("user-token");
+    }
+
+    @Test
+    @DisplayName("사용자 토큰이 소진되면 서비스 토큰 풀에서 선택")
+    void exhaustedUserToken_shouldFallBackToPool() {
+        rateLimiter.update("user-token", headers(0));
+
+        assertThat(pool.select("user-token")).startsWith("service-");
+    }
+
+    @Test
+    @DisplayName("서비스 토큰 중 남은 호출 수가 가장 많은 토큰을 선택")
+    void pool_shouldSelectMostRemaining() {
+        rateLimiter.update("service-a", headers(100));
+        rateLimiter.update("service-b", headers(4000));
+        rateLimiter.update("service-c", headers(2000));
+
+        assertThat(pool.select(null)).isEqualTo("service-b");
+    }
+
+    @Test
+    @DisplayName("남은 호출 수가 같으면 사용 횟수가 적은 토큰을 번갈아 선택")
+    void pool_shouldRotateLeastUsed() {
+        GitHubCredentialPool twoTokens = new GitHubCredentialPool(rateLimiter, "x", "y");
+
+        String first = twoTokens.select(null);
+        String second = twoTokens.select(null);
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    private HttpHeaders headers(int remaining) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-RateLimit-Limit", "5000");
+        headers.add("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.add("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()));
+        return headers;
+    }
+}
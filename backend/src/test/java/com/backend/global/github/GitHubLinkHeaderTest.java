@@ -0,0 +1,39 @@
+package com.backend.global.github;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubLinkHeaderTest {
+
+    @Test
+    @DisplayName("rel=\"next\" 링크가 있으면 URL을 반환")
+    void nextLink_shouldBeExtracted() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.LINK,
+                "<https://api.github.com/repositories/1/commits?per_page=100&page=2>; rel=\"next\", "
+                        + "<https://api.github.com/repositories/1/commits?per_page=100&page=7>; rel=\"last\"");
+
+        assertThat(GitHubLinkHeader.nextUrl(headers))
+                .isEqualTo("https://api.github.com/repositories/1/commits?per_page=100&page=2");
+    }
+
+    @Test
+    @DisplayName("마지막 페이지(next 없음)면 null")
+    void lastPage_shouldReturnNull() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.LINK,
+                "<https://api.github.com/repositories/1/commits?page=1>; rel=\"first\", "
+                        + "<https://api.github.com/repositories/1/commits?page=6>; rel=\"prev\"");
+
+        assertThat(GitHubLinkHeader.nextUrl(headers)).isNull();
+    }
+
+    @Test
+    @DisplayName("Link 헤더가 없으면 null")
+    void missingHeader_shouldReturnNull() {
+        assertThat(GitHubLinkHeader.nextUrl(new HttpHeaders())).isNull();
+    }
+}
@@ -0,0 +1,64 @@
+package com.backend.global.github;
+
+import com.backend.global.exception.BusinessException;
+import com.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GitHubRateLimiterTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_700_000_000L);
+    private static final String TOKEN = "token";
+
+    private final GitHubRateLimiter rateLimiter = new GitHubRateLimiter(
+            Clock.fixed(NOW, ZoneOffset.UTC), 30, 500, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("Rate Limit 헤더를 받기 전에는 대기 없이 통과")
+    void unknownBudget_shouldPassImmediately() {
+        rateLimiter.acquire(TOKEN).block();
+
+        assertThat(rateLimiter.predictWait(TOKEN, 10)).isZero();
+    }
+
+    @Test
+    @DisplayName("남은 호출 수가 적으면 LOW 우선순위 요청은 거절, HIGH 요청은 통과")
+    void lowBudget_shouldShedLowPriority() {
+        rateLimiter.update(TOKEN, headers(100, NOW.plusSeconds(1800)));
+
+        rateLimiter.acquire(TOKEN).block();
+        assertThatThrownBy(() -> rateLimiter.acquire(TOKEN)
+                .contextWrite(context -> GitHubRateLimiter.withPriority(context, GitHubRateLimiter.Priority.LOW))
+                .block())
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GITHUB_RATE_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("남은 호출이 없으면 초기화 시각까지의 대기 시간을 예측")
+    void exhaustedBudget_shouldPredictWaitUntilReset() {
+        rateLimiter.update(TOKEN, headers(0, NOW.plusSeconds(600)));
+
+        assertThat(rateLimiter.predictWait(TOKEN, 1)).isEqualTo(Duration.ofSeconds(600));
+        assertThatThrownBy(() -> rateLimiter.acquire(TOKEN).block())
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private HttpHeaders headers(int remaining, Instant reset) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-RateLimit-Limit", "5000");
+        headers.add("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.add("X-RateLimit-Reset", String.valueOf(reset.getEpochSecond()));
+        return headers;
+    }
+}
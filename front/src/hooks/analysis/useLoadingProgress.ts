@@ -67,7 +67,11 @@ const mapErrorCodeToAlert = (
       type = "repo"
     } else if (authErrors.has(resolvedCode)) {
       type = "auth"
-    } else if (resolvedCode === ERROR_CODES.GITHUB_RATE_LIMIT_EXCEEDED) {
+    } else if (
+      resolvedCode === ERROR_CODES.GITHUB_RATE_LIMIT_EXCEEDED ||
+      resolvedCode === ERROR_CODES.ANALYSIS_QUEUE_FULL ||
+      resolvedCode === ERROR_CODES.ANALYSIS_USER_LIMIT_EXCEEDED
+    ) {
       type = "rate"
     } else if (resolvedCode === ERROR_CODES.ANALYSIS_IN_PROGRESS) {
       type = "duplicate"
@@ -93,8 +97,7 @@ export function useAnalysisProgress(repoUrl?: string | null) {
   const [statusMessage, setStatusMessage] = useState("분석 준비 중...")
   const [isCompleted, setIsCompleted] = useState(false)
   const [error, setError] = useState<string | null>(null)
-  const [repositoryId, setRepositoryId] = useState<number | null>(null)
-  const repositoryIdRef = useRef<number | null>(null)
+  const jobIdRef = useRef<number | null>(null)
   
   // ✅ 분석 요청 완료 여부만 추적 (SSE 연결과 무관)
   const hasRequestedAnalysis = useRef(false)
@@ -129,11 +132,9 @@ export function useAnalysisProgress(repoUrl?: string | null) {
     const requestAnalysis = async () => {
       try {
         console.log("📤 분석 요청 시작...")
-        const data = await analysisApi.requestAnalysis({ githubUrl: repoUrl })
-        const repoId = data.repositoryId
-        setRepositoryId(repoId)
-        repositoryIdRef.current = repoId
-        console.log("✅ 분석 요청 성공:", data)
+        const job = await analysisApi.requestAnalysis({ githubUrl: repoUrl })
+        jobIdRef.current = job.jobId
+        console.log("✅ 분석 요청 접수:", job)
       } catch (err: any) {
         console.error("❌ 분석 요청 실패:", err)
 
@@ -194,9 +195,16 @@ export function useAnalysisProgress(repoUrl?: string | null) {
       setProgress(100)
       setIsCompleted(true)
 
-      setTimeout(() => {
-        const repoId = repositoryIdRef.current
-        if (repoId) router.push(`/analysis/${repoId}`)
+      // 완료된 작업에서 repositoryId 확인 후 결과 페이지로 이동
+      setTimeout(async () => {
+        const jobId = jobIdRef.current
+        if (!jobId) return
+        try {
+          const job = await analysisApi.getAnalysisJob(jobId)
+          if (job.repositoryId) router.push(`/analysis/${job.repositoryId}`)
+        } catch (err) {
+          console.error("❌ 분석 작업 조회 실패:", err)
+        }
       }, 1500)
     }
 
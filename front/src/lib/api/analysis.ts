@@ -4,7 +4,7 @@ import { fetchEventSource } from "@microsoft/fetch-event-source"
 
 import type {
   AnalysisRequest,
-  AnalysisStartResponse, 
+  AnalysisJobResponse,
   RepositoryResponse,
   HistoryResponseDto,
   AnalysisResultResponseDto,
@@ -14,15 +14,24 @@ import type {
 // ===== Analysis API =====
 export const analysisApi = {
   /** 🔍 GitHub 저장소 분석 요청 (POST)
-   *  백엔드: POST /api/analysis
+   *  백엔드: POST /api/analysis (202 Accepted)
    *  - JWT에서 자동으로 userId 추출
-   *  - client.ts에서 이미 data를 추출하므로 직접 AnalysisStartResponse 반환
+   *  - 분석은 대기열에서 실행되며, 등록된 작업 정보(AnalysisJobResponse)를 즉시 반환
    */
   requestAnalysis: (
     data: AnalysisRequest
-  ): Promise<AnalysisStartResponse> =>  // ✅ ApiResponse 제거
+  ): Promise<AnalysisJobResponse> =>  // ✅ ApiResponse 제거
     http.post(`/analysis`, data),
 
+  /** ⏳ 분석 작업 상태 조회
+   *  GET /api/analysis/jobs/{jobId}
+   *  - 완료 시 repositoryId 포함
+   */
+  getAnalysisJob: (
+    jobId: number
+  ): Promise<AnalysisJobResponse> =>
+    http.get(`/analysis/jobs/${jobId}`),
+
   /** 📦 사용자별 Repository 목록 조회
    *  GET /api/analysis/repositories
    *  - userId는 로그인한 사용자의 ID여야 함 (JWT 검증)
@@ -6,8 +6,19 @@ export interface AnalysisRequest {
     githubUrl: string
 }
 
-export interface AnalysisStartResponse {
-    repositoryId: number
+// 분석 작업 상태 응답 DTO, 분석 요청(202) 및 작업 상태 조회 시 사용
+export type AnalysisJobStatus = "QUEUED" | "RUNNING" | "COMPLETED" | "FAILED"
+
+export interface AnalysisJobResponse {
+    jobId: number
+    status: AnalysisJobStatus
+    /** 완료된 경우에만 존재 */
+    repositoryId: number | null
+    /** 실패한 경우에만 존재 (백엔드 ErrorCode 코드값) */
+    errorCode: string | null
+    errorMessage: string | null
+    createDate: string
+    finishedAt: string | null
 }
 
 // Repository 기본 정보 응답 DTO, 사용자의 Repository 목록 조회 시 사용
@@ -71,6 +71,9 @@ export interface ApiResponse<T> {
     FORBIDDEN: 'A005',
     ANALYSIS_IN_PROGRESS: 'A006',
     ANALYSIS_FAIL: 'A007',
+    ANALYSIS_QUEUE_FULL: 'A008',
+    ANALYSIS_USER_LIMIT_EXCEEDED: 'A009',
+    ANALYSIS_JOB_NOT_FOUND: 'A010',
     
     // Repository 도메인
     GITHUB_REPO_NOT_FOUND: 'G001',
@@ -118,6 +121,9 @@ export interface ApiResponse<T> {
     [ERROR_CODES.USER_NOT_FOUND]: '사용자 정보를 찾을 수 없습니다.',
     [ERROR_CODES.FORBIDDEN]: '접근 권한이 없습니다.',
     [ERROR_CODES.ANALYSIS_IN_PROGRESS]: '이미 분석이 진행 중입니다. 잠시 후 다시 시도해주세요.',
+    [ERROR_CODES.ANALYSIS_QUEUE_FULL]: '분석 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.',
+    [ERROR_CODES.ANALYSIS_USER_LIMIT_EXCEEDED]: '동시에 진행할 수 있는 분석 수를 초과했습니다.',
+    [ERROR_CODES.ANALYSIS_JOB_NOT_FOUND]: '분석 작업을 찾을 수 없습니다.',
 
     // repository 도메인
     [ERROR_CODES.GITHUB_REPO_NOT_FOUND]: 'GitHub 저장소를 찾을 수 없습니다.',